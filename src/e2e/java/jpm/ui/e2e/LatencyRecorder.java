@@ -0,0 +1,136 @@
+package jpm.ui.e2e;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+import jpm.ui.protocol.ProtocolEvent;
+import jpm.ui.view.MainView;
+
+import com.sun.management.OperatingSystemMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 요청 하나의 화면 반영 시각 기록 (JavaFX 스레드 전용)
+ * 응답 이벤트가 화면 모델에 반영되면 표시해 두었다가, 그 직후 펄스의 레이아웃이 끝난 시각을 "그려진 시각" 으로 기록합니다.
+ *
+ * 측정 중에는 AnimationTimer 로 펄스를 계속 일으켜, 펄스 간격이 목표 주기의 1.5 배를 넘으면 그만큼을 놓친 프레임으로 셉니다.
+ * 입력부터 완료까지의 프로세스 CPU 시간도 함께 기록해 렌더링 방식별 프레임당 CPU 비용을 비교할 수 있게 합니다.
+ */
+final class LatencyRecorder implements MainView.ResponseObserver {
+
+    /**
+     * 요청 하나의 측정 결과 (입력 시각 기준 ns, 아직 그려지지 않았으면 -1)
+     */
+    static final class Sample {
+        final long inputNanos;
+        final long inputCpuNanos;
+        long firstProgress = -1;
+        long firstOutput = -1;
+        long complete = -1;
+        int exitCode;
+        long frames = 0;
+        long droppedFrames = 0;
+        long maxFrameNanos = 0;
+        long cpuNanos = 0;          // 입력부터 완료까지 이 프로세스가 쓴 CPU 시간 (NLP 프로세스 제외)
+        final CountDownLatch rendered = new CountDownLatch(1);
+
+        Sample(long inputNanos, long inputCpuNanos) {
+            this.inputNanos = inputNanos;
+            this.inputCpuNanos = inputCpuNanos;
+        }
+    }
+
+    private final long framePeriodNanos;
+    private final OperatingSystemMXBean os = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+    private final AnimationTimer pulseDriver = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            // 펄스를 계속 일으키기만 함 (프레임 간격 측정용)
+        }
+    };
+    private Sample current;
+    private boolean progressPending = false;
+    private boolean outputPending = false;
+    private boolean completePending = false;
+    private long lastPulseNanos = 0;
+
+    /**
+     * @param scene 측정할 Scene
+     * @param pulsesPerSecond 목표 펄스 빈도 (JavaFX 기본 60)
+     */
+    LatencyRecorder(Scene scene, int pulsesPerSecond) {
+        this.framePeriodNanos = 1_000_000_000L / pulsesPerSecond;
+        scene.addPostLayoutPulseListener(this::onPulse);
+    }
+
+    /**
+     * 새 요청 측정 시작 (입력 직전에 호출)
+     */
+    Sample begin() {
+        current = new Sample(System.nanoTime(), os.getProcessCpuTime());
+        progressPending = false;
+        outputPending = false;
+        completePending = false;
+        lastPulseNanos = 0;
+        pulseDriver.start();
+        return current;
+    }
+
+    @Override
+    public void onResponseEvent(ProtocolEvent event) {
+        if (current == null) {
+            return;
+        }
+        if (event.getType() == ProtocolEvent.Type.PROGRESS && current.firstProgress < 0) {
+            progressPending = true;
+        } else if (event.getType() == ProtocolEvent.Type.TEXT && current.firstOutput < 0) {
+            outputPending = true;
+        }
+    }
+
+    @Override
+    public void onRequestCompleted(int exitCode) {
+        if (current != null) {
+            current.exitCode = exitCode;
+            completePending = true;
+        }
+    }
+
+    /**
+     * 펄스의 레이아웃이 끝난 직후 - 반영된 변경이 이번 프레임에 그려짐
+     */
+    private void onPulse() {
+        Sample sample = current;
+        if (sample == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastPulseNanos != 0) {
+            long interval = now - lastPulseNanos;
+            sample.frames++;
+            sample.maxFrameNanos = Math.max(sample.maxFrameNanos, interval);
+            if (interval * 2 > framePeriodNanos * 3) {
+                sample.droppedFrames += Math.round((double) interval / framePeriodNanos) - 1;
+            }
+        }
+        lastPulseNanos = now;
+
+        long elapsed = now - sample.inputNanos;
+        if (progressPending) {
+            sample.firstProgress = elapsed;
+            progressPending = false;
+        }
+        if (outputPending) {
+            sample.firstOutput = elapsed;
+            outputPending = false;
+        }
+        if (completePending) {
+            sample.complete = elapsed;
+            sample.cpuNanos = os.getProcessCpuTime() - sample.inputCpuNanos;
+            completePending = false;
+            current = null;
+            pulseDriver.stop();
+            sample.rendered.countDown();
+        }
+    }
+}
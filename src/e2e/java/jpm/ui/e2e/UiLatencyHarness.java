@@ -0,0 +1,363 @@
+package jpm.ui.e2e;
+
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.scene.Scene;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.model.UserSettings;
+import jpm.ui.view.AnimationScheduler;
+import jpm.ui.view.MainView;
+import jpm.ui.view.RenderingProfile;
+import jpm.ui.view.WindowChrome;
+
+import com.sun.management.OperatingSystemMXBean;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * 입력 → 화면 반영 지연 시간 측정 도구 (화면 없이 Monocle 소프트웨어 파이프라인에서 실행)
+ * MainView 를 띄우고 대역 NLP 스크립트를 연결한 뒤, 입력 창에서 Enter 를 누른 것처럼 요청을 보내
+ * 첫 진행 상태 / 첫 출력 / 완료가 그려지기까지의 시간과 놓친 프레임 수를 백분위로 보고합니다.
+ *
+ * 옵션 (--key=value):
+ *   requests          측정할 요청 수 (기본 30)
+ *   warmup            측정 전에 보낼 요청 수 (기본 5)
+ *   progress-stages   출력 전 진행 상태 프레임 수 (기본 3)
+ *   progress-delay-ms 진행 상태 프레임 사이 간격 (기본 150)
+ *   output-lines      본문 줄 수 (기본 100)
+ *   line-length       본문 한 줄 길이 (기본 80)
+ *   line-delay-ms     본문 줄 사이 간격 (기본 2)
+ *   idle-ms           요청 사이 쉬는 시간 (기본 200)
+ *   rendering         창 테두리 렌더링 방식 full, cached, opaque (기본: 앱과 같이 파이프라인에 맞춰 선택)
+ *   idle-cpu-seconds  측정 후 오래 걸리는 명령을 하나 보내고, 입력 없는 상태와 최소화 상태에서
+ *                     각각 이 시간 동안 프로세스 CPU 사용률 측정 (기본 0 = 측정 안 함)
+ *   results           JSON 결과 파일 (없으면 표준 출력만)
+ *
+ * 실행: ./gradlew uiLatency -PuiLatencyArgs="--requests=50 --output-lines=500"
+ * 렌더링 방식 비교: --rendering=full, --rendering=cached, --rendering=opaque 로 각각 실행해 CPU/프레임 비교
+ */
+public final class UiLatencyHarness {
+
+    private static final long REQUEST_TIMEOUT_SECONDS = 60;
+
+    private UiLatencyHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int requests = intOption(options, "requests", 30);
+        int warmup = intOption(options, "warmup", 5);
+        int idleMillis = intOption(options, "idle-ms", 200);
+
+        Path script = writeStandIn(options);
+        System.setProperty(JpmConstants.NLP_SCRIPT_OVERRIDE_PROPERTY, script.toString());
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        int pulsesPerSecond = Integer.getInteger("javafx.animation.pulse", 60);
+        RenderingProfile profile = options.containsKey("rendering")
+                ? RenderingProfile.valueOf(options.get("rendering").toUpperCase(Locale.ROOT))
+                : RenderingProfile.select(UserSettings.load());
+        MainView mainView = onFxThread(MainView::new);
+        Stage stage = onFxThread(() -> new Stage(profile.isTransparentWindow() ? StageStyle.TRANSPARENT : StageStyle.UNDECORATED));
+        LatencyRecorder recorder = onFxThread(() -> {
+            // 앱과 같은 창 테두리 안에 메인 뷰 배치
+            WindowChrome chrome = new WindowChrome(profile, 900, 700);
+            chrome.getContentContainer().getChildren().add(mainView);
+            chrome.installShadow();
+            Scene scene = new Scene(chrome, 900, 700);
+            scene.setFill(chrome.getSceneFill());
+            scene.getStylesheets().add(UiLatencyHarness.class.getClassLoader().getResource("css/styles.css").toExternalForm());
+            stage.setScene(scene);
+            stage.show();
+            LatencyRecorder created = new LatencyRecorder(scene, pulsesPerSecond);
+            mainView.setResponseObserver(created);
+            return created;
+        });
+        TextField inputField = onFxThread(() -> (TextField) mainView.lookup("#input-field"));
+
+        List<LatencyRecorder.Sample> samples = new ArrayList<>();
+        int failures = 0;
+        for (int i = 0; i < warmup + requests; i++) {
+            String input = "latency " + System.nanoTime() + " " + i; // 매번 다른 입력 (응답 캐시 회피)
+            LatencyRecorder.Sample sample = onFxThread(() -> {
+                LatencyRecorder.Sample begun = recorder.begin();
+                inputField.setText(input);
+                inputField.fireEvent(new ActionEvent()); // Enter 와 같은 처리
+                return begun;
+            });
+            if (!sample.rendered.await(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS) || sample.exitCode != 0) {
+                failures++;
+                System.err.println("요청 실패: " + input + " (종료 코드 " + sample.exitCode + ")");
+            } else if (i >= warmup) {
+                samples.add(sample);
+            }
+            Thread.sleep(idleMillis);
+        }
+
+        int idleCpuSeconds = intOption(options, "idle-cpu-seconds", 0);
+        double[] idleCpu = idleCpuSeconds > 0 ? measureIdleCpu(mainView, stage, inputField, idleCpuSeconds) : null;
+
+        String report = report(samples, failures, profile, options);
+        System.out.println(report);
+        if (idleCpu != null) {
+            System.out.printf(Locale.ROOT, "명령 실행 중 유휴 CPU: 입력 없음 %.2f%%, 최소화 %.2f%%%n", idleCpu[0], idleCpu[1]);
+        }
+        if (options.containsKey("results")) {
+            Path results = Path.of(options.get("results"));
+            Files.createDirectories(results.toAbsolutePath().getParent());
+            Files.writeString(results, json(samples, failures, profile, idleCpu, options));
+            System.out.println("결과 저장: " + results.toAbsolutePath());
+        }
+
+        onFxThread(() -> {
+            mainView.shutdown();
+            return null;
+        });
+        Platform.exit();
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    /**
+     * 오래 걸리는 명령 실행 중의 유휴 CPU 사용률 측정
+     * 진행 상태만 보내고 기다리는 요청을 보낸 뒤 (타이핑 인디케이터 실행 중),
+     * 입력 없이 애니메이션이 낮은 빈도로 바뀐 상태와 창을 최소화한 상태에서 각각 CPU 사용률을 잽니다.
+     * 펄스를 일으키지 않도록 지연 시간 기록기는 사용하지 않고, 끝나면 Esc 로 요청을 중단합니다.
+     *
+     * @return {입력 없음, 최소화} 상태의 CPU 사용률 (%, 코어 하나 기준)
+     */
+    private static double[] measureIdleCpu(MainView mainView, Stage stage, TextField inputField, int seconds)
+            throws Exception {
+        long holdMillis = (long) AnimationScheduler.IDLE_TIMEOUT.toMillis() + seconds * 2_000L + 30_000L;
+        onFxThread(() -> {
+            inputField.setText("hold " + holdMillis);
+            inputField.fireEvent(new ActionEvent());
+            return null;
+        });
+        // 입력이 없어 낮은 빈도 단계로 바뀔 때까지 대기
+        Thread.sleep((long) AnimationScheduler.IDLE_TIMEOUT.toMillis() + 2_000L);
+        double inputIdle = processCpuPercent(seconds);
+
+        onFxThread(() -> {
+            stage.setIconified(true);
+            return null;
+        });
+        Thread.sleep(1_000L);
+        double iconified = processCpuPercent(seconds);
+
+        onFxThread(() -> {
+            stage.setIconified(false);
+            mainView.fireEvent(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.ESCAPE, false, false, false, false));
+            return null;
+        });
+        Thread.sleep(1_000L);
+        return new double[]{inputIdle, iconified};
+    }
+
+    /**
+     * 지정한 시간 동안의 프로세스 CPU 사용률 (%, 코어 하나 기준)
+     */
+    private static double processCpuPercent(int seconds) throws InterruptedException {
+        OperatingSystemMXBean os = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+        long cpuStart = os.getProcessCpuTime();
+        long start = System.nanoTime();
+        Thread.sleep(seconds * 1_000L);
+        return (os.getProcessCpuTime() - cpuStart) * 100.0 / (System.nanoTime() - start);
+    }
+
+    /**
+     * 시나리오를 담은 대역 스크립트를 임시 디렉토리에 작성
+     */
+    private static Path writeStandIn(Map<String, String> options) throws IOException {
+        int stages = intOption(options, "progress-stages", 3);
+        int progressDelay = intOption(options, "progress-delay-ms", 150);
+        int lines = intOption(options, "output-lines", 100);
+        int lineLength = intOption(options, "line-length", 80);
+        int lineDelay = intOption(options, "line-delay-ms", 2);
+
+        String[] methods = {"generate", "install", "build", "test"};
+        StringBuilder steps = new StringBuilder();
+        for (int i = 0; i < stages; i++) {
+            String source = i == 0 ? "GPT" : "JPM";
+            appendStep(steps, "PROGRESS;" + source + ";" + methods[i % methods.length], progressDelay, 1);
+        }
+        appendStep(steps, "OUTPUT;START", progressDelay, 1);
+        appendStep(steps, "x".repeat(Math.max(1, lineLength)), lineDelay, lines);
+        appendStep(steps, "OUTPUT;END", 0, 1);
+
+        Path dir = Files.createTempDirectory("jpm-ui-latency-");
+        dir.toFile().deleteOnExit();
+        Path script = dir.resolve("stand-in-nlp.py");
+        try (InputStream in = UiLatencyHarness.class.getResourceAsStream("stand-in-nlp.py")) {
+            Files.write(script, in.readAllBytes());
+        }
+        Files.writeString(dir.resolve("stand-in-nlp.json"), "{\"steps\": [" + steps + "]}");
+        script.toFile().deleteOnExit();
+        dir.resolve("stand-in-nlp.json").toFile().deleteOnExit();
+        return script;
+    }
+
+    private static void appendStep(StringBuilder steps, String frame, int delayMillis, int repeat) {
+        if (steps.length() > 0) {
+            steps.append(", ");
+        }
+        steps.append("{\"frame\": \"").append(frame).append("\", \"delay_ms\": ").append(delayMillis)
+                .append(", \"repeat\": ").append(repeat).append('}');
+    }
+
+    /**
+     * 사람이 읽을 결과 표
+     */
+    private static String report(List<LatencyRecorder.Sample> samples, int failures, RenderingProfile profile,
+                                 Map<String, String> options) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("UI 지연 시간 (요청 %d개, 실패 %d개, 렌더링 %s, 옵션 %s)%n",
+                samples.size(), failures, profile, options));
+        sb.append(String.format("%-16s %9s %9s %9s %9s%n", "", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (Metric metric : Metric.values()) {
+            long[] values = values(samples, metric.extractor);
+            sb.append(String.format(Locale.ROOT, "%-16s %9.1f %9.1f %9.1f %9.1f%n", metric.label,
+                    percentile(values, 50) / 1e6, percentile(values, 90) / 1e6,
+                    percentile(values, 99) / 1e6, percentile(values, 100) / 1e6));
+        }
+        long frames = samples.stream().mapToLong(s -> s.frames).sum();
+        long dropped = samples.stream().mapToLong(s -> s.droppedFrames).sum();
+        long maxFrame = samples.stream().mapToLong(s -> s.maxFrameNanos).max().orElse(0);
+        sb.append(String.format(Locale.ROOT, "프레임 %d개 중 놓친 프레임 %d개 (%.2f%%), 최대 프레임 간격 %.1fms%n",
+                frames, dropped, frames == 0 ? 0 : dropped * 100.0 / (frames + dropped), maxFrame / 1e6));
+        sb.append(String.format(Locale.ROOT, "CPU %.2fms/프레임", cpuPerFrameMillis(samples)));
+        return sb.toString();
+    }
+
+    /**
+     * 기계가 읽을 결과 (릴리즈 간 비교용)
+     */
+    private static String json(List<LatencyRecorder.Sample> samples, int failures, RenderingProfile profile,
+                               double[] idleCpu, Map<String, String> options) {
+        StringBuilder sb = new StringBuilder("{\n");
+        sb.append("  \"options\": {");
+        String separator = "";
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            if (!option.getKey().equals("results")) {
+                sb.append(separator).append('"').append(option.getKey()).append("\": \"").append(option.getValue()).append('"');
+                separator = ", ";
+            }
+        }
+        sb.append("},\n");
+        sb.append("  \"rendering\": \"").append(profile.name().toLowerCase(Locale.ROOT)).append("\",\n");
+        sb.append("  \"requests\": ").append(samples.size()).append(",\n");
+        sb.append("  \"failures\": ").append(failures).append(",\n");
+        for (Metric metric : Metric.values()) {
+            long[] values = values(samples, metric.extractor);
+            sb.append(String.format(Locale.ROOT, "  \"%s\": {\"p50\": %.3f, \"p90\": %.3f, \"p99\": %.3f, \"max\": %.3f},%n",
+                    metric.key, percentile(values, 50) / 1e6, percentile(values, 90) / 1e6,
+                    percentile(values, 99) / 1e6, percentile(values, 100) / 1e6));
+        }
+        sb.append("  \"frames\": ").append(samples.stream().mapToLong(s -> s.frames).sum()).append(",\n");
+        sb.append("  \"droppedFrames\": ").append(samples.stream().mapToLong(s -> s.droppedFrames).sum()).append(",\n");
+        sb.append(String.format(Locale.ROOT, "  \"maxFrameMs\": %.3f,%n",
+                samples.stream().mapToLong(s -> s.maxFrameNanos).max().orElse(0) / 1e6));
+        if (idleCpu != null) {
+            sb.append(String.format(Locale.ROOT, "  \"idleCpuPercent\": {\"inputIdle\": %.3f, \"iconified\": %.3f},%n",
+                    idleCpu[0], idleCpu[1]));
+        }
+        sb.append(String.format(Locale.ROOT, "  \"cpuPerFrameMs\": %.3f%n", cpuPerFrameMillis(samples)));
+        return sb.append("}\n").toString();
+    }
+
+    /**
+     * 측정 항목 (입력 시각 기준)
+     */
+    private enum Metric {
+        FIRST_PROGRESS("inputToFirstProgressMs", "첫 진행 상태", s -> s.firstProgress),
+        FIRST_OUTPUT("inputToFirstOutputMs", "첫 출력", s -> s.firstOutput),
+        COMPLETE("inputToCompleteMs", "완료", s -> s.complete);
+
+        final String key;
+        final String label;
+        final ToLongFunction<LatencyRecorder.Sample> extractor;
+
+        Metric(String key, String label, ToLongFunction<LatencyRecorder.Sample> extractor) {
+            this.key = key;
+            this.label = label;
+            this.extractor = extractor;
+        }
+    }
+
+    /**
+     * 요청 처리 중 프레임당 CPU 시간 (ms)
+     */
+    private static double cpuPerFrameMillis(List<LatencyRecorder.Sample> samples) {
+        long frames = samples.stream().mapToLong(s -> s.frames).sum();
+        long cpu = samples.stream().mapToLong(s -> s.cpuNanos).sum();
+        return frames == 0 ? 0 : cpu / 1e6 / frames;
+    }
+
+    private static long[] values(List<LatencyRecorder.Sample> samples, ToLongFunction<LatencyRecorder.Sample> extractor) {
+        return samples.stream().mapToLong(extractor).filter(v -> v >= 0).sorted().toArray();
+    }
+
+    /**
+     * 백분위 (nearest-rank)
+     */
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg
+                        + " (사용 가능: " + Arrays.toString(new String[]{"requests", "warmup", "progress-stages",
+                        "progress-delay-ms", "output-lines", "line-length", "line-delay-ms", "idle-ms", "rendering",
+                        "idle-cpu-seconds", "results"}) + ")");
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static <T> T onFxThread(Callable<T> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(action.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result.get();
+    }
+}
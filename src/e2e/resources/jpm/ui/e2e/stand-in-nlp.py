@@ -0,0 +1,49 @@
+"""
+gpt-toolCall.py 대역 스크립트 (UI 지연 시간 측정용)
+모델 호출 없이 시나리오 파일에 적힌 프레임을 정해진 간격으로 출력합니다.
+시나리오는 스크립트와 같은 이름의 .json 파일에서 읽습니다.
+
+  {"steps": [{"frame": "PROGRESS;GPT;generate", "delay_ms": 300, "repeat": 1}, ...]}
+
+  delay_ms : 프레임을 출력하기 전에 기다리는 시간 (repeat 번 반복되면 매번)
+  repeat   : 같은 프레임을 반복 출력할 횟수 (기본 1)
+
+  입력이 "hold <ms>" 로 시작하면 시나리오 대신 진행 상태 하나를 보낸 뒤 <ms> 동안 기다립니다.
+  (오래 걸리는 명령 중의 유휴 CPU 측정용)
+
+  단발성 실행: stand-in-nlp.py <input>
+  워커 실행:   stand-in-nlp.py --worker  (READY 후 한 줄에 한 요청)
+"""
+import json
+import os
+import sys
+import time
+
+# 워커 프로토콜 지원 선언 (JPM 이 스크립트를 실행하지 않고 이 줄로 워커 모드 사용 여부를 판단)
+JPM_WORKER_PROTOCOL = 1
+
+with open(os.path.splitext(os.path.abspath(__file__))[0] + ".json", encoding="utf-8") as f:
+    SCENARIO = json.load(f)
+
+
+def handle(text, emit):
+    if text.startswith("hold "):
+        emit("PROGRESS;JPM;install")
+        time.sleep(int(text.split()[1]) / 1000.0)
+        return
+    for step in SCENARIO["steps"]:
+        delay = step.get("delay_ms", 0) / 1000.0
+        for _ in range(step.get("repeat", 1)):
+            if delay > 0:
+                time.sleep(delay)
+            emit(step["frame"])
+
+
+if len(sys.argv) > 1 and sys.argv[1] == "--worker":
+    print("READY", flush=True)
+    for line in sys.stdin:
+        request_id, _, text = line.rstrip("\n").partition("\t")
+        handle(text, lambda s: print(f"OUT\t{request_id}\t{s}", flush=True))
+        print(f"DONE\t{request_id}\t0", flush=True)
+else:
+    handle(sys.argv[1] if len(sys.argv) > 1 else "", lambda s: print(s, flush=True))
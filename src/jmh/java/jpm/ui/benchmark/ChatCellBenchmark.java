@@ -0,0 +1,134 @@
+package jpm.ui.benchmark;
+
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.Node;
+import jpm.ui.model.ChatMessage;
+import jpm.ui.model.MessageStore;
+import jpm.ui.view.AnimationScheduler;
+import jpm.ui.view.ChatCell;
+import jpm.ui.view.MessageHeightCache;
+import jpm.ui.view.TypingIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅 셀 갱신 벤치마크 (화면 없이 Monocle 소프트웨어 파이프라인에서 실행)
+ * 스크롤 중 셀이 재사용될 때처럼 셀 하나에 서로 다른 타입의 메시지를 번갈아 넣는 updateItem 비용을 측정합니다.
+ * 셀 갱신은 JavaFX 스레드에서만 할 수 있으므로 한 번 호출에 여러 번 갱신해 스레드 전환 비용을 나눕니다.
+ *
+ * 갱신은 노드를 새로 만들지 않고 타입별 템플릿 노드의 텍스트만 바꿔야 하므로, 갱신할 때마다 셀의 그래픽이
+ * 처음 만든 템플릿 노드와 같은지 확인하고 다르면 벤치마크를 실패시킵니다.
+ * 갱신 한 번당 할당량은 GC 프로파일러로 함께 기록합니다 (결과의 gc.alloc.rate.norm, 바이트/갱신).
+ * 예: ./gradlew jmh -PjmhInclude=ChatCell -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"})
+@State(Scope.Benchmark)
+public class ChatCellBenchmark {
+
+    private static final int UPDATES_PER_INVOCATION = 1000;
+    private static final AtomicBoolean FX_STARTED = new AtomicBoolean(false);
+
+    private BenchmarkCell cell;
+    private List<ChatMessage> messages;
+    private Node[] templates;         // 메시지마다 셀이 보여줘야 할 템플릿 노드 (처음 갱신에서 만든 노드)
+
+    /**
+     * 셀에서 updateItem 을 호출하기 위한 하위 클래스
+     */
+    private static final class BenchmarkCell extends ChatCell {
+        BenchmarkCell() {
+            super(new TypingIndicator(new AnimationScheduler()), new MessageHeightCache(), new SimpleObjectProperty<>(), path -> { });
+        }
+
+        void show(ChatMessage message) {
+            updateItem(message, false);
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        startToolkit();
+        MessageStore store = new MessageStore();
+        long now = System.currentTimeMillis();
+        messages = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            messages.add(store.append(ChatMessage.MessageType.USER, now, "사용자 입력 " + i));
+            messages.add(store.append(ChatMessage.MessageType.JPM, now,
+                    "junit 5.10.0 을 설치했습니다. (" + i + ")\n> Task :compileJava UP-TO-DATE"));
+            messages.add(store.append(ChatMessage.MessageType.SYSTEM, now, "시스템 안내 " + i));
+        }
+        cell = onFxThread(BenchmarkCell::new);
+        templates = onFxThread(() -> {
+            Node[] nodes = new Node[messages.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                cell.show(messages.get(i));
+                nodes[i] = cell.getGraphic();
+            }
+            return nodes;
+        });
+    }
+
+    /**
+     * 셀 재사용 갱신 (갱신 한 번당 시간)
+     */
+    @Benchmark
+    @OperationsPerInvocation(UPDATES_PER_INVOCATION)
+    public Object updateItem() throws Exception {
+        return onFxThread(() -> {
+            for (int i = 0; i < UPDATES_PER_INVOCATION; i++) {
+                int index = i % messages.size();
+                cell.show(messages.get(index));
+                if (cell.getGraphic() != templates[index]) {
+                    throw new IllegalStateException("셀 갱신이 템플릿 노드를 다시 만들었습니다: " + messages.get(index).getType());
+                }
+            }
+            return cell.getGraphic();
+        });
+    }
+
+    /**
+     * JavaFX 툴킷을 한 번만 시작 (같은 프로세스에서 두 번 시작할 수 없음)
+     */
+    private static void startToolkit() throws InterruptedException {
+        if (FX_STARTED.compareAndSet(false, true)) {
+            CountDownLatch started = new CountDownLatch(1);
+            Platform.startup(started::countDown);
+            started.await();
+        }
+    }
+
+    private static <T> T onFxThread(Callable<T> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(action.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result.get();
+    }
+}
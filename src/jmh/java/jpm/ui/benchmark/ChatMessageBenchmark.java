@@ -0,0 +1,87 @@
+package jpm.ui.benchmark;
+
+import jpm.ui.model.ChatMessage;
+import jpm.ui.model.MessageStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 저장소 벤치마크
+ * 메시지 추가(현재 시각 기록 포함)와, 셀이 내용을 읽을 때의 비용을 압축되지 않은 최근 메시지와
+ * 압축된 오래된 메시지로 나눠 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChatMessageBenchmark {
+
+    private static final int STORED_MESSAGES = 1000;
+
+    private final String content = "junit 5.10.0 을 설치했습니다.";
+    private final String longContent = "> Task :compileJava UP-TO-DATE\n> Task :processResources NO-SOURCE\n".repeat(8);
+    private final long fixedEpochMillis = 1_735_700_400_000L;
+    private ChatMessage hotMessage;   // 압축되지 않은 최근 메시지
+    private ChatMessage[] coldMessages; // 서로 다른 블록에 압축된 오래된 메시지
+    private int coldIndex = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MessageStore store = new MessageStore();
+        coldMessages = new ChatMessage[2];
+        for (int i = 0; i < STORED_MESSAGES; i++) {
+            hotMessage = store.append(ChatMessage.MessageType.JPM, fixedEpochMillis, longContent);
+            if (i == 0) {
+                coldMessages[0] = hotMessage;
+            } else if (i == 100) {
+                coldMessages[1] = hotMessage;
+            }
+        }
+    }
+
+    /**
+     * 메시지 추가 (현재 시각 기록 포함) - 응답 메시지를 추가할 때의 경로
+     * 저장소가 계속 커지지 않도록 호출마다 새 저장소에 STORED_MESSAGES 개씩 추가 (오래된 메시지 압축 포함)
+     */
+    @Benchmark
+    @OperationsPerInvocation(STORED_MESSAGES)
+    public MessageStore appendMessage() {
+        MessageStore store = new MessageStore();
+        for (int i = 0; i < STORED_MESSAGES; i++) {
+            store.append(ChatMessage.MessageType.JPM, System.currentTimeMillis(), i % 4 == 0 ? longContent : content);
+        }
+        return store;
+    }
+
+    /**
+     * 최근 메시지 내용 읽기 (UTF-8 디코딩)
+     */
+    @Benchmark
+    public String readHotContent() {
+        return hotMessage.getContent();
+    }
+
+    /**
+     * 압축된 메시지 내용 읽기 (블록 압축 해제 + UTF-8 디코딩)
+     * 저장소는 마지막으로 푼 블록을 보관하므로, 매번 해제하도록 다른 블록의 메시지를 번갈아 읽음
+     */
+    @Benchmark
+    public String readColdContent() {
+        coldIndex ^= 1;
+        return coldMessages[coldIndex].getContent();
+    }
+}
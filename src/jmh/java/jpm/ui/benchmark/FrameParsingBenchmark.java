@@ -0,0 +1,90 @@
+package jpm.ui.benchmark;
+
+import jpm.ui.protocol.FrameParser;
+import jpm.ui.protocol.FrameReader;
+import jpm.ui.protocol.ProtocolEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로토콜 프레임 파싱 벤치마크
+ * NLP 프로세스 출력 한 줄을 이벤트로 바꾸는 비용과, 출력 스트림 전체를 읽어
+ * handleJpmResponse 처럼 이벤트 타입별로 나누는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrameParsingBenchmark {
+
+    // 실제 응답 한 번에 해당하는 프레임 구성 (진행 상태 → 출력 시작 → 토큰/본문 → 출력 종료)
+    static final String[] FRAMES = {
+            "PROGRESS;GPT;generate",
+            "PROGRESS;JPM;install;pkg:junit",
+            "PROGRESS;JPM;build",
+            "OUTPUT;START",
+            "OUTPUT;APPEND;junit 5.10.0 을 ",
+            "OUTPUT;APPEND;설치했습니다.",
+            "> Task :compileJava UP-TO-DATE",
+            "BUILD SUCCESSFUL in 2s",
+            "OUTPUT;END"
+    };
+    private static final int STREAM_REPEAT = 1000;
+
+    private byte[] stream; // FRAMES 를 STREAM_REPEAT 번 이어 붙인 프로세스 출력
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < STREAM_REPEAT; i++) {
+            for (String frame : FRAMES) {
+                sb.append(frame).append('\n');
+            }
+        }
+        stream = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 프레임 한 줄 파싱 (프레임당 시간)
+     */
+    @Benchmark
+    @OperationsPerInvocation(9)
+    public void parseFrame(Blackhole blackhole) {
+        for (String frame : FRAMES) {
+            blackhole.consume(FrameParser.parse(frame));
+        }
+    }
+
+    /**
+     * 출력 스트림 읽기 + 타입별 처리 (프레임당 시간)
+     */
+    @Benchmark
+    @OperationsPerInvocation(9 * STREAM_REPEAT)
+    public void readAndDispatch(Blackhole blackhole) throws IOException {
+        int[] counts = new int[ProtocolEvent.Type.values().length];
+        new FrameReader(new ByteArrayInputStream(stream)).readEvents(event -> {
+            switch (event.getType()) {
+                case PROGRESS, OUTPUT_START, OUTPUT_END, TEXT, OUTPUT_SUMMARY -> counts[event.getType().ordinal()]++;
+            }
+            blackhole.consume(event);
+        });
+        blackhole.consume(counts);
+    }
+}
@@ -0,0 +1,98 @@
+package jpm.ui.benchmark;
+
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.model.ProcessManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 → 첫 출력 이벤트 벤치마크 (대역 NLP 스크립트 사용)
+ * processUserInput 호출부터 첫 프레임이 출력 콜백에 도착할 때까지의 시간을 측정합니다.
+ *
+ * - worker : 상주 워커 풀 경로 (대기열 → 워커 stdin → 프레임 읽기)
+ * - oneshot : 워커 프로토콜을 선언하지 않은 스크립트 - 요청마다 Python 프로세스 실행
+ *
+ * 입력마다 실행 ID 와 번호를 붙여 응답 캐시에 걸리지 않게 합니다. 캐시 디렉토리는 jmh 태스크가 지정한 user.home 아래에 생깁니다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessSpawnBenchmark {
+
+    @Param({"worker", "oneshot"})
+    public String mode;
+
+    private ProcessManager processManager;
+    private final AtomicLong sequence = new AtomicLong();
+    private final long runId = System.nanoTime(); // 실행마다 다른 입력 (이전 실행의 디스크 캐시 회피)
+    private CompletableFuture<Integer> running; // 측정한 요청의 종료 (측정 밖에서 대기)
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        String script;
+        try (InputStream in = ProcessSpawnBenchmark.class.getResourceAsStream("stub-nlp.py")) {
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (mode.equals("oneshot")) {
+            script = script.replace("JPM_WORKER_PROTOCOL = 1", "JPM_WORKER_PROTOCOL = 0");
+        }
+        Path file = Files.createTempFile("jpm-stub-nlp-", ".py");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, script);
+        System.setProperty(JpmConstants.NLP_SCRIPT_OVERRIDE_PROPERTY, file.toString());
+
+        processManager = new ProcessManager();
+        // 인터프리터 탐색과 워커 준비가 측정에 섞이지 않도록 한 번 실행
+        firstOutput();
+        awaitRequest();
+    }
+
+    /**
+     * 요청 하나의 첫 출력까지 시간
+     */
+    @Benchmark
+    public Object firstOutput() throws Exception {
+        CompletableFuture<Object> first = new CompletableFuture<>();
+        running = new CompletableFuture<>();
+        processManager.processUserInput("benchmark " + runId + " " + sequence.incrementAndGet(), 10_000,
+                first::complete, running::complete);
+        return first.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 측정한 요청이 끝날 때까지 대기 (다음 요청과 겹치지 않도록, 측정 시간에는 포함되지 않음)
+     */
+    @TearDown(Level.Invocation)
+    public void awaitRequest() throws Exception {
+        if (running != null) {
+            running.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processManager.shutdown();
+    }
+}
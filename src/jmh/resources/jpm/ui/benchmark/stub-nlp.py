@@ -0,0 +1,32 @@
+"""
+gpt-toolCall.py 대역 스크립트 (벤치마크용)
+모델 호출 없이 고정된 진행 상태/출력 프레임을 바로 출력합니다.
+  단발성 실행: stub-nlp.py <input>
+  워커 실행:   stub-nlp.py --worker  (READY 후 한 줄에 한 요청)
+"""
+import sys
+
+# 워커 프로토콜 지원 선언 (JPM 이 스크립트를 실행하지 않고 이 줄로 워커 모드 사용 여부를 판단)
+JPM_WORKER_PROTOCOL = 1
+
+FRAMES = [
+    "PROGRESS;GPT;generate",
+    "OUTPUT;START",
+    "OUTPUT;APPEND;ok",
+    "OUTPUT;END",
+]
+
+
+def handle(emit):
+    for frame in FRAMES:
+        emit(frame)
+
+
+if len(sys.argv) > 1 and sys.argv[1] == "--worker":
+    print("READY", flush=True)
+    for line in sys.stdin:
+        request_id = line.split("\t", 1)[0]
+        handle(lambda s: print(f"OUT\t{request_id}\t{s}", flush=True))
+        print(f"DONE\t{request_id}\t0", flush=True)
+else:
+    handle(lambda s: print(s, flush=True))
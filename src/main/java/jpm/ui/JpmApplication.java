@@ -1,5 +1,6 @@
 package jpm.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -8,30 +9,80 @@ import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Tooltip;
-import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import javafx.util.Duration;
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.model.UserSettings;
+import jpm.ui.monitoring.StartupEvent;
+import jpm.ui.view.LogViewer;
 import jpm.ui.view.MainView;
+import jpm.ui.view.PerformanceHud;
+import jpm.ui.view.RenderingProfile;
+import jpm.ui.view.WindowChrome;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * JPM UI 애플리케이션의 주 진입점 클래스
  * 투명한 전체화면 UI를 구성하고 메인 뷰를 초기화합니다.
+ *
+ * 시작은 단계별로 진행합니다.
+ * 1. init() : 폰트와 스타일시트 위치, 렌더링 방식을 런처 스레드에서 준비
+ * 2. start() : 창 틀만 있는 가벼운 첫 화면 표시
+ * 3. 첫 화면 이후 : 메인 뷰, 스타일, 그림자 적용 (NLP 프로세스 매니저는 첫 요청 때 생성)
+ * 단계별 시간은 jpm.Startup JFR 이벤트로 기록하고, -Djpm.startup.report=true 면 표준 출력에도 보고합니다.
  */
 public class JpmApplication extends Application {
 
+    private static final Duration TRAINING_RUN_DURATION = Duration.seconds(3); // 학습 실행에서 입력 가능 후 종료까지 기다리는 시간
+
+    private static final Logger LOGGER = Logger.getLogger(JpmApplication.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
     // 윈도우 드래그를 위한 좌표 저장 변수
     private double xOffset = 0;
     private double yOffset = 0;
     // 최소화 시 윈도우 크기
     private double windowWidth;
     private double windowHeight;
+    private final StartupEvent startupEvent = new StartupEvent(); // 시작 단계별 시간 (JFR)
+    private long initMillis;      // JVM 시작부터 init() 완료까지 (ms)
+    private String stylesheet;    // init() 에서 찾아 둔 스타일시트
+    private RenderingProfile renderingProfile; // init() 에서 정한 창 테두리 렌더링 방식
+    private MainView mainView;    // 첫 화면 이후 생성 (그 전에는 null)
+
+    @Override
+    public void init() {
+        startupEvent.begin();
+        // 창 표시와 관계없는 리소스는 JavaFX 스레드 밖(런처 스레드)에서 미리 준비
+        Font.loadFont(getClass().getClassLoader().getResource("fonts/Pretendard-Regular.otf").toString(), 16);
+        stylesheet = getClass().getClassLoader().getResource("css/styles.css").toExternalForm();
+        // 사용자 설정과 Prism 파이프라인으로 창 테두리 렌더링 방식 결정 (설정 파일 I/O)
+        renderingProfile = RenderingProfile.select(UserSettings.load());
+        LOGGER.info("렌더링 방식: " + renderingProfile + (RenderingProfile.isSoftwarePipeline() ? " (소프트웨어 파이프라인)" : ""));
+        initMillis = millisSinceJvmStart();
+    }
 
+    /**
+     * 창 틀만 먼저 보여준 뒤, 첫 화면이 그려지면 메인 뷰와 스타일, 그림자를 붙입니다.
+     * 메인 뷰 생성과 CSS 적용이 첫 화면을 늦추지 않도록 두 단계로 나눕니다.
+     */
     @Override
     public void start(Stage primaryStage) {
         try {
@@ -41,60 +92,24 @@ public class JpmApplication extends Application {
             windowWidth = screenBounds.getWidth() * 0.5;
             windowHeight = screenBounds.getHeight() * 0.7;
 
-            // 외부 컨테이너 생성 (투명 배경 + 그림자용)
-            StackPane shadowContainer = new StackPane();
-            shadowContainer.setPadding(new Insets(20)); // 그림자를 위한 여백 확보
-
-            shadowContainer.setStyle("-fx-background-color: transparent;"); // 완전 투명 배경
-
-            // 중간 컨테이너 생성 (그림자 효과가 적용될 투명 레이어)
-            StackPane effectContainer = new StackPane();
-            effectContainer.setStyle("-fx-background-color: transparent;"); // 투명 배경
-            effectContainer.setMaxWidth(windowWidth - 30); // 여백 고려한 크기
-            effectContainer.setMaxHeight(windowHeight - 30);
-
-            // 그림자 효과 생성
-
-            DropShadow dropShadow = new DropShadow();
-            dropShadow.setRadius(15);
-            dropShadow.setOffsetX(0);  // 수평 오프셋 (0 = 중앙)
-            dropShadow.setOffsetY(8);  // 수직 오프셋 (양수 = 아래쪽)
-            dropShadow.setSpread(0.2); // 그림자 확산 (약간 줄임)
-            dropShadow.setColor(Color.rgb(0, 0, 0, 0.45)); // 그림자 색상 및 투명도 조정
-
-            // 중간 컨테이너에 그림자 적용
-            effectContainer.setEffect(dropShadow);
-
-            // 내부 컨테이너 생성 (실제 UI 콘텐츠용)
-            StackPane contentContainer = new StackPane();
-            contentContainer.setPadding(new Insets(10));
-            contentContainer.setStyle("-fx-background-color: rgba(242, 242, 247, 0.9);"
-                    + "-fx-background-radius: 20;");
-
-            // 메인 뷰 생성
-            MainView mainView = new MainView();
+            // 창 테두리 (그림자와 배경은 렌더링 방식에 따라 다르게 그림)
+            WindowChrome chrome = new WindowChrome(renderingProfile, windowWidth, windowHeight);
+            StackPane contentContainer = chrome.getContentContainer();
 
             // 윈도우 컨트롤
             HBox windowControls = createWindowControls(primaryStage);
             windowControls.setPickOnBounds(false);
 
-            // 컴포넌트 추가
-            contentContainer.getChildren().addAll(mainView, windowControls);
-            effectContainer.getChildren().add(contentContainer);
-            shadowContainer.getChildren().add(effectContainer);
-
-            // Scene 생성 - 그림자 컨테이너를 루트로 사용
-            Scene scene = new Scene(shadowContainer, windowWidth, windowHeight);
-            scene.setFill(Color.TRANSPARENT);  // 완전 투명 배경
+            // 컴포넌트 추가 - 첫 화면은 창 틀과 윈도우 컨트롤만
+            contentContainer.getChildren().add(windowControls);
 
-            // 폰트 적용
-            Font.loadFont(getClass().getClassLoader().getResource("fonts/Pretendard-Regular.otf").toString(), 16);
-
-            // CSS 적용
-            scene.getStylesheets().add(getClass().getClassLoader().getResource("css/styles.css").toExternalForm());
+            // Scene 생성 - 창 테두리를 루트로 사용
+            Scene scene = new Scene(chrome, windowWidth, windowHeight);
+            scene.setFill(chrome.getSceneFill());  // 투명 창이면 완전 투명 배경
 
             // Stage 설정
-            primaryStage.initStyle(StageStyle.TRANSPARENT);  // 테두리 제거
+            // 테두리 제거 (불투명 모드는 창 투명도 합성도 생략)
+            primaryStage.initStyle(renderingProfile.isTransparentWindow() ? StageStyle.TRANSPARENT : StageStyle.UNDECORATED);
             primaryStage.setScene(scene);
             primaryStage.centerOnScreen();
             primaryStage.setResizable(false);
@@ -113,19 +128,99 @@ public class JpmApplication extends Application {
 
             // 닫기 이벤트 처리
             primaryStage.setOnCloseRequest(e -> {
-                mainView.shutdown();
+                if (mainView != null) {
+                    mainView.shutdown();
+                }
                 Platform.exit();
             });
 
+            // 첫 화면이 그려진 뒤 나머지 구성
+            afterNextLayout(scene, () -> {
+                long firstFrameMillis = millisSinceJvmStart();
+                Platform.runLater(() -> attachMainView(primaryStage, scene, chrome, firstFrameMillis));
+            });
+
             // 실행
             primaryStage.show();
-            mainView.focusInputField();
 
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * 두 번째 단계 - 메인 뷰, 스타일, 그림자 적용 (첫 화면 이후 JavaFX 스레드)
+     */
+    private void attachMainView(Stage primaryStage, Scene scene, WindowChrome chrome, long firstFrameMillis) {
+        // 그림자 적용
+        chrome.installShadow();
+
+        // 메인 뷰 생성 (프로세스 매니저는 첫 요청 때 생성)
+        mainView = new MainView();
+        // 요약된 긴 출력의 전체 내용은 로그 보기 창으로 열기
+        mainView.setOnShowFullOutput(path -> LogViewer.open(path, primaryStage));
+
+        // 성능 정보 오버레이 (Ctrl/Cmd + Shift + P 로 전환, 클릭은 아래로 통과)
+        PerformanceHud performanceHud = mainView.getPerformanceHud();
+        StackPane.setAlignment(performanceHud, Pos.TOP_LEFT);
+
+        // 윈도우 컨트롤이 메인 뷰 위에 오도록 앞에 추가
+        chrome.getContentContainer().getChildren().add(0, mainView);
+        chrome.getContentContainer().getChildren().add(performanceHud);
+        performanceHud.setRenderingProfile(chrome.getProfile());
+
+        // CSS 적용
+        scene.getStylesheets().add(stylesheet);
+
+        afterNextLayout(scene, () -> reportStartup(firstFrameMillis, millisSinceJvmStart()));
+        mainView.focusInputField();
+    }
+
+    /**
+     * 시작 시간 보고 (JFR 이벤트, 로그, 요청 시 표준 출력)
+     */
+    private void reportStartup(long firstFrameMillis, long interactiveMillis) {
+        startupEvent.complete(initMillis, firstFrameMillis, interactiveMillis);
+        String report = "시작 시간: init " + initMillis + "ms, 첫 화면 " + firstFrameMillis
+                + "ms, 입력 가능 " + interactiveMillis + "ms (JVM 시작 기준)";
+        LOGGER.info(report);
+        boolean training = Boolean.getBoolean(JpmConstants.STARTUP_TRAINING_PROPERTY);
+        if (training || Boolean.getBoolean(JpmConstants.STARTUP_REPORT_PROPERTY)) {
+            System.out.println(report);
+        }
+        if (training) {
+            // 학습 실행 - 기록 불러오기 등 시작 직후 작업까지 마친 뒤 종료 (종료 시 CDS 아카이브 기록)
+            PauseTransition exit = new PauseTransition(TRAINING_RUN_DURATION);
+            exit.setOnFinished(e -> {
+                mainView.shutdown();
+                Platform.exit();
+            });
+            exit.play();
+        }
+    }
+
+    /**
+     * 다음 펄스의 레이아웃이 끝나면 한 번만 실행
+     */
+    private static void afterNextLayout(Scene scene, Runnable action) {
+        Runnable[] listener = new Runnable[1];
+        boolean[] done = {false};
+        listener[0] = () -> {
+            if (done[0]) {
+                return;
+            }
+            done[0] = true;
+            // 펄스 리스너 목록을 도는 중에는 제거할 수 없으므로 다음 작업으로 미룸
+            Platform.runLater(() -> scene.removePostLayoutPulseListener(listener[0]));
+            action.run();
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    private static long millisSinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
 
     /**
      * 윈도우 컨트롤 버튼 (닫기, 최소화, 최대화) 생성
@@ -1,5 +1,8 @@
 package jpm.ui.constants;
 
+import java.nio.file.Path;
+import java.util.List;
+
 public class JpmConstants {
 
     public static final DevelopmentLevel DEVELOPMENT_LEVEL = DevelopmentLevel.RELEASE;
@@ -15,5 +18,61 @@ public class JpmConstants {
 //    public static final String JPM_CORE_PATH = DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG
 //            ? DEBUG_JPM_CORE_PATH
 //            : RELEASE_JPM_CORE_PATH;
-}
 
+    // 캐시, 설정 등 사용자 데이터 저장 디렉토리
+    public static final Path USER_DATA_DIR = Path.of(System.getProperty("user.home"), ".jpm");
+
+    // Python 인터프리터 직접 지정 (시스템 프로퍼티 / 환경 변수)
+    public static final String PYTHON_OVERRIDE_PROPERTY = "jpm.python";
+    public static final String PYTHON_OVERRIDE_ENV = "JPM_PYTHON";
+    // Python 가상환경 디렉토리 지정 (시스템 프로퍼티, 없으면 VIRTUAL_ENV 환경 변수 사용)
+    public static final String PYTHON_VENV_PROPERTY = "jpm.venv";
+    // NLP 스크립트 직접 지정 (시스템 프로퍼티, 없으면 JAR 옆의 gpt-toolCall.py) - 벤치마크/측정용 대역 스크립트 실행에 사용
+    public static final String NLP_SCRIPT_OVERRIDE_PROPERTY = "jpm.nlp.script";
+    // 시작 시간(첫 화면, 입력 가능)을 표준 출력에 보고 (시스템 프로퍼티, true 일 때)
+    public static final String STARTUP_REPORT_PROPERTY = "jpm.startup.report";
+    // 입력 가능 상태가 되면 잠시 후 종료 (시스템 프로퍼티, true 일 때) - jlink 이미지의 CDS 아카이브를 만드는 학습 실행에 사용
+    public static final String STARTUP_TRAINING_PROPERTY = "jpm.startup.training";
+
+    // 상주 NLP 워커 기본 사용 여부 (false 면 매 요청마다 Python 프로세스를 새로 실행)
+    // 스크립트가 워커 프로토콜을 선언하거나(NlpWorker#isEnabledFor) 아래 프로퍼티/환경 변수로 켠 경우에만 워커 사용
+    public static final boolean NLP_WORKER_MODE = false;
+    // 상주 NLP 워커 사용 여부 직접 지정 (시스템 프로퍼티 / 환경 변수, true 또는 false)
+    public static final String NLP_WORKER_PROPERTY = "jpm.nlp.worker";
+    public static final String NLP_WORKER_ENV = "JPM_NLP_WORKER";
+    // 워커 READY 프레임 대기 시간 (ms)
+    public static final long NLP_WORKER_READY_TIMEOUT_MS = 15_000;
+    // 연속 실패 시 워커 재시작 한도 (초과 시 단발성 실행으로 전환)
+    public static final int NLP_WORKER_MAX_RESTARTS = 3;
+    // 워커 풀 최소 크기 (최대 크기는 CPU 코어 수에 맞춰 결정)
+    public static final int NLP_POOL_MIN_SIZE = 1;
+    // 최소 크기를 넘는 유휴 워커를 정리하기까지의 시간 (ms)
+    public static final long NLP_POOL_IDLE_TIMEOUT_MS = 60_000;
+    // 입력 중 미리 준비해 둘 유휴 워커 수 (남는 워커는 위의 유휴 시간이 지나면 정리)
+    public static final int NLP_PREWARM_IDLE_WORKERS = 1;
+    // 입력이 멈춘 뒤 워커를 미리 준비하기까지 기다리는 시간 (ms)
+    public static final long NLP_PREWARM_DEBOUNCE_MS = 300;
+
+    // 요청 기본 제한 시간 (ms) - 넘으면 요청을 중단하고 프로세스를 종료
+    public static final long NLP_REQUEST_TIMEOUT_MS = 180_000;
+
+    // 긴 출력 요약 - 앞부분은 바로 보여주고, 넘는 줄은 마지막 몇 줄만 메모리에 두고 전체는 임시 파일에 기록
+    public static final int OUTPUT_HEAD_LINES = 100;
+    public static final int OUTPUT_TAIL_LINES = 50;
+
+    // 요청 대기열 최대 요청 수 (실행 중 포함) - 가득 차면 입력을 받지 않음
+    public static final int REQUEST_QUEUE_CAPACITY = 20;
+    // 동시에 실행할 최대 조회 요청 수
+    public static final int REQUEST_QUEUE_MAX_PARALLEL = 2;
+
+    // 응답 캐시 사용 여부
+    public static final boolean RESPONSE_CACHE_ENABLED = true;
+    // 응답 캐시 최대 항목 수 (메모리 / 디스크)
+    public static final int RESPONSE_CACHE_MAX_ENTRIES = 128;
+    public static final int RESPONSE_CACHE_MAX_DISK_ENTRIES = 1024;
+    // 응답 캐시 항목 유효 시간 (ms)
+    public static final long RESPONSE_CACHE_TTL_MS = 6 * 60 * 60 * 1000L;
+    // 응답 캐시 키에 지문을 포함할 프로젝트 파일 (작업 디렉토리 기준, 바뀌면 캐시된 응답을 쓰지 않음)
+    public static final List<String> PROJECT_FILES = List.of(
+            "jpm.json", "jpm.lock", "build.gradle", "build.gradle.kts", "settings.gradle", "pom.xml");
+}
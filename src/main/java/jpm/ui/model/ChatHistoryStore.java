@@ -0,0 +1,258 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 채팅 기록 저장소
+ * 메시지를 추가 전용 로그 파일에 기록하고, 메시지 위치(offset)를 별도 인덱스 파일에 보관합니다.
+ * 읽기는 메모리 맵 파일로 필요한 구간만 접근하므로, 저장된 메시지 수와 관계없이 열기 비용이 일정합니다.
+ * 파일 I/O 를 하므로 JavaFX 스레드가 아닌 곳에서 호출합니다.
+ *
+ * 파일 형식 (big-endian):
+ *   messages.log : [type:1][epochMillis:8][length:4][UTF-8 content:length] 반복
+ *   messages.idx : [offset:8] 반복 (i 번째 값 = i 번째 메시지의 로그 위치)
+ */
+public class ChatHistoryStore implements Closeable {
+
+    private static final String LOG_FILE_NAME = "messages.log";
+    private static final String INDEX_FILE_NAME = "messages.idx";
+    private static final int HEADER_SIZE = 1 + 8 + 4;
+    private static final long LOG_SEGMENT_SIZE = 64L << 20; // 로그 맵 구간 크기 (64MB)
+
+    // 저장 시 메시지 타입 코드 (enum 순서 변경에 영향받지 않도록 고정값 사용)
+    private static final byte CODE_USER = 1;
+    private static final byte CODE_JPM = 2;
+    private static final byte CODE_SYSTEM = 3;
+
+    private final FileChannel logChannel;
+    private final FileChannel indexChannel;
+
+    private int count;                    // 저장된 메시지 수
+    private long logSize;                 // 로그 파일 끝 위치
+    private MappedByteBuffer indexMap;    // 인덱스 맵 (읽기 전용)
+    private MappedByteBuffer logSegment;  // 현재 맵 된 로그 구간
+    private long logSegmentStart = -1;
+
+    private static final Logger LOGGER = Logger.getLogger(ChatHistoryStore.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    private ChatHistoryStore(FileChannel logChannel, FileChannel indexChannel) throws IOException {
+        this.logChannel = logChannel;
+        this.indexChannel = indexChannel;
+        recover();
+    }
+
+    /**
+     * 저장소 열기 (파일이 없으면 생성)
+     *
+     * @param directory 저장 디렉토리
+     * @return 열린 저장소
+     * @throws IOException 파일 열기 실패
+     */
+    public static ChatHistoryStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel log = FileChannel.open(directory.resolve(LOG_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new ChatHistoryStore(log, index);
+    }
+
+    /**
+     * 비정상 종료로 잘린 기록 정리
+     * 인덱스의 마지막 항목이 가리키는 레코드가 온전하지 않으면 그 항목부터 버립니다.
+     */
+    private void recover() throws IOException {
+        long indexSize = indexChannel.size() - indexChannel.size() % 8;
+        count = (int) (indexSize / 8);
+        logSize = logChannel.size();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (count > 0) {
+            long offset = readLong(indexChannel, (long) (count - 1) * 8);
+            header.clear();
+            if (offset + HEADER_SIZE <= logSize && logChannel.read(header, offset) == HEADER_SIZE) {
+                long end = offset + HEADER_SIZE + header.getInt(9);
+                if (end <= logSize) {
+                    logSize = end;
+                    break;
+                }
+            }
+            count--;
+        }
+        if (count == 0) {
+            logSize = 0;
+        }
+        indexChannel.truncate((long) count * 8);
+        logChannel.truncate(logSize);
+        LOGGER.info("채팅 기록 열기: " + count + "개 메시지");
+    }
+
+    private static long readLong(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) > 0) {
+            // 8바이트를 모두 읽을 때까지 반복
+        }
+        return buffer.getLong(0);
+    }
+
+    /**
+     * 저장 가능한 메시지인지 여부 (타이핑 인디케이터, 출력 중인 응답, 임시 파일을 가리키는 링크는 저장하지 않음)
+     */
+    public static boolean isPersistable(ChatMessage message) {
+        return message.getType() != ChatMessage.MessageType.TYPING && !(message instanceof StreamingChatMessage)
+                && !(message instanceof OutputLinkMessage);
+    }
+
+    /**
+     * 메시지 추가
+     *
+     * @param message 추가할 메시지
+     * @return 추가된 메시지의 순번
+     * @throws IOException 파일 쓰기 실패
+     */
+    public synchronized int append(ChatMessage message) throws IOException {
+        byte[] content = message.getContent().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + content.length);
+        record.put(typeCode(message.getType()));
+        record.putLong(message.getEpochMillis());
+        record.putInt(content.length);
+        record.put(content);
+        record.flip();
+
+        long offset = logSize;
+        while (record.hasRemaining()) {
+            logChannel.write(record, offset + record.position());
+        }
+        ByteBuffer index = ByteBuffer.allocate(8).putLong(0, offset);
+        while (index.hasRemaining()) {
+            indexChannel.write(index, (long) count * 8 + index.position());
+        }
+
+        logSize = offset + HEADER_SIZE + content.length;
+        return count++;
+    }
+
+    /**
+     * 저장된 메시지 수
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * [from, to) 구간의 메시지를 읽어 메시지 저장소에 추가
+     * 내용은 문자열로 바꾸지 않고 UTF-8 그대로 저장소에 복사합니다.
+     *
+     * @param from 시작 순번 (포함)
+     * @param to 끝 순번 (미포함)
+     * @param into 읽은 메시지를 추가할 저장소
+     * @return 순서대로 읽은 메시지 (into 에 저장된 메시지의 뷰)
+     * @throws IOException 파일 읽기 실패
+     */
+    public synchronized List<ChatMessage> read(int from, int to, MessageStore into) throws IOException {
+        from = Math.max(0, from);
+        to = Math.min(count, to);
+        List<ChatMessage> result = new ArrayList<>(Math.max(0, to - from));
+        if (from >= to) {
+            return result;
+        }
+
+        ensureIndexMapped(to);
+        for (int i = from; i < to; i++) {
+            result.add(readRecord(indexMap.getLong(i * 8), into));
+        }
+        return result;
+    }
+
+    /**
+     * 인덱스 맵이 n 개 항목을 포함하도록 다시 맵핑
+     */
+    private void ensureIndexMapped(int n) throws IOException {
+        long needed = (long) n * 8;
+        if (indexMap == null || indexMap.capacity() < needed) {
+            indexMap = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, (long) count * 8);
+        }
+    }
+
+    /**
+     * offset 위치의 레코드를 저장소에 추가
+     * 레코드가 맵 구간 경계에 걸치면 해당 레코드를 시작으로 구간을 다시 맵핑합니다.
+     */
+    private ChatMessage readRecord(long offset, MessageStore into) throws IOException {
+        ByteBuffer segment = segmentFor(offset, HEADER_SIZE);
+        int position = (int) (offset - logSegmentStart);
+        byte code = segment.get(position);
+        long epochMillis = segment.getLong(position + 1);
+        int length = segment.getInt(position + 9);
+
+        segment = segmentFor(offset, HEADER_SIZE + length);
+        return into.append(typeOf(code), epochMillis, segment, (int) (offset - logSegmentStart) + HEADER_SIZE, length);
+    }
+
+    /**
+     * [offset, offset + length) 를 포함하는 로그 맵 구간
+     */
+    private ByteBuffer segmentFor(long offset, int length) throws IOException {
+        long end = offset + length;
+        if (logSegment == null || offset < logSegmentStart || end > logSegmentStart + logSegment.capacity()) {
+            long start = offset - offset % LOG_SEGMENT_SIZE;
+            if (end > start + LOG_SEGMENT_SIZE) {
+                start = offset; // 구간 경계에 걸친 레코드
+            }
+            long size = Math.min(logSize - start, Math.max(LOG_SEGMENT_SIZE, end - start));
+            logSegment = logChannel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            logSegmentStart = start;
+        }
+        return logSegment;
+    }
+
+    private static byte typeCode(ChatMessage.MessageType type) {
+        return switch (type) {
+            case USER -> CODE_USER;
+            case JPM -> CODE_JPM;
+            default -> CODE_SYSTEM;
+        };
+    }
+
+    private static ChatMessage.MessageType typeOf(byte code) {
+        return switch (code) {
+            case CODE_USER -> ChatMessage.MessageType.USER;
+            case CODE_JPM -> ChatMessage.MessageType.JPM;
+            default -> ChatMessage.MessageType.SYSTEM;
+        };
+    }
+
+    /**
+     * 파일 닫기
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        indexMap = null;
+        logSegment = null;
+        logChannel.close();
+        indexChannel.close();
+    }
+}
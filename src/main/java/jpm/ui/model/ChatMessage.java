@@ -1,12 +1,18 @@
 package jpm.ui.model;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * 채팅 메시지를 나타내는 모델 클래스
- * 메시지 내용, 타입, 시간 정보를 포함합니다.
+ * 메시지 내용, 타입, 시간 정보를 제공합니다.
+ *
+ * 대부분의 메시지는 {@link MessageStore} 에 저장된 값을 순번으로 가리키는 가벼운 뷰이며
+ * ({@link MessageStore#append}), 출력 중인 응답과 전체 출력 링크만 값을 직접 가집니다.
+ * 같은 메시지인지는 객체 동일성으로 비교합니다.
  */
-public class ChatMessage {
+public abstract class ChatMessage {
 
     /**
      * 메시지 타입 열거형
@@ -21,47 +27,34 @@ public class ChatMessage {
         TYPING   // 타이핑 인디케이터
     }
 
-    private final String content;        // 메시지 내용
-    private final MessageType type;      // 메시지 타입
-    private final LocalDateTime timestamp; // 메시지 생성 시간
-
-    /**
-     * 메시지 생성자
-     *
-     * @param content 메시지 내용
-     * @param type 메시지 타입 (USER, JPM, SYSTEM)
-     */
-    public ChatMessage(String content, MessageType type) {
-        this.content = content;
-        this.type = type;
-        this.timestamp = LocalDateTime.now();
-    }
-
     /**
      * 메시지 내용 getter
      *
      * @return 메시지 내용
      */
-    public String getContent() {
-        return content;
-    }
+    public abstract String getContent();
 
     /**
      * 메시지 타입 getter
      *
      * @return 메시지 타입
      */
-    public MessageType getType() {
-        return type;
-    }
+    public abstract MessageType getType();
 
     /**
      * 메시지 생성 시간 getter
      *
-     * @return 메시지 생성 시간
+     * @return 메시지 생성 시간 (epoch millis)
+     */
+    public abstract long getEpochMillis();
+
+    /**
+     * 메시지 생성 시간 getter (표시용, 호출할 때마다 생성)
+     *
+     * @return 시스템 시간대 기준 메시지 생성 시간
      */
     public LocalDateTime getTimestamp() {
-        return timestamp;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(getEpochMillis()), ZoneId.systemDefault());
     }
 
     /**
@@ -70,7 +63,7 @@ public class ChatMessage {
      * @return 사용자 메시지인 경우 true
      */
     public boolean isUserMessage() {
-        return type == MessageType.USER;
+        return getType() == MessageType.USER;
     }
 
     /**
@@ -79,7 +72,7 @@ public class ChatMessage {
      * @return JPM 메시지인 경우 true
      */
     public boolean isJpmMessage() {
-        return type == MessageType.JPM;
+        return getType() == MessageType.JPM;
     }
 
     /**
@@ -88,11 +81,11 @@ public class ChatMessage {
      * @return 시스템 메시지인 경우 true
      */
     public boolean isSystemMessage() {
-        return type == MessageType.SYSTEM;
+        return getType() == MessageType.SYSTEM;
     }
 
     @Override
     public String toString() {
-        return "[" + type + "] " + content;
+        return "[" + getType() + "] " + getContent();
     }
-}
\ No newline at end of file
+}
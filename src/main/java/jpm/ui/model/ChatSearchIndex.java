@@ -0,0 +1,570 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 채팅 기록 전문 검색 인덱스
+ * 단어(토큰)마다 그 단어가 들어 있는 메시지 순번과 출현 횟수 목록(postings)을 보관하는 역색인입니다.
+ * 색인은 전용 스레드에서 하고, 검색은 읽기 잠금만 잡으므로 색인 중에도 검색할 수 있습니다.
+ *
+ * 색인은 종료할 때 채팅 기록 옆의 파일에 저장하고, 다음 실행에서는 파일을 읽은 뒤 그 이후에 추가된 메시지만 색인합니다.
+ * 파일의 메시지 수가 기록보다 많거나 마지막 메시지 시각이 다르면(기록이 잘리거나 바뀜) 처음부터 다시 색인합니다.
+ *
+ * 토큰 규칙:
+ * - 영문/숫자: 연속된 글자를 소문자 단어 하나로 (예: "Spring-Boot" → spring, boot)
+ * - 한글: 띄어쓰기나 조사와 관계없이 찾도록 두 글자씩 겹쳐 자름 (예: "설치했어" → 설치, 치했, 했어)
+ *   한 글자짜리 한글은 그대로 한 토큰
+ *
+ * 점수는 토큰별 IDF 와 출현 횟수로 계산하며(BM25 에서 문서 길이 보정을 뺀 형태), 같은 점수면 최근 메시지가 앞에 옵니다.
+ *
+ * 파일 형식 (big-endian):
+ *   [magic:4][version:4][documentCount:4][lastEpochMillis:8][termCount:4]
+ *   단어마다 [term:modified UTF-8][postings 수:4] 뒤에 ([앞 순번과의 차이:varint][출현 횟수:1]) 반복
+ */
+public class ChatSearchIndex {
+
+    private static final int INDEX_BATCH_SIZE = 1000;   // 기존 기록 색인 시 한 번에 읽는 메시지 수
+    private static final int MAX_CANDIDATES = 2000;     // 점수를 매길 최대 후보 수 (최근 메시지부터)
+    private static final int MAX_PREFIX_EXPANSION = 32; // 접두어 검색 시 펼칠 최대 단어 수
+    private static final double TF_SATURATION = 1.2;    // 출현 횟수 포화 상수 (BM25 k1)
+    private static final int FILE_MAGIC = 0x4A504D49;   // "JPMI"
+    private static final int FILE_VERSION = 1;
+    private static final long SHUTDOWN_TIMEOUT_MS = 2000; // 종료 시 색인 저장 대기 시간
+
+    private final ChatHistoryStore store;
+    private final Path file;                            // 색인 저장 파일
+    private final TreeMap<String, Postings> terms = new TreeMap<>(); // 접두어 검색을 위해 정렬된 맵 사용
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService indexer;
+    private int documentCount;                // 색인한 메시지 수 (순번 [0, documentCount) 를 빠짐없이 색인)
+    private long lastEpochMillis;             // 마지막으로 색인한 메시지 시각 (저장 파일 검증용)
+    private int savedCount;                   // 파일에 저장된 메시지 수 (색인 스레드 전용)
+    private volatile boolean closing = false; // 종료 중이면 기존 기록 색인을 멈추고 저장
+
+    private static final Logger LOGGER = Logger.getLogger(ChatSearchIndex.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 검색 인덱스 생성자
+     *
+     * @param store 검색 결과 메시지를 읽어올 채팅 기록 저장소
+     * @param file 색인 저장 파일 (채팅 기록 옆)
+     */
+    public ChatSearchIndex(ChatHistoryStore store, Path file) {
+        this.store = store;
+        this.file = file;
+        this.indexer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "jpm-search-index");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 저장소에 이미 있는 [0, size) 메시지를 색인 스레드에서 색인
+     * 저장된 색인 파일이 있으면 읽고, 파일 이후에 추가된 메시지만 색인합니다.
+     * 이후 {@link #addAsync} 로 추가되는 메시지는 이 작업이 끝난 뒤 순서대로 색인됩니다.
+     *
+     * @param size 색인할 메시지 수 (저장소를 연 시점의 크기)
+     */
+    public void indexExisting(int size) {
+        indexer.execute(() -> {
+            long start = System.nanoTime();
+            int loaded = load(size);
+            try {
+                for (int from = loaded; from < size && !closing; from += INDEX_BATCH_SIZE) {
+                    // 토큰화에만 쓰고 버리는 묶음이므로 압축하지 않는 임시 저장소에 읽음
+                    List<ChatMessage> batch = store.read(from, Math.min(size, from + INDEX_BATCH_SIZE),
+                            new MessageStore(Integer.MAX_VALUE));
+                    // 토큰화는 잠금 밖에서, 색인 반영만 묶음 단위로 잠금
+                    List<List<String>> tokens = new ArrayList<>(batch.size());
+                    for (ChatMessage message : batch) {
+                        tokens.add(tokenize(message.getContent()));
+                    }
+                    lock.writeLock().lock();
+                    try {
+                        for (int i = 0; i < tokens.size(); i++) {
+                            addTokens(from + i, batch.get(i).getEpochMillis(), tokens.get(i));
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+                LOGGER.info("채팅 기록 색인 완료: " + size + "개 (파일에서 " + loaded + "개), "
+                        + (System.nanoTime() - start) / 1_000_000 + "ms");
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "채팅 기록 색인 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 새로 저장된 메시지를 색인 스레드에서 색인
+     *
+     * @param index 채팅 기록에서의 메시지 순번
+     * @param message 색인할 메시지
+     */
+    public void addAsync(int index, ChatMessage message) {
+        indexer.execute(() -> {
+            // 종료 중에는 기존 기록 색인이 중간에 멈췄을 수 있으므로 건너뜀 (다음 실행에서 저장된 순번부터 색인)
+            if (closing) {
+                return;
+            }
+            List<String> tokens = tokenize(message.getContent());
+            lock.writeLock().lock();
+            try {
+                addTokens(index, message.getEpochMillis(), tokens);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void addTokens(int index, long epochMillis, List<String> tokens) {
+        for (String token : tokens) {
+            terms.computeIfAbsent(token, t -> new Postings()).add(index);
+        }
+        documentCount++;
+        lastEpochMillis = epochMillis;
+    }
+
+    /**
+     * 색인 파일 읽기 (색인 스레드)
+     * 파일이 없거나 현재 기록과 맞지 않으면 빈 색인으로 시작합니다.
+     *
+     * @param size 채팅 기록의 메시지 수
+     * @return 파일에서 읽은 메시지 수 (이 순번부터 색인)
+     */
+    private int load(int size) {
+        TreeMap<String, Postings> loaded = new TreeMap<>();
+        int count;
+        long epochMillis;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                LOGGER.info("검색 색인 파일 형식이 달라 다시 색인합니다");
+                return 0;
+            }
+            count = in.readInt();
+            epochMillis = in.readLong();
+            if (count <= 0 || count > size || !matchesHistory(count, epochMillis)) {
+                LOGGER.info("검색 색인 파일이 채팅 기록과 맞지 않아 다시 색인합니다");
+                return 0;
+            }
+            int termCount = in.readInt();
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                loaded.put(term, Postings.read(in, count));
+            }
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "검색 색인 파일 읽기 실패 - 다시 색인합니다", e);
+            return 0;
+        }
+
+        lock.writeLock().lock();
+        try {
+            terms.putAll(loaded);
+            documentCount = count;
+            lastEpochMillis = epochMillis;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        savedCount = count;
+        return count;
+    }
+
+    /**
+     * 색인 파일의 마지막 메시지가 채팅 기록의 같은 순번 메시지와 같은 시각인지 여부
+     */
+    private boolean matchesHistory(int count, long epochMillis) throws IOException {
+        List<ChatMessage> last = store.read(count - 1, count, new MessageStore(Integer.MAX_VALUE));
+        return !last.isEmpty() && last.get(0).getEpochMillis() == epochMillis;
+    }
+
+    /**
+     * 색인을 파일에 저장 (색인 스레드, 마지막 저장 이후 색인한 메시지가 있을 때만)
+     * 임시 파일에 쓴 뒤 바꿔치기하므로 도중에 종료되어도 이전 파일이 남습니다.
+     */
+    private void save() {
+        if (documentCount == savedCount) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "search-index", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeInt(documentCount);
+                out.writeLong(lastEpochMillis);
+                out.writeInt(terms.size());
+                for (Map.Entry<String, Postings> entry : terms.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().write(out);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedCount = documentCount;
+            LOGGER.info("검색 색인 저장: " + documentCount + "개, " + (System.nanoTime() - start) / 1_000_000 + "ms");
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "검색 색인 저장 실패", e);
+        }
+    }
+
+    /**
+     * 검색 (JavaFX 스레드가 아닌 곳에서 호출)
+     * 모든 검색어 토큰을 포함한 메시지만 결과가 되며, 입력 중인 마지막 단어와
+     * 한 글자 한글은 접두어로 취급합니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수 높은 순 검색 결과
+     * @throws IOException 결과 메시지 읽기 실패
+     */
+    public List<SearchHit> search(String query, int limit) throws IOException {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        boolean lastIsPrefix = !Character.isWhitespace(query.charAt(query.length() - 1));
+
+        int[] hitIndexes;
+        double[] hitScores;
+        int hitCount = 0;
+        lock.readLock().lock();
+        try {
+            // 검색어 토큰마다 해당하는 postings 묶음 (접두어면 여러 단어)
+            List<Postings[]> groups = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                boolean prefix = (lastIsPrefix && i == tokens.size() - 1) || isSingleSyllable(token);
+                Postings[] group = lookup(token, prefix);
+                if (group.length == 0) {
+                    return List.of();
+                }
+                groups.add(group);
+            }
+
+            // 가장 드문 묶음을 기준으로 최근 메시지부터 후보 수집
+            groups.sort((a, b) -> Integer.compare(documentFrequency(a), documentFrequency(b)));
+            int[] candidates = collectCandidates(groups);
+
+            // 후보마다 점수 계산 후 상위 limit 개 선택
+            hitIndexes = new int[Math.min(limit, candidates.length)];
+            hitScores = new double[hitIndexes.length];
+            for (int doc : candidates) {
+                double score = score(groups, doc);
+                // 삽입 정렬 (limit 이 작으므로 힙보다 단순하고 충분히 빠름)
+                int pos = hitCount;
+                while (pos > 0 && hitScores[pos - 1] < score) {
+                    pos--;
+                }
+                if (pos >= hitIndexes.length) {
+                    continue;
+                }
+                int moved = Math.min(hitCount, hitIndexes.length - 1) - pos;
+                System.arraycopy(hitIndexes, pos, hitIndexes, pos + 1, moved);
+                System.arraycopy(hitScores, pos, hitScores, pos + 1, moved);
+                hitIndexes[pos] = doc;
+                hitScores[pos] = score;
+                hitCount = Math.min(hitCount + 1, hitIndexes.length);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchHit> hits = new ArrayList<>(hitCount);
+        MessageStore hitMessages = new MessageStore(Integer.MAX_VALUE); // 이번 검색 결과 표시용
+        for (int i = 0; i < hitCount; i++) {
+            List<ChatMessage> message = store.read(hitIndexes[i], hitIndexes[i] + 1, hitMessages);
+            if (!message.isEmpty()) {
+                hits.add(new SearchHit(hitIndexes[i], hitScores[i], message.get(0)));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 토큰에 해당하는 postings 조회 (접두어면 해당 접두어로 시작하는 단어들)
+     */
+    private Postings[] lookup(String token, boolean prefix) {
+        if (!prefix) {
+            Postings postings = terms.get(token);
+            return postings == null ? new Postings[0] : new Postings[]{postings};
+        }
+        NavigableMap<String, Postings> range = terms.subMap(token, true, token + Character.MAX_VALUE, false);
+        List<Postings> result = new ArrayList<>(Math.min(range.size(), MAX_PREFIX_EXPANSION));
+        for (Map.Entry<String, Postings> entry : range.entrySet()) {
+            // 정확히 일치하는 단어는 항상 포함, 나머지는 펼칠 수 있는 만큼만
+            if (result.size() >= MAX_PREFIX_EXPANSION && !entry.getKey().equals(token)) {
+                continue;
+            }
+            result.add(entry.getValue());
+        }
+        return result.toArray(new Postings[0]);
+    }
+
+    /**
+     * 첫 번째(가장 드문) 묶음의 메시지를 최근 순으로 훑으며, 나머지 묶음에도 모두 있는 메시지 수집
+     */
+    private int[] collectCandidates(List<Postings[]> groups) {
+        Postings[] rarest = groups.get(0);
+        int[] cursors = new int[rarest.length];
+        for (int i = 0; i < rarest.length; i++) {
+            cursors[i] = rarest[i].size - 1;
+        }
+
+        int[] candidates = new int[MAX_CANDIDATES];
+        int count = 0;
+        while (count < MAX_CANDIDATES) {
+            // 묶음 안의 postings 들 중 다음으로 큰(최근) 순번
+            int doc = -1;
+            for (int i = 0; i < rarest.length; i++) {
+                if (cursors[i] >= 0) {
+                    doc = Math.max(doc, rarest[i].docs[cursors[i]]);
+                }
+            }
+            if (doc < 0) {
+                break;
+            }
+            for (int i = 0; i < rarest.length; i++) {
+                while (cursors[i] >= 0 && rarest[i].docs[cursors[i]] == doc) {
+                    cursors[i]--;
+                }
+            }
+
+            boolean matchesAll = true;
+            for (int g = 1; g < groups.size() && matchesAll; g++) {
+                matchesAll = termFrequency(groups.get(g), doc) > 0;
+            }
+            if (matchesAll) {
+                candidates[count++] = doc;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private double score(List<Postings[]> groups, int doc) {
+        double score = 0;
+        for (Postings[] group : groups) {
+            int df = documentFrequency(group);
+            double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            int tf = termFrequency(group, doc);
+            score += idf * tf / (tf + TF_SATURATION);
+        }
+        return score;
+    }
+
+    private static int documentFrequency(Postings[] group) {
+        int df = 0;
+        for (Postings postings : group) {
+            df += postings.size;
+        }
+        return df;
+    }
+
+    private static int termFrequency(Postings[] group, int doc) {
+        int tf = 0;
+        for (Postings postings : group) {
+            tf += postings.count(doc);
+        }
+        return tf;
+    }
+
+    /**
+     * 문장을 검색 토큰으로 분리
+     *
+     * @param text 분리할 문장
+     * @return 출현 순서대로의 토큰 (중복 포함 - 출현 횟수가 점수에 반영됨)
+     */
+    static List<String> tokenize(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c)) {
+                int start = i;
+                while (i < length && isHangulSyllable(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(String.valueOf(c));
+                } else {
+                    for (int j = start; j + 1 < i; j++) {
+                        tokens.add(text.subSequence(j, j + 2).toString());
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                word.setLength(0);
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangulSyllable(text.charAt(i))) {
+                    word.append(Character.toLowerCase(text.charAt(i)));
+                    i++;
+                }
+                tokens.add(word.toString());
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isSingleSyllable(String token) {
+        return token.length() == 1 && isHangulSyllable(token.charAt(0));
+    }
+
+    /**
+     * 색인 스레드 종료
+     * 기존 기록 색인 중이면 멈추고, 지금까지 색인한 내용을 저장할 때까지 잠깐 기다립니다.
+     * 채팅 기록 저장소를 닫기 전에 호출합니다.
+     */
+    public void shutdown() {
+        if (indexer.isShutdown()) {
+            return;
+        }
+        closing = true;
+        indexer.execute(this::save);
+        indexer.shutdown();
+        try {
+            if (!indexer.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("검색 색인 저장이 끝나지 않은 채 종료합니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 한 토큰의 (메시지 순번, 출현 횟수) 목록
+     * 순번은 오름차순으로만 추가되며, 한 메시지에 여러 번 나온 토큰은 순번 하나의 출현 횟수만 늘립니다.
+     * 출현 횟수는 한 바이트로 보관하고 255 에서 멈춥니다. (점수에서는 이미 포화된 값)
+     */
+    private static final class Postings {
+        private int[] docs;
+        private byte[] frequencies;
+        private int size; // 메시지 수
+
+        Postings() {
+            this(2);
+        }
+
+        private Postings(int capacity) {
+            docs = new int[capacity];
+            frequencies = new byte[capacity];
+        }
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                if (frequencies[size - 1] != (byte) 0xFF) {
+                    frequencies[size - 1]++;
+                }
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = 1;
+            size++;
+        }
+
+        /**
+         * 메시지 안의 출현 횟수 (이진 탐색)
+         */
+        int count(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            return i >= 0 ? frequencies[i] & 0xFF : 0;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            int previous = 0;
+            for (int i = 0; i < size; i++) {
+                writeVarInt(out, docs[i] - previous);
+                out.writeByte(frequencies[i]);
+                previous = docs[i];
+            }
+        }
+
+        /**
+         * 파일에서 읽기 (순번이 documentCount 이상이거나 오름차순이 아니면 손상된 파일로 처리)
+         */
+        static Postings read(DataInputStream in, int documentCount) throws IOException {
+            int size = in.readInt();
+            if (size <= 0 || size > documentCount) {
+                throw new IOException("잘못된 postings 크기: " + size);
+            }
+            Postings postings = new Postings(size);
+            int doc = 0;
+            for (int i = 0; i < size; i++) {
+                int delta = readVarInt(in);
+                doc += delta;
+                if ((i > 0 && delta == 0) || doc < 0 || doc >= documentCount) {
+                    throw new IOException("잘못된 메시지 순번: " + doc);
+                }
+                postings.docs[i] = doc;
+                postings.frequencies[i] = in.readByte();
+            }
+            postings.size = size;
+            return postings;
+        }
+
+        private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+
+        private static int readVarInt(DataInputStream in) throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("잘못된 varint");
+        }
+    }
+}
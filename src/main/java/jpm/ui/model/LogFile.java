@@ -0,0 +1,248 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * 큰 로그 파일 읽기 (빌드/테스트 전체 출력 등)
+ * 파일을 구간별로 메모리 맵 하고, 줄 시작 위치 인덱스만 힙에 둡니다. 줄 내용은 필요할 때 맵에서 읽습니다.
+ *
+ * 인덱스는 {@link #refresh} 를 호출한 스레드에서 일정 크기씩 만들어 중간 결과를 바로 공개하므로,
+ * 파일이 커도 앞부분부터 바로 읽을 수 있습니다. 명령이 아직 출력을 쓰는 중이면 다시 호출해 늘어난 부분만 이어서 색인합니다.
+ * 색인과 읽기는 서로 다른 스레드에서 동시에 호출할 수 있습니다.
+ */
+public class LogFile implements Closeable {
+
+    private static final long SEGMENT_SIZE = 64L << 20;  // 맵 구간 크기 (64MB)
+    private static final int INDEX_CHUNK = 4 << 20;      // 한 번에 색인하고 공개하는 바이트 수
+    private static final int PAGE_BITS = 16;             // 인덱스 페이지 크기 (2^16 줄)
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int MAX_LINE_BYTES = 16 * 1024; // 화면에 보여줄 한 줄 최대 바이트 (넘으면 자름)
+
+    private final Path path;
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>(); // 맵 구간 (마지막 구간은 파일이 늘면 다시 맵)
+    private long[][] lineStarts = new long[16][];  // 줄 시작 위치 (페이지 단위로 늘려 큰 배열 복사를 피함)
+    private int startCount = 1;                     // 기록된 줄 시작 위치 수 (0 번 줄은 항상 0 에서 시작)
+    private long indexedSize = 0;                   // 색인이 끝난 파일 위치
+
+    private static final Logger LOGGER = Logger.getLogger(LogFile.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    private LogFile(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+        lineStarts[0] = new long[PAGE_SIZE];
+    }
+
+    /**
+     * 로그 파일 열기 (색인은 {@link #refresh} 에서)
+     *
+     * @param path 로그 파일
+     * @return 열린 로그 파일
+     * @throws IOException 파일 열기 실패
+     */
+    public static LogFile open(Path path) throws IOException {
+        return new LogFile(path, FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 색인된 줄 수 (마지막 줄이 줄바꿈으로 끝나지 않았어도 포함)
+     */
+    public synchronized int getLineCount() {
+        long lastStart = lineStart(startCount - 1);
+        return lastStart < indexedSize ? startCount : startCount - 1;
+    }
+
+    /**
+     * 색인된 파일 크기 (바이트)
+     */
+    public synchronized long getIndexedSize() {
+        return indexedSize;
+    }
+
+    /**
+     * 파일에서 늘어난 부분을 색인 (색인 전용 스레드에서 호출)
+     * 일정 크기마다 결과를 공개하므로 색인 중에도 앞부분의 줄을 읽을 수 있습니다.
+     *
+     * @param cancelled 중단 여부 (true 면 남은 색인을 다음 호출로 미룸)
+     * @return 줄 수가 늘었으면 true
+     * @throws IOException 파일 읽기 실패
+     */
+    public boolean refresh(BooleanSupplier cancelled) throws IOException {
+        int before = getLineCount();
+        long size = channel.size();
+        long position = getIndexedSize();
+        if (size < position) {
+            LOGGER.warning("로그 파일이 줄어듦 (다시 열어야 함): " + path);
+            return false;
+        }
+        mapUpTo(size);
+
+        long[] found = new long[1024];
+        while (position < size && !cancelled.getAsBoolean()) {
+            long end = Math.min(size, position + INDEX_CHUNK);
+            int count = 0;
+            for (long p = position; p < end; ) {
+                // 구간 경계에서 나눠 스캔
+                ByteBuffer segment = segmentAt(p);
+                int from = (int) (p % SEGMENT_SIZE);
+                int to = (int) Math.min(segment.limit(), from + (end - p));
+                for (int i = from; i < to; i++) {
+                    if (segment.get(i) == '\n') {
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = p + (i - from) + 1;
+                    }
+                }
+                p += to - from;
+            }
+            publish(found, count, end);
+            position = end;
+        }
+        return getLineCount() != before;
+    }
+
+    /**
+     * 파일 끝까지 맵 (마지막 구간은 늘어난 크기로 다시 맵)
+     */
+    private synchronized void mapUpTo(long size) throws IOException {
+        int needed = (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+        for (int k = 0; k < needed; k++) {
+            long start = k * SEGMENT_SIZE;
+            long length = Math.min(SEGMENT_SIZE, size - start);
+            if (k < segments.size() && segments.get(k).capacity() == length) {
+                continue;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            if (k < segments.size()) {
+                segments.set(k, mapped);
+            } else {
+                segments.add(mapped);
+            }
+        }
+    }
+
+    private synchronized ByteBuffer segmentAt(long position) {
+        return segments.get((int) (position / SEGMENT_SIZE));
+    }
+
+    /**
+     * 색인한 줄 시작 위치 공개
+     */
+    private synchronized void publish(long[] found, int count, long end) {
+        for (int i = 0; i < count; i++) {
+            int page = startCount >>> PAGE_BITS;
+            if (page == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, page * 2);
+            }
+            if (lineStarts[page] == null) {
+                lineStarts[page] = new long[PAGE_SIZE];
+            }
+            lineStarts[page][startCount & (PAGE_SIZE - 1)] = found[i];
+            startCount++;
+        }
+        indexedSize = end;
+    }
+
+    private long lineStart(int line) {
+        return lineStarts[line >>> PAGE_BITS][line & (PAGE_SIZE - 1)];
+    }
+
+    /**
+     * 줄 내용 읽기 (줄바꿈 제외, 너무 긴 줄은 앞부분만)
+     *
+     * @param line 줄 번호 (0 부터)
+     * @return 줄 내용, 범위를 벗어나면 빈 문자열
+     */
+    public String readLine(int line) {
+        long start;
+        long end;
+        synchronized (this) {
+            if (line < 0 || line >= getLineCount()) {
+                return "";
+            }
+            start = lineStart(line);
+            end = line + 1 < startCount ? lineStart(line + 1) - 1 : indexedSize; // 다음 줄 시작 - '\n'
+        }
+        if (end > start && byteAt(end - 1) == '\r') {
+            end--;
+        }
+        int length = (int) Math.min(end - start, MAX_LINE_BYTES);
+        byte[] bytes = new byte[length];
+        for (int read = 0; read < length; ) {
+            long p = start + read;
+            ByteBuffer segment = segmentAt(p);
+            int offset = (int) (p % SEGMENT_SIZE);
+            int n = Math.min(length - read, segment.limit() - offset);
+            segment.get(offset, bytes, read, n);
+            read += n;
+        }
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        return end - start > MAX_LINE_BYTES ? text + " …" : text;
+    }
+
+    private byte byteAt(long position) {
+        return segmentAt(position).get((int) (position % SEGMENT_SIZE));
+    }
+
+    /**
+     * 정규식과 일치하는 줄 찾기
+     * 줄을 하나씩 맵에서 읽어 검사하므로 파일 전체를 힙에 올리지 않습니다.
+     *
+     * @param pattern 찾을 정규식
+     * @param fromLine 검색을 시작할 줄 (이 줄은 제외)
+     * @param forward true 면 아래로, false 면 위로 검색
+     * @param cancelled 중단 여부 (새 검색이 시작되면 true)
+     * @return 일치하는 줄 번호, 없거나 중단되면 -1
+     */
+    public int search(Pattern pattern, int fromLine, boolean forward, BooleanSupplier cancelled) {
+        int count = getLineCount();
+        int step = forward ? 1 : -1;
+        for (int line = fromLine + step; line >= 0 && line < count; line += step) {
+            if ((line & 0xFFF) == 0 && cancelled.getAsBoolean()) {
+                return -1;
+            }
+            if (pattern.matcher(readLine(line)).find()) {
+                return line;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            segments.clear(); // 맵은 GC 시 해제
+        }
+        channel.close();
+    }
+}
@@ -0,0 +1,391 @@
+package jpm.ui.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 채팅 메시지 저장소 (필드별 배열)
+ * 메시지마다 String, LocalDateTime 같은 객체를 여러 개 두지 않고, 같은 필드끼리 기본형 배열에 모아 저장합니다.
+ *
+ * - 타입 : byte[] (enum 순서, 최상위 비트는 압축 여부)
+ * - 생성 시각 : long[] (epoch millis)
+ * - 내용 : 하나의 UTF-8 바이트 영역(arena)에 이어 붙이고, 위치와 길이만 int[] 에 보관
+ *
+ * 최근 메시지 몇 개를 뺀 오래된(다시 볼 일이 드문) 메시지는 순번 순서대로 32개씩 묶어 블록 단위로 Deflater 압축합니다.
+ * 짧은 메시지도 묶으면 메시지 사이의 반복(명령어, 빌드 출력, 한글 음절의 UTF-8 앞 바이트)이 함께 압축됩니다.
+ * 압축된 메시지의 위치는 블록을 푼 내용 안에서의 위치이며, 마지막으로 푼 블록 하나는 다시 쓰도록 보관합니다.
+ * 압축이나 해제로 생긴 빈 공간이 영역의 절반을 넘으면 영역을 한 번에 다시 채웁니다.
+ * 목록에는 순번만 가진 {@link ChatMessage} 뷰를 넘기며, 내용은 읽을 때마다 풀어서 만듭니다.
+ * 목록에서 빠진 메시지(채팅 기록에서 다시 읽을 수 있는 메시지)는 {@link #release} 로 내용을 놓아줍니다.
+ *
+ * 추가만 가능하고, 채팅 기록 스레드와 JavaFX 스레드에서 함께 쓰므로 모든 접근을 동기화합니다.
+ */
+public class MessageStore {
+
+    private static final int INITIAL_CAPACITY = 256;          // 처음 배열 크기 (메시지 수)
+    private static final int INITIAL_ARENA_SIZE = 32 * 1024;  // 처음 내용 영역 크기 (바이트)
+    private static final int DEFAULT_HOT_ENTRIES = 200;       // 압축하지 않고 두는 최근 메시지 수
+    private static final int BLOCK_SHIFT = 5;                 // 압축 블록 크기 (2^5 = 32 메시지)
+    private static final int BLOCK_ENTRIES = 1 << BLOCK_SHIFT;
+    private static final int COMPRESS_MIN_BYTES = 128;        // 블록 내용이 이보다 짧으면 압축하지 않음
+    private static final byte COMPRESSED = (byte) 0x80;       // 타입 바이트의 압축 표시
+    private static final byte RELEASED = 0x40;                // 타입 바이트의 내용 해제 표시
+    private static final byte TYPE_MASK = 0x3F;
+    private static final ChatMessage.MessageType[] TYPES = ChatMessage.MessageType.values();
+
+    private final int hotEntries;
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private int[] offsets = new int[INITIAL_CAPACITY];        // 내용 시작 위치 (압축된 경우 블록을 푼 내용 안에서의 위치)
+    private int[] lengths = new int[INITIAL_CAPACITY];        // 내용 길이 (UTF-8 바이트)
+    private byte[] arena = new byte[INITIAL_ARENA_SIZE];
+    private int size = 0;
+    private int arenaEnd = 0;         // 영역 사용 끝 위치
+    private int wastedBytes = 0;      // 압축이나 해제로 비게 된 바이트 수
+    private int compressedCount = 0;
+
+    // 블록별 압축 내용 (블록 순번 = 메시지 순번 >> BLOCK_SHIFT)
+    private int[] blockOffsets = new int[INITIAL_CAPACITY >> BLOCK_SHIFT];     // 영역에서의 압축 내용 위치
+    private int[] blockLengths = new int[INITIAL_CAPACITY >> BLOCK_SHIFT];     // 압축 내용 길이 (0 이면 압축하지 않았거나 모두 해제됨)
+    private int[] blockRawLengths = new int[INITIAL_CAPACITY >> BLOCK_SHIFT];  // 블록을 푼 내용 길이
+    private int processedBlocks = 0;           // 압축을 시도한 앞쪽 블록 수
+    private byte[] blockBuffer = new byte[0];  // 마지막으로 푼 블록 내용
+    private int bufferedBlock = -1;            // blockBuffer 에 풀어 둔 블록 (없으면 -1)
+    private Deflater deflater;        // 처음 압축할 때 생성
+    private Inflater inflater;        // 처음 압축을 풀 때 생성
+
+    /**
+     * 기본 저장소 생성자 (최근 메시지 200개 이후부터 압축)
+     */
+    public MessageStore() {
+        this(DEFAULT_HOT_ENTRIES);
+    }
+
+    /**
+     * 저장소 생성자
+     *
+     * @param hotEntries 압축하지 않고 두는 최근 메시지 수 (Integer.MAX_VALUE 면 압축하지 않음, 잠깐 쓰고 버리는 저장소용)
+     */
+    public MessageStore(int hotEntries) {
+        this.hotEntries = hotEntries;
+    }
+
+    /**
+     * 메시지 추가
+     *
+     * @param type 메시지 타입
+     * @param epochMillis 메시지 생성 시간 (epoch millis)
+     * @param content 메시지 내용
+     * @return 추가된 메시지의 뷰
+     */
+    public ChatMessage append(ChatMessage.MessageType type, long epochMillis, String content) {
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+        return append(type, epochMillis, ByteBuffer.wrap(utf8), 0, utf8.length);
+    }
+
+    /**
+     * 이미 UTF-8 로 인코딩된 내용으로 메시지 추가 (채팅 기록 파일에서 문자열을 거치지 않고 복사)
+     *
+     * @param type 메시지 타입
+     * @param epochMillis 메시지 생성 시간 (epoch millis)
+     * @param source 내용이 들어 있는 버퍼 (위치는 바뀌지 않음)
+     * @param position 버퍼에서의 내용 시작 위치
+     * @param length 내용 길이 (바이트)
+     * @return 추가된 메시지의 뷰
+     */
+    public synchronized ChatMessage append(ChatMessage.MessageType type, long epochMillis,
+                                           ByteBuffer source, int position, int length) {
+        ensureCapacity(size + 1);
+        ensureArena(length);
+        source.get(position, arena, arenaEnd, length);
+        types[size] = (byte) type.ordinal();
+        timestamps[size] = epochMillis;
+        offsets[size] = arenaEnd;
+        lengths[size] = length;
+        arenaEnd += length;
+        int index = size++;
+
+        // 최근 범위에서 모두 밀려난 블록 압축
+        while (((long) processedBlocks + 1 << BLOCK_SHIFT) <= (long) size - hotEntries) {
+            compressBlock(processedBlocks++);
+        }
+        return new StoredChatMessage(this, index);
+    }
+
+    /**
+     * 메시지 타입
+     */
+    public synchronized ChatMessage.MessageType typeAt(int index) {
+        Objects.checkIndex(index, size);
+        return TYPES[types[index] & TYPE_MASK];
+    }
+
+    /**
+     * 메시지 생성 시간 (epoch millis)
+     */
+    public synchronized long epochMillisAt(int index) {
+        Objects.checkIndex(index, size);
+        return timestamps[index];
+    }
+
+    /**
+     * 메시지 내용 (호출할 때마다 새 문자열 생성, 압축된 메시지는 블록 압축 해제, 놓아준 메시지는 빈 문자열)
+     */
+    public synchronized String contentAt(int index) {
+        Objects.checkIndex(index, size);
+        if ((types[index] & RELEASED) != 0) {
+            return "";
+        }
+        if ((types[index] & COMPRESSED) == 0) {
+            return new String(arena, offsets[index], lengths[index], StandardCharsets.UTF_8);
+        }
+        inflateBlock(index >> BLOCK_SHIFT);
+        return new String(blockBuffer, offsets[index], lengths[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 목록에서 빠진 메시지의 내용을 놓아줌
+     * 타입과 시간은 남고 내용은 빈 문자열이 되며, 놓아준 공간은 압축으로 생긴 빈 공간과 함께 정리됩니다.
+     * 압축된 메시지는 같은 블록의 메시지를 모두 놓아줄 때 블록 공간이 비워집니다.
+     * 다른 저장소의 메시지나 저장소에 없는 메시지(출력 중인 응답 등)는 무시합니다.
+     *
+     * @param released 목록에서 뺀 메시지
+     */
+    public synchronized void release(List<? extends ChatMessage> released) {
+        for (ChatMessage message : released) {
+            if (message instanceof StoredChatMessage stored && stored.isStoredIn(this)) {
+                int index = stored.getIndex();
+                if ((types[index] & RELEASED) != 0) {
+                    continue;
+                }
+                boolean compressed = (types[index] & COMPRESSED) != 0;
+                types[index] = (byte) ((types[index] & TYPE_MASK) | RELEASED);
+                if (compressed) {
+                    compressedCount--;
+                    releaseBlockIfUnused(index >> BLOCK_SHIFT);
+                } else {
+                    wastedBytes += lengths[index];
+                }
+                lengths[index] = 0;
+            }
+        }
+        if (wastedBytes > arenaEnd / 2) {
+            compact();
+        }
+    }
+
+    /**
+     * 저장된 메시지 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 압축된 메시지 수
+     */
+    public synchronized int compressedCount() {
+        return compressedCount;
+    }
+
+    /**
+     * 저장소가 차지하는 힙 크기 (배열 크기 합, 메시지 뷰 객체 제외)
+     */
+    public synchronized long footprintBytes() {
+        return types.length + timestamps.length * 8L + (offsets.length + lengths.length) * 4L + arena.length
+                + (blockOffsets.length + blockLengths.length + blockRawLengths.length) * 4L + blockBuffer.length;
+    }
+
+    /**
+     * 블록 하나를 압축해 제자리에 저장 (압축해도 작아지지 않으면 그대로 둠)
+     * 블록의 메시지는 영역에 순서대로 이어져 있으므로 압축 결과를 블록에 남은 첫 메시지 위치에 씁니다.
+     */
+    private void compressBlock(int block) {
+        int first = block << BLOCK_SHIFT;
+        int last = first + BLOCK_ENTRIES;
+        int start = -1;
+        int rawLength = 0;
+        for (int i = first; i < last; i++) {
+            if ((types[i] & RELEASED) == 0) {
+                start = start < 0 ? offsets[i] : start;
+                rawLength += lengths[i];
+            }
+        }
+        if (rawLength < COMPRESS_MIN_BYTES) {
+            return;
+        }
+
+        // 블록에 남은 메시지 내용을 모아 압축
+        byte[] raw = new byte[rawLength];
+        int position = 0;
+        for (int i = first; i < last; i++) {
+            if ((types[i] & RELEASED) == 0) {
+                System.arraycopy(arena, offsets[i], raw, position, lengths[i]);
+                position += lengths[i];
+            }
+        }
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        }
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        // 원래 길이보다 작아야 의미가 있으므로 출력도 그 이하로 제한
+        byte[] compressed = new byte[rawLength - 1];
+        int compressedLength = 0;
+        while (!deflater.finished() && compressedLength < compressed.length) {
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+        if (!deflater.finished()) {
+            return;
+        }
+
+        ensureBlockCapacity(block + 1);
+        System.arraycopy(compressed, 0, arena, start, compressedLength);
+        blockOffsets[block] = start;
+        blockLengths[block] = compressedLength;
+        blockRawLengths[block] = rawLength;
+        position = 0;
+        for (int i = first; i < last; i++) {
+            if ((types[i] & RELEASED) == 0) {
+                offsets[i] = position;
+                position += lengths[i];
+                types[i] |= COMPRESSED;
+                compressedCount++;
+            }
+        }
+        wastedBytes += rawLength - compressedLength;
+        if (wastedBytes > arenaEnd / 2) {
+            compact();
+        }
+    }
+
+    /**
+     * 압축된 블록을 blockBuffer 에 풀기 (마지막으로 푼 블록이면 그대로 사용)
+     */
+    private void inflateBlock(int block) {
+        if (bufferedBlock == block) {
+            return;
+        }
+        int rawLength = blockRawLengths[block];
+        if (blockBuffer.length < rawLength) {
+            blockBuffer = new byte[rawLength];
+        }
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        inflater.reset();
+        inflater.setInput(arena, blockOffsets[block], blockLengths[block]);
+        bufferedBlock = -1;
+        try {
+            int inflated = 0;
+            while (inflated < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(blockBuffer, inflated, rawLength - inflated);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                inflated += n;
+            }
+        } catch (DataFormatException e) {
+            // 이 저장소가 직접 압축한 내용이므로 일어나지 않음
+            throw new IllegalStateException("압축된 메시지 블록 해제 실패: " + block, e);
+        }
+        bufferedBlock = block;
+    }
+
+    /**
+     * 압축된 블록의 메시지를 모두 놓아줬으면 블록 공간을 빈 공간으로 처리
+     */
+    private void releaseBlockIfUnused(int block) {
+        int first = block << BLOCK_SHIFT;
+        for (int i = first; i < first + BLOCK_ENTRIES; i++) {
+            if ((types[i] & COMPRESSED) != 0) {
+                return;
+            }
+        }
+        wastedBytes += blockLengths[block];
+        blockLengths[block] = 0;
+        if (bufferedBlock == block) {
+            bufferedBlock = -1;
+        }
+    }
+
+    /**
+     * 압축이나 해제로 생긴 빈 공간을 없애도록 내용을 새 영역에 순서대로 복사
+     * 압축된 블록은 블록 단위로, 나머지 메시지는 메시지 단위로 복사하므로 메시지 순서가 유지됩니다.
+     */
+    private void compact() {
+        int live = arenaEnd - wastedBytes;
+        byte[] compacted = new byte[Math.max(INITIAL_ARENA_SIZE, live + (live >> 1))];
+        int end = 0;
+        for (int block = 0; block < processedBlocks; block++) {
+            if (blockLengths[block] > 0) {
+                System.arraycopy(arena, blockOffsets[block], compacted, end, blockLengths[block]);
+                blockOffsets[block] = end;
+                end += blockLengths[block];
+            } else {
+                end = copyEntries(compacted, end, block << BLOCK_SHIFT, (block + 1) << BLOCK_SHIFT);
+            }
+        }
+        end = copyEntries(compacted, end, processedBlocks << BLOCK_SHIFT, size);
+        arena = compacted;
+        arenaEnd = end;
+        wastedBytes = 0;
+    }
+
+    /**
+     * [from, to) 메시지 중 압축되지 않고 남아 있는 메시지의 내용을 새 영역으로 복사
+     *
+     * @return 복사 후 새 영역의 끝 위치
+     */
+    private int copyEntries(byte[] compacted, int end, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((types[i] & (COMPRESSED | RELEASED)) != 0) {
+                continue;
+            }
+            System.arraycopy(arena, offsets[i], compacted, end, lengths[i]);
+            offsets[i] = end;
+            end += lengths[i];
+        }
+        return end;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= types.length) {
+            return;
+        }
+        int grown = Math.max(capacity, types.length + (types.length >> 1));
+        types = Arrays.copyOf(types, grown);
+        timestamps = Arrays.copyOf(timestamps, grown);
+        offsets = Arrays.copyOf(offsets, grown);
+        lengths = Arrays.copyOf(lengths, grown);
+    }
+
+    private void ensureBlockCapacity(int blocks) {
+        if (blocks <= blockOffsets.length) {
+            return;
+        }
+        int grown = Math.max(blocks, blockOffsets.length + (blockOffsets.length >> 1));
+        blockOffsets = Arrays.copyOf(blockOffsets, grown);
+        blockLengths = Arrays.copyOf(blockLengths, grown);
+        blockRawLengths = Arrays.copyOf(blockRawLengths, grown);
+    }
+
+    private void ensureArena(int length) {
+        int needed = arenaEnd + length;
+        if (needed < 0) {
+            throw new IllegalStateException("메시지 저장 영역이 가득 찼습니다");
+        }
+        if (needed > arena.length) {
+            long grown = Math.max(needed, arena.length + (arena.length >> 1));
+            arena = Arrays.copyOf(arena, (int) Math.min(Integer.MAX_VALUE - 8, grown));
+        }
+    }
+}
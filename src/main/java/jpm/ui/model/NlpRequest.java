@@ -0,0 +1,152 @@
+package jpm.ui.model;
+
+import jpm.ui.protocol.ProtocolEvent;
+import jpm.ui.protocol.TextChunk;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * NLP 워커에 전달되는 단일 요청을 나타내는 클래스
+ * 요청 ID, 사용자 입력, 출력/종료 콜백을 함께 보관합니다.
+ *
+ * 요청을 실행하는 쪽(워커, 단발성 프로세스, 대기열)은 {@link #setCanceller} 로 중단 방법을 등록하고,
+ * {@link #cancel} 이 호출되면 요청을 먼저 종료 처리한 뒤 등록된 중단 작업을 실행합니다.
+ */
+public class NlpRequest {
+
+    private final long id;                              // 요청 ID (워커 프레임 태그)
+    private final String input;                         // 사용자 입력
+    private final Consumer<ProtocolEvent> outputHandler; // 출력 이벤트 처리 콜백
+    private final Consumer<Integer> completionCallback; // 요청 종료 콜백
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+    private final CountDownLatch done = new CountDownLatch(1); // 종료 대기용
+    private volatile Runnable canceller; // 실행 중인 작업을 중단하는 방법 (실행 단계마다 교체)
+
+    /**
+     * 요청 생성자
+     *
+     * @param id 요청 ID
+     * @param input 사용자 입력
+     * @param outputHandler 출력 이벤트 처리 콜백
+     * @param completionCallback 요청 종료 콜백 (종료 코드 전달)
+     */
+    public NlpRequest(long id, String input, Consumer<ProtocolEvent> outputHandler, Consumer<Integer> completionCallback) {
+        this.id = id;
+        this.input = input;
+        this.outputHandler = outputHandler;
+        this.completionCallback = completionCallback;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * 출력 이벤트 전달
+     *
+     * @param event 파싱된 출력 이벤트
+     */
+    public void output(ProtocolEvent event) {
+        if (!completed.get()) {
+            outputHandler.accept(event);
+        }
+    }
+
+    /**
+     * 안내/오류 문구를 본문 이벤트로 전달
+     *
+     * @param text 표시할 문구
+     */
+    public void outputText(String text) {
+        output(new TextChunk(text));
+    }
+
+    /**
+     * 요청 종료 처리
+     * 여러 경로(정상 종료, 워커 비정상 종료 등)에서 호출되어도 콜백은 한 번만 실행됩니다.
+     *
+     * @param exitCode 종료 코드
+     * @return 이번 호출로 종료 처리된 경우 true
+     */
+    public boolean complete(int exitCode) {
+        if (!completed.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            if (completionCallback != null) {
+                completionCallback.accept(exitCode);
+            }
+        } finally {
+            done.countDown();
+        }
+        return true;
+    }
+
+    /**
+     * 요청이 종료될 때까지 대기 (종료 콜백이 끝난 뒤 반환)
+     *
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public void awaitCompletion() throws InterruptedException {
+        done.await();
+    }
+
+    /**
+     * 요청 중단
+     * 종료 콜백을 바로 호출해 화면을 먼저 풀어주고, 이후 등록된 중단 작업(프로세스 종료 등)을 실행합니다.
+     * 이미 종료된 요청이면 아무것도 하지 않습니다.
+     *
+     * @param exitCode 종료 코드 ({@link ProcessManager#EXIT_CANCELLED}, {@link ProcessManager#EXIT_TIMEOUT})
+     * @return 이번 호출로 중단된 경우 true
+     */
+    public boolean cancel(int exitCode) {
+        if (!complete(exitCode)) {
+            return false;
+        }
+        cancelled.set(true);
+        Runnable current = canceller;
+        if (current != null) {
+            current.run();
+        }
+        return true;
+    }
+
+    /**
+     * 중단 작업 등록
+     * 요청이 다음 실행 단계(대기열 → 워커 등)로 넘어갈 때마다 새 중단 작업으로 교체합니다.
+     * 이미 중단된 요청이면 등록 즉시 실행합니다.
+     *
+     * @param canceller 실행 중인 작업을 중단하는 방법
+     */
+    public void setCanceller(Runnable canceller) {
+        this.canceller = canceller;
+        if (cancelled.get()) {
+            canceller.run();
+        }
+    }
+
+    /**
+     * 중단 여부 확인
+     *
+     * @return {@link #cancel} 로 종료된 요청이면 true
+     */
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * 종료 여부 확인
+     *
+     * @return 이미 종료된 요청이면 true
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+}
@@ -0,0 +1,451 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.monitoring.ProcessSpawnEvent;
+import jpm.ui.protocol.FrameParser;
+import jpm.ui.protocol.FrameReader;
+import jpm.ui.protocol.ProtocolEvent;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * 상주(warm) NLP 워커 프로세스를 관리하는 클래스
+ * Python 프로세스를 한 번만 실행해 두고 표준 입출력으로 요청을 주고받습니다.
+ *
+ * 프로토콜 (한 줄 = 한 프레임, UTF-8):
+ *   Java → Python : {@code <id>\t<input>}  (입력의 \\, \n, \r, \t 는 이스케이프)
+ *   Python → Java : {@code READY}              워커 준비 완료
+ *                   {@code OUT\t<id>\t<line>}  요청 id 의 출력 라인
+ *                   {@code DONE\t<id>\t<code>} 요청 id 의 처리 종료 (종료 코드)
+ *
+ * 단발성 실행용 스크립트는 첫 인자를 사용자 입력으로 처리하므로, {@code --worker} 로 실행해도 되는지는
+ * 스크립트를 실행하지 않고 내용으로 확인합니다 ({@link #isEnabledFor}).
+ * 워커 모드를 지원하는 스크립트는 최상위에 {@code JPM_WORKER_PROTOCOL = 1} 줄을 두고, {@code --worker} 인자로
+ * 실행되면 READY 를 출력한 뒤 표준 입력에서 한 줄씩 요청을 읽어 위 프레임으로 응답해야 합니다.
+ * (참고 구현: src/e2e/resources/jpm/ui/e2e/stand-in-nlp.py)
+ */
+public class NlpWorker {
+
+    private static final String WORKER_FLAG = "--worker";
+    private static final String FRAME_READY = "READY";
+    private static final String FRAME_OUT = "OUT";
+    private static final String FRAME_DONE = "DONE";
+    // 스크립트의 워커 프로토콜 지원 선언
+    private static final Pattern WORKER_DECLARATION = Pattern.compile("^JPM_WORKER_PROTOCOL\\s*=\\s*1\\s*(#.*)?$", Pattern.MULTILINE);
+
+    private final String pythonCommand;
+    private final String scriptPath;
+    private final Map<Long, NlpRequest> pending = new ConcurrentHashMap<>(); // 처리 중인 요청 (요청 ID 기준)
+
+    private Process process;
+    private BufferedWriter writer;
+    private volatile Process launching;         // READY 를 기다리는 중인 프로세스 (종료 시 바로 중단하기 위함)
+    private volatile boolean supported = true;  // 스크립트가 워커 모드를 지원하는지 여부
+    private volatile boolean everStarted = false;
+    private volatile boolean shutdown = false;
+    private int consecutiveFailures = 0;
+
+    private static final Logger LOGGER = Logger.getLogger(NlpWorker.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 워커 생성자 (프로세스는 첫 요청 또는 {@link #start()} 호출 시 실행)
+     *
+     * @param pythonCommand Python 명령어
+     * @param scriptPath NLP 스크립트 경로
+     */
+    public NlpWorker(String pythonCommand, String scriptPath) {
+        this.pythonCommand = pythonCommand;
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * 스크립트를 상주 워커로 실행할지 결정 (스크립트는 실행하지 않음)
+     * 프로퍼티/환경 변수로 직접 지정한 값이 있으면 그 값을, 없으면 스크립트의 워커 프로토콜 선언 여부를 따릅니다.
+     *
+     * @param scriptPath NLP 스크립트 경로
+     * @return 워커 모드로 실행해도 되면 true
+     */
+    public static boolean isEnabledFor(String scriptPath) {
+        String override = System.getProperty(JpmConstants.NLP_WORKER_PROPERTY, System.getenv(JpmConstants.NLP_WORKER_ENV));
+        if (override != null && !override.isBlank()) {
+            return Boolean.parseBoolean(override.trim());
+        }
+        if (scriptPath == null) {
+            return JpmConstants.NLP_WORKER_MODE;
+        }
+        try {
+            return WORKER_DECLARATION.matcher(Files.readString(Path.of(scriptPath), StandardCharsets.UTF_8)).find()
+                    || JpmConstants.NLP_WORKER_MODE;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "NLP 스크립트 워커 선언 확인 실패", e);
+            return JpmConstants.NLP_WORKER_MODE;
+        }
+    }
+
+    /**
+     * 워커 프로세스 실행
+     * READY 프레임을 받을 때까지 대기하며, 받지 못하면 워커 모드를 지원하지 않는 것으로 판단합니다.
+     *
+     * @return 워커가 준비되면 true
+     */
+    public synchronized boolean start() {
+        if (shutdown || !supported) {
+            return false;
+        }
+        if (isAlive()) {
+            return true;
+        }
+        if (consecutiveFailures >= JpmConstants.NLP_WORKER_MAX_RESTARTS) {
+            LOGGER.warning("NLP 워커 재시작 한도 초과 - 단발성 실행으로 전환");
+            supported = false;
+            return false;
+        }
+
+        // 인터프리터 시작부터 READY 수신까지를 실행 시간으로 기록
+        ProcessSpawnEvent spawn = new ProcessSpawnEvent();
+        spawn.begin();
+        try {
+            ProcessBuilder pb = new ProcessBuilder(pythonCommand, "-u", scriptPath, WORKER_FLAG);
+            pb.redirectError(ProcessBuilder.Redirect.INHERIT); // 프레임과 섞이지 않도록 표준 오류는 분리
+            pb.environment().put("PYTHONIOENCODING", "utf-8");
+
+            LOGGER.info("NLP 워커 시작: " + pythonCommand + " " + scriptPath + " " + WORKER_FLAG);
+            Process started = pb.start();
+            launching = started;
+            if (shutdown) {
+                // 실행하는 사이 종료가 요청됨 (종료 측이 아직 이 프로세스를 보지 못했을 수 있음)
+                started.destroyForcibly();
+                return false;
+            }
+            CountDownLatch signal = new CountDownLatch(1);
+            AtomicBoolean ready = new AtomicBoolean(false);
+
+            Thread readerThread = new Thread(() -> readLoop(started, signal, ready), "jpm-nlp-worker-reader");
+            readerThread.setDaemon(true);
+            readerThread.start();
+
+            // READY 수신 또는 출력 종료(EOF) 중 먼저 일어나는 쪽까지 대기
+            signal.await(JpmConstants.NLP_WORKER_READY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (shutdown) {
+                spawn.complete(0, ProcessSpawnEvent.MODE_WORKER, started, false);
+                started.destroyForcibly();
+                return false;
+            }
+            if (!ready.get() || !started.isAlive()) {
+                spawn.complete(0, ProcessSpawnEvent.MODE_WORKER, started, false);
+                started.destroyForcibly();
+                consecutiveFailures++;
+                if (!everStarted) {
+                    // 한 번도 READY 를 받지 못했다면 스크립트가 워커 모드를 지원하지 않는 것
+                    LOGGER.warning("NLP 스크립트가 워커 모드를 지원하지 않음 - 단발성 실행으로 전환");
+                    supported = false;
+                }
+                return false;
+            }
+
+            process = started;
+            writer = new BufferedWriter(new OutputStreamWriter(started.getOutputStream(), StandardCharsets.UTF_8));
+            everStarted = true;
+            consecutiveFailures = 0;
+            spawn.complete(0, ProcessSpawnEvent.MODE_WORKER, started, true);
+            return true;
+
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "NLP 워커 실행 실패", e);
+            spawn.complete(0, ProcessSpawnEvent.MODE_WORKER, null, false);
+            consecutiveFailures++;
+            if (!everStarted) {
+                supported = false;
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            launching = null;
+        }
+    }
+
+    /**
+     * 요청을 워커에 전달
+     * 워커가 준비되지 않았거나 전달에 실패하면 false 를 반환하며, 이 경우 호출 측에서 단발성 실행으로 대체합니다.
+     *
+     * @param request 전달할 요청
+     * @return 워커가 요청을 받아들였으면 true
+     */
+    public synchronized boolean submit(NlpRequest request) {
+        if (!start()) {
+            return false;
+        }
+        pending.put(request.getId(), request);
+        try {
+            writer.write(Long.toString(request.getId()));
+            writer.write('\t');
+            writer.write(escape(request.getInput()));
+            writer.write('\n');
+            writer.flush();
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "NLP 워커 요청 전달 실패", e);
+            pending.remove(request.getId());
+            process.destroyForcibly();
+            return false;
+        }
+    }
+
+    /**
+     * 워커 표준 출력 읽기 루프
+     * 프레임을 요청 ID 별로 분배하고, 프로세스 종료 시 남은 요청을 실패 처리합니다.
+     */
+    private void readLoop(Process worker, CountDownLatch signal, AtomicBoolean ready) {
+        try (InputStream in = worker.getInputStream()) {
+            new FrameReader(in).readFrames(line -> {
+                if (FRAME_READY.contentEquals(line)) {
+                    ready.set(true);
+                    signal.countDown();
+                    return;
+                }
+                dispatch(line);
+            });
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "NLP 워커 출력 읽기 종료", e);
+        } finally {
+            signal.countDown();
+            onWorkerExit(worker);
+        }
+    }
+
+    /**
+     * 프레임 한 줄을 해당 요청으로 전달
+     * 전달 받은 줄은 재사용 버퍼이므로 본문은 이벤트로 파싱한 뒤 넘깁니다.
+     */
+    private void dispatch(CharSequence line) {
+        int first = indexOf(line, '\t', 0);
+        int second = first < 0 ? -1 : indexOf(line, '\t', first + 1);
+        long id = second < 0 ? -1 : parseId(line, first + 1, second);
+        if (id < 0) {
+            LOGGER.fine("알 수 없는 워커 프레임 무시: " + line);
+            return;
+        }
+
+        if (FRAME_OUT.contentEquals(line.subSequence(0, first))) {
+            NlpRequest request = pending.get(id);
+            if (request != null) {
+                ProtocolEvent event = FrameParser.parse(line, second + 1, line.length());
+                if (event != null) {
+                    request.output(event);
+                }
+            }
+        } else if (FRAME_DONE.contentEquals(line.subSequence(0, first))) {
+            NlpRequest request = pending.remove(id);
+            if (request != null) {
+                int exitCode;
+                try {
+                    exitCode = Integer.parseInt(line.subSequence(second + 1, line.length()).toString().trim());
+                } catch (NumberFormatException e) {
+                    exitCode = ProcessManager.EXIT_WORKER_DIED;
+                }
+                if (exitCode != 0) {
+                    request.outputText("프로세스가 비정상 종료되었습니다 (코드: " + exitCode + ")");
+                }
+                request.complete(exitCode);
+            }
+        }
+    }
+
+    private static int indexOf(CharSequence s, char c, int from) {
+        for (int i = from; i < s.length(); i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 요청 ID 파싱 (숫자가 아니면 -1)
+     */
+    private static long parseId(CharSequence s, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        long id = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    /**
+     * 워커 프로세스 종료 처리
+     * 처리 중이던 요청은 실패로 종료하고, 종료 중이 아니라면 워커를 다시 실행합니다.
+     */
+    private void onWorkerExit(Process worker) {
+        synchronized (this) {
+            if (process != worker) {
+                return; // READY 이전에 실패한 프로세스
+            }
+            process = null;
+            writer = null;
+        }
+
+        for (NlpRequest request : pending.values()) {
+            request.outputText("NLP 워커 프로세스가 종료되었습니다.");
+            request.complete(ProcessManager.EXIT_WORKER_DIED);
+        }
+        pending.clear();
+
+        if (!shutdown) {
+            LOGGER.warning("NLP 워커 비정상 종료 - 재시작");
+            synchronized (this) {
+                consecutiveFailures++;
+            }
+            restartInBackground();
+        }
+    }
+
+    private void restartInBackground() {
+        Thread restartThread = new Thread(this::start, "jpm-nlp-worker-restart");
+        restartThread.setDaemon(true);
+        restartThread.start();
+    }
+
+    /**
+     * 처리 중인 요청 중단
+     * 워커는 요청 하나만 골라 멈출 수 없으므로 프로세스를 하위 프로세스까지 종료하고 새로 실행합니다.
+     * 프로세스를 먼저 분리해 두므로 종료로 인한 재시작 실패 횟수는 늘지 않습니다.
+     *
+     * @param requestId 중단할 요청 ID
+     */
+    public void cancel(long requestId) {
+        Process toKill;
+        synchronized (this) {
+            if (pending.remove(requestId) == null || process == null) {
+                return;
+            }
+            toKill = process;
+            process = null;
+            writer = null;
+        }
+        ProcessManager.destroyProcessTree(toKill.toHandle());
+        if (!shutdown) {
+            restartInBackground();
+        }
+    }
+
+    /**
+     * 입력 문자열 이스케이프 (한 줄 프레임 유지를 위함)
+     */
+    static String escape(String input) {
+        StringBuilder sb = new StringBuilder(input.length() + 8);
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 워커 프로세스 실행 여부
+     */
+    public synchronized boolean isAlive() {
+        return process != null && process.isAlive();
+    }
+
+    /**
+     * 워커 모드 지원 여부
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * 종료 상태로 표시 (대기하지 않음)
+     * 이후 요청 중단이나 비정상 종료가 있어도 워커를 다시 실행하지 않으며, READY 를 기다리는 중인 프로세스는
+     * 바로 종료해 {@link #start()} 가 잡고 있는 모니터를 곧 놓게 합니다.
+     */
+    void markShutdown() {
+        shutdown = true;
+        Process starting = launching;
+        if (starting != null) {
+            starting.destroyForcibly();
+        }
+    }
+
+    /**
+     * 워커 종료
+     * 표준 입력을 닫아 정상 종료를 유도하고, 응답이 없으면 강제 종료합니다.
+     */
+    public void shutdown() {
+        awaitExit(closeInput(), 500);
+    }
+
+    /**
+     * 종료 상태로 표시하고 표준 입력을 닫아 정상 종료 유도 (대기하지 않음)
+     *
+     * @return 종료를 기다려야 할 프로세스 (없으면 null)
+     */
+    Process closeInput() {
+        markShutdown();
+        synchronized (this) {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException ignored) {
+                    // 이미 닫힌 경우 무시
+                }
+            }
+            return process;
+        }
+    }
+
+    /**
+     * 프로세스 종료 대기 - 시간 안에 끝나지 않으면 강제 종료
+     *
+     * @param toStop {@link #closeInput()} 이 반환한 프로세스
+     * @param timeoutMillis 대기 시간 (ms)
+     */
+    static void awaitExit(Process toStop, long timeoutMillis) {
+        if (toStop == null) {
+            return;
+        }
+        try {
+            if (!toStop.waitFor(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                toStop.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            toStop.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
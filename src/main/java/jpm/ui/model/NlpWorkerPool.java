@@ -0,0 +1,471 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 미리 실행해 둔 NLP 워커 프로세스 풀
+ * 요청을 대기열에 넣고 유휴 워커에 하나씩 배정하며, 부하에 따라 워커 수를 늘리거나 줄입니다.
+ * 각 워커는 한 번에 하나의 요청만 처리하고, 응답은 요청 ID 로 원래 요청에 전달됩니다.
+ */
+public class NlpWorkerPool {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 500; // 종료 시 워커들이 스스로 끝나기를 기다리는 시간
+
+    private final String pythonCommand;
+    private final String scriptPath;
+    private final int minSize;                          // 항상 유지할 워커 수
+    private final int maxSize;                          // 최대 워커 수
+    private final long idleTimeoutMillis;               // 유휴 워커 정리 기준 시간
+    private final Consumer<NlpRequest> fallback;        // 워커 모드 미지원 시 요청 처리기
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<NlpRequest> queue = new ArrayDeque<>();   // 배정 대기 요청
+    private final Deque<PooledWorker> idle = new ArrayDeque<>();  // 유휴 워커 (최근 사용 순)
+    private final List<PooledWorker> workers = new ArrayList<>(); // 전체 워커
+    private final List<NlpWorker> launching = new ArrayList<>();  // 실행 중인(READY 대기) 워커
+    private int starting = 0;                                     // 실행 중인(READY 대기) 워커 수
+    private boolean supported = true;
+    private boolean shutdown = false;
+    private long retiredBusyNanos = 0;                            // 정리된 워커의 누적 처리 시간
+
+    private final Thread dispatcher;
+    private final ScheduledExecutorService reaper;
+
+    private static final Logger LOGGER = Logger.getLogger(NlpWorkerPool.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 풀에 속한 워커와 사용 통계
+     */
+    private static class PooledWorker {
+        final NlpWorker worker;
+        long busySince = 0;    // 처리 시작 시각 (nanoTime, 0 이면 유휴)
+        long busyNanos = 0;    // 누적 처리 시간
+        long idleSince = System.nanoTime();
+
+        PooledWorker(NlpWorker worker) {
+            this.worker = worker;
+        }
+    }
+
+    /**
+     * 풀 생성자
+     * 최소 개수의 워커를 백그라운드에서 미리 실행합니다.
+     *
+     * @param pythonCommand Python 명령어
+     * @param scriptPath NLP 스크립트 경로
+     * @param minSize 최소 워커 수
+     * @param maxSize 최대 워커 수
+     * @param idleTimeoutMillis 최소 개수를 넘는 유휴 워커를 정리하기까지의 시간
+     * @param fallback 워커 모드를 사용할 수 없을 때 대기 요청을 넘겨받을 처리기
+     */
+    public NlpWorkerPool(String pythonCommand, String scriptPath, int minSize, int maxSize,
+                         long idleTimeoutMillis, Consumer<NlpRequest> fallback) {
+        this.pythonCommand = pythonCommand;
+        this.scriptPath = scriptPath;
+        this.minSize = Math.max(0, minSize);
+        this.maxSize = Math.max(1, Math.max(this.minSize, maxSize));
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.fallback = fallback;
+
+        dispatcher = new Thread(this::dispatchLoop, "jpm-nlp-pool-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+
+        reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "jpm-nlp-pool-reaper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1_000, idleTimeoutMillis / 2);
+        reaper.scheduleWithFixedDelay(this::retireIdleWorkers, period, period, TimeUnit.MILLISECONDS);
+
+        lock.lock();
+        try {
+            for (int i = 0; i < this.minSize; i++) {
+                spawnWorker();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * CPU 코어 수에 맞춘 최대 워커 수
+     */
+    public static int defaultMaxSize() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * 요청을 대기열에 추가
+     *
+     * @param request 처리할 요청
+     * @return 워커 모드를 사용할 수 없으면 false (호출 측에서 직접 처리)
+     */
+    public boolean submit(NlpRequest request) {
+        lock.lock();
+        try {
+            if (!supported || shutdown) {
+                return false;
+            }
+            queue.addLast(request);
+            // 배정 전에 중단되면 대기열에서 제거
+            request.setCanceller(() -> removeQueued(request));
+            growIfNeeded();
+            changed.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 곧 들어올 요청에 대비해 유휴 워커를 미리 준비
+     * 배정을 기다리는 요청을 빼고도 유휴(준비 중 포함) 워커가 idleTarget 개가 되도록 워커를 추가합니다.
+     * 최소 개수를 넘는 워커는 쓰이지 않으면 다른 유휴 워커와 같이 유휴 시간 기준으로 정리됩니다.
+     *
+     * @param idleTarget 준비해 둘 유휴 워커 수 (최대 워커 수를 넘지 않음)
+     */
+    public void prewarm(int idleTarget) {
+        lock.lock();
+        try {
+            if (!supported || shutdown) {
+                return;
+            }
+            while (idle.size() + starting - queue.size() < idleTarget && workers.size() + starting < maxSize) {
+                spawnWorker();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 디스패처 루프
+     * 대기 요청과 유휴 워커가 모두 있을 때 하나씩 짝지어 전달합니다.
+     */
+    private void dispatchLoop() {
+        while (true) {
+            NlpRequest request;
+            PooledWorker pooled;
+            lock.lock();
+            try {
+                while (!shutdown && (queue.isEmpty() || idle.isEmpty())) {
+                    changed.await();
+                }
+                if (shutdown) {
+                    return;
+                }
+                request = queue.pollFirst();
+                if (request.isCompleted()) {
+                    continue; // 대기 중 중단된 요청
+                }
+                pooled = idle.pollFirst();
+                pooled.busySince = System.nanoTime();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            dispatch(pooled, request);
+        }
+    }
+
+    /**
+     * 대기 중인 요청 제거 (배정 전 중단)
+     */
+    private void removeQueued(NlpRequest request) {
+        lock.lock();
+        try {
+            queue.remove(request);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 워커에 요청 전달
+     * 종료 시 워커를 유휴 상태로 돌려놓도록 요청을 감싸서 전달합니다.
+     */
+    private void dispatch(PooledWorker pooled, NlpRequest request) {
+        NlpRequest routed = new NlpRequest(request.getId(), request.getInput(), request::output, exitCode -> {
+            request.complete(exitCode);
+            release(pooled);
+        });
+        if (pooled.worker.submit(routed)) {
+            // 처리 중 중단되면 워커 프로세스를 교체한 뒤 워커를 유휴 목록으로 반환
+            request.setCanceller(() -> {
+                pooled.worker.cancel(routed.getId());
+                routed.complete(ProcessManager.EXIT_CANCELLED);
+            });
+            return;
+        }
+
+        // 워커 재시작 실패 - 풀에서 제거하고 요청은 다시 대기열 앞으로
+        LOGGER.warning("NLP 워커 전달 실패 - 워커 제거 (요청 " + request.getId() + ")");
+        lock.lock();
+        try {
+            retire(pooled);
+            queue.addFirst(request);
+            if (!pooled.worker.isSupported() && workers.isEmpty() && starting == 0) {
+                markUnsupported();
+                return;
+            }
+            growIfNeeded();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리를 마친 워커를 유휴 목록으로 반환
+     */
+    private void release(PooledWorker pooled) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            pooled.busyNanos += now - pooled.busySince;
+            pooled.busySince = 0;
+            pooled.idleSince = now;
+            if (shutdown || !workers.contains(pooled)) {
+                return;
+            }
+            idle.addFirst(pooled); // 최근에 쓴 워커부터 재사용 (오래 쉰 워커는 정리 대상)
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 요청이 유휴 워커보다 많으면 워커 추가 (lock 보유 상태에서 호출)
+     */
+    private void growIfNeeded() {
+        while (queue.size() > idle.size() + starting && workers.size() + starting < maxSize) {
+            spawnWorker();
+        }
+    }
+
+    /**
+     * 새 워커를 백그라운드에서 실행 (lock 보유 상태에서 호출)
+     */
+    private void spawnWorker() {
+        starting++;
+        NlpWorker worker = new NlpWorker(pythonCommand, scriptPath);
+        launching.add(worker);
+        Thread starter = new Thread(() -> {
+            boolean ready = worker.start();
+            lock.lock();
+            try {
+                starting--;
+                launching.remove(worker);
+                if (ready && !shutdown) {
+                    PooledWorker pooled = new PooledWorker(worker);
+                    workers.add(pooled);
+                    idle.addFirst(pooled);
+                    changed.signalAll();
+                    return;
+                }
+                if (!worker.isSupported() && workers.isEmpty() && starting == 0) {
+                    markUnsupported();
+                }
+            } finally {
+                lock.unlock();
+            }
+            worker.shutdown();
+        }, "jpm-nlp-pool-starter");
+        starter.setDaemon(true);
+        starter.start();
+    }
+
+    /**
+     * 워커 모드 미지원 처리 (lock 보유 상태에서 호출)
+     * 대기 중인 요청을 모두 대체 처리기로 넘깁니다.
+     */
+    private void markUnsupported() {
+        LOGGER.warning("NLP 워커 풀 사용 불가 - 대기 요청을 단발성 실행으로 전환");
+        supported = false;
+        NlpRequest request;
+        while ((request = queue.pollFirst()) != null) {
+            fallback.accept(request);
+        }
+    }
+
+    /**
+     * 최소 개수를 넘는 오래된 유휴 워커 정리
+     */
+    private void retireIdleWorkers() {
+        List<PooledWorker> retired = new ArrayList<>();
+        lock.lock();
+        try {
+            long threshold = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+            // 유휴 목록의 뒤쪽일수록 오래 쉰 워커
+            while (workers.size() > minSize && !idle.isEmpty() && idle.peekLast().idleSince < threshold) {
+                PooledWorker pooled = idle.pollLast();
+                retire(pooled);
+                retired.add(pooled);
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (PooledWorker pooled : retired) {
+            LOGGER.info("유휴 NLP 워커 정리");
+            pooled.worker.shutdown();
+        }
+    }
+
+    /**
+     * 워커를 풀에서 제거 (lock 보유 상태에서 호출)
+     */
+    private void retire(PooledWorker pooled) {
+        workers.remove(pooled);
+        idle.remove(pooled);
+        retiredBusyNanos += pooled.busyNanos;
+    }
+
+    /**
+     * 배정을 기다리는 요청 수
+     */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 중인 워커 수 (준비 중인 워커 제외)
+     */
+    public int getWorkerCount() {
+        lock.lock();
+        try {
+            return workers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 요청을 처리 중인 워커 수
+     */
+    public int getBusyWorkerCount() {
+        lock.lock();
+        try {
+            return workers.size() - idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 워커가 요청 처리에 사용한 누적 시간 (처리 중인 요청 포함)
+     *
+     * @return 누적 처리 시간 (ms)
+     */
+    public long getTotalBusyTimeMillis() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long total = retiredBusyNanos;
+            for (PooledWorker pooled : workers) {
+                total += pooled.busyNanos;
+                if (pooled.busySince != 0) {
+                    total += now - pooled.busySince;
+                }
+            }
+            return TimeUnit.NANOSECONDS.toMillis(total);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최대 워커 수
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 풀과 모든 워커를 종료 상태로 표시 (대기하지 않음)
+     * 요청을 중단하기 전에 호출하면, 중단으로 교체되는 워커가 다시 실행되지 않습니다.
+     * READY 를 기다리는 중인 워커도 바로 중단합니다.
+     */
+    public void markShutdown() {
+        List<NlpWorker> toMark = new ArrayList<>();
+        lock.lock();
+        try {
+            shutdown = true;
+            for (PooledWorker pooled : workers) {
+                toMark.add(pooled.worker);
+            }
+            toMark.addAll(launching);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (NlpWorker worker : toMark) {
+            worker.markShutdown();
+        }
+    }
+
+    /**
+     * 풀 종료
+     * 모든 워커를 종료하며, 대기 중인 요청은 중단 코드로 종료합니다.
+     * 워커들의 표준 입력을 한꺼번에 닫은 뒤 같은 대기 시간 안에서 종료를 기다립니다.
+     */
+    public void shutdown() {
+        markShutdown();
+        List<PooledWorker> toStop;
+        List<NlpRequest> abandoned;
+        lock.lock();
+        try {
+            toStop = new ArrayList<>(workers);
+            abandoned = new ArrayList<>(queue);
+            workers.clear();
+            idle.clear();
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+        reaper.shutdownNow();
+        for (NlpRequest request : abandoned) {
+            request.complete(ProcessManager.EXIT_INTERRUPTED);
+        }
+        List<Process> stopping = new ArrayList<>();
+        for (PooledWorker pooled : toStop) {
+            stopping.add(pooled.worker.closeInput());
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MS);
+        for (Process process : stopping) {
+            NlpWorker.awaitExit(process, Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+    }
+}
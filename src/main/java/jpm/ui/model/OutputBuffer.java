@@ -0,0 +1,224 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.protocol.OutputSummary;
+import jpm.ui.protocol.ProtocolEvent;
+import jpm.ui.protocol.TextChunk;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 요청 하나의 출력 버퍼
+ * 출력이 아무리 길어도 메모리 사용량이 일정하도록, 응답 본문 줄을 다음과 같이 다룹니다.
+ *
+ * 1. 앞쪽 headLines 줄은 바로 전달합니다. (일반적인 응답은 여기서 끝)
+ * 2. 그 뒤의 줄은 전달하지 않고 마지막 tailLines 줄만 고정 크기 링 버퍼에 보관합니다.
+ *    이때부터 앞부분을 포함한 전체 출력을 임시 파일에 기록합니다.
+ * 3. 처음으로 줄이 생략될 때 기록 중인 파일을 중간 요약으로 알려, 명령이 끝나기 전에도 전체 출력을 볼 수 있게 합니다.
+ * 4. 출력 구간이 끝나면(OUTPUT;START/END 또는 요청 종료) 생략된 줄 수, 보관한 마지막 줄, 파일 경로를
+ *    {@link OutputSummary} 로 한 번 전달하고 처음 상태로 돌아갑니다.
+ *
+ * 토큰 단위 출력(inline)과 진행 상태 등 다른 이벤트는 그대로 전달합니다.
+ * 출력 읽기 스레드와 요청 종료 스레드에서 함께 호출되므로 모든 메서드를 동기화합니다.
+ */
+public class OutputBuffer {
+
+    private final int headLines;
+    private final Consumer<ProtocolEvent> downstream; // 줄인 출력을 받을 콜백
+    private final List<String> head;   // 바로 전달한 앞부분 (임시 파일에 처음부터 기록하기 위해 보관)
+    private final String[] tail;       // 앞부분 이후의 마지막 줄 (링 버퍼)
+    private int tailStart = 0;         // 링 버퍼에서 가장 오래된 줄의 위치
+    private int tailSize = 0;
+    private long heldLines = 0;        // 앞부분 이후에 받은 줄 수
+    private Path spillFile;            // 전체 출력 임시 파일
+    private BufferedWriter spillWriter;
+    private boolean spillFailed = false;
+    private boolean finished = false;
+
+    private static final Logger LOGGER = Logger.getLogger(OutputBuffer.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 출력 버퍼 생성자
+     *
+     * @param headLines 바로 전달할 앞부분 줄 수
+     * @param tailLines 요약에 포함할 마지막 줄 수
+     * @param downstream 줄인 출력을 받을 콜백
+     */
+    public OutputBuffer(int headLines, int tailLines, Consumer<ProtocolEvent> downstream) {
+        this.headLines = headLines;
+        this.tail = new String[Math.max(1, tailLines)];
+        this.head = new ArrayList<>(headLines);
+        this.downstream = downstream;
+    }
+
+    /**
+     * 출력 이벤트 추가
+     *
+     * @param event 프로세스 출력 이벤트
+     */
+    public synchronized void accept(ProtocolEvent event) {
+        if (finished) {
+            return; // 종료 후 늦게 도착한 출력
+        }
+        if (event instanceof TextChunk chunk && !chunk.isInline()) {
+            if (heldLines == 0 && head.size() < headLines) {
+                head.add(chunk.getText());
+                downstream.accept(event);
+            } else {
+                hold(chunk.getText());
+            }
+            return;
+        }
+        // 응답 구간이 바뀌면 지금까지 보관한 줄을 먼저 요약
+        if (event.getType() == ProtocolEvent.Type.OUTPUT_START || event.getType() == ProtocolEvent.Type.OUTPUT_END) {
+            flush();
+        }
+        downstream.accept(event);
+    }
+
+    /**
+     * 요청 종료 - 남은 줄을 요약해 전달하고 이후 출력은 무시
+     */
+    public synchronized void finish() {
+        if (!finished) {
+            flush();
+            finished = true;
+        }
+    }
+
+    /**
+     * 앞부분 이후의 줄 보관 (링 버퍼 + 임시 파일)
+     */
+    private void hold(String line) {
+        if (heldLines == 0) {
+            openSpillFile();
+        }
+        heldLines++;
+        if (tailSize < tail.length) {
+            tail[(tailStart + tailSize++) % tail.length] = line;
+        } else {
+            tail[tailStart] = line; // 가장 오래된 줄 덮어쓰기
+            tailStart = (tailStart + 1) % tail.length;
+        }
+        writeLine(line);
+        if (heldLines == tail.length + 1 && spillFile != null) {
+            // 처음 생략된 줄 - 이제 파일이 남으므로 기록 중인 파일을 먼저 알림
+            flushSpillFile();
+            downstream.accept(new OutputSummary(head.size() + heldLines, 1, List.of(), spillFile, false));
+        }
+    }
+
+    /**
+     * 보관한 줄을 요약 이벤트로 전달하고 처음 상태로 초기화
+     */
+    private void flush() {
+        if (heldLines > 0) {
+            List<String> lines = new ArrayList<>(tailSize);
+            for (int i = 0; i < tailSize; i++) {
+                lines.add(tail[(tailStart + i) % tail.length]);
+            }
+            long omitted = heldLines - tailSize;
+            Path file = closeSpillFile(omitted > 0);
+            downstream.accept(new OutputSummary(head.size() + heldLines, omitted, lines, file, true));
+            LOGGER.fine("출력 요약: " + (head.size() + heldLines) + "줄 중 " + omitted + "줄 생략" + (file != null ? " (" + file + ")" : ""));
+        }
+        head.clear();
+        tailStart = 0;
+        tailSize = 0;
+        heldLines = 0;
+        spillFailed = false;
+    }
+
+    /**
+     * 임시 파일을 만들고 이미 전달한 앞부분부터 기록
+     */
+    private void openSpillFile() {
+        try {
+            spillFile = Files.createTempFile("jpm-output-", ".log");
+            spillFile.toFile().deleteOnExit();
+            spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            for (String line : head) {
+                spillWriter.write(line);
+                spillWriter.newLine();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "출력 임시 파일 생성 실패", e);
+            spillFailed = true;
+            closeSpillFile(false);
+        }
+    }
+
+    /**
+     * 버퍼에 남은 내용을 파일에 반영 (보기 창이 기록 중인 파일을 읽을 수 있도록)
+     */
+    private void flushSpillFile() {
+        try {
+            if (spillWriter != null) {
+                spillWriter.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "출력 임시 파일 기록 실패", e);
+        }
+    }
+
+    private void writeLine(String line) {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.write(line);
+            spillWriter.newLine();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "출력 임시 파일 기록 실패", e);
+            spillFailed = true;
+            closeSpillFile(false);
+        }
+    }
+
+    /**
+     * 임시 파일 닫기
+     *
+     * @param keep 파일을 남길지 여부 (생략된 줄이 없으면 화면에 모두 보이므로 삭제)
+     * @return 남긴 파일, 삭제했거나 기록에 실패했으면 null
+     */
+    private Path closeSpillFile(boolean keep) {
+        Path file = spillFile;
+        try {
+            if (spillWriter != null) {
+                spillWriter.close();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "출력 임시 파일 닫기 실패", e);
+            spillFailed = true;
+        }
+        spillWriter = null;
+        spillFile = null;
+        if (file != null && (!keep || spillFailed)) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "출력 임시 파일 삭제 실패: " + file, e);
+            }
+            return null;
+        }
+        return file;
+    }
+}
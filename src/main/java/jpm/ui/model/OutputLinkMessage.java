@@ -0,0 +1,62 @@
+package jpm.ui.model;
+
+import java.nio.file.Path;
+
+/**
+ * 요약된 긴 출력의 전체 내용을 여는 링크 메시지
+ * 요약된 응답 바로 뒤에 추가되며, 전체 출력이 기록된 임시 파일을 가리킵니다.
+ * 임시 파일은 앱 종료 시 삭제되므로 채팅 기록에는 저장하지 않습니다.
+ */
+public class OutputLinkMessage extends ChatMessage {
+
+    private final Path fullOutput;  // 전체 출력 파일
+    private final long totalLines;  // 전체 출력 줄 수
+    private final long epochMillis = System.currentTimeMillis(); // 생성 시간
+
+    /**
+     * 링크 메시지 생성자
+     *
+     * @param fullOutput 전체 출력 파일
+     * @param totalLines 전체 출력 줄 수 (아직 기록 중이면 음수)
+     */
+    public OutputLinkMessage(Path fullOutput, long totalLines) {
+        this.fullOutput = fullOutput;
+        this.totalLines = totalLines;
+    }
+
+    /**
+     * 링크 문구 (호출할 때마다 생성)
+     */
+    @Override
+    public String getContent() {
+        return totalLines < 0 ? "전체 출력 보기 (기록 중)" : String.format("전체 출력 보기 (%,d줄)", totalLines);
+    }
+
+    @Override
+    public MessageType getType() {
+        return MessageType.SYSTEM;
+    }
+
+    @Override
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+
+    /**
+     * 전체 출력 파일 getter
+     *
+     * @return 전체 출력이 기록된 임시 파일
+     */
+    public Path getFullOutput() {
+        return fullOutput;
+    }
+
+    /**
+     * 전체 출력 줄 수 getter
+     *
+     * @return 전체 출력 줄 수, 아직 기록 중이면 음수
+     */
+    public long getTotalLines() {
+        return totalLines;
+    }
+}
@@ -2,11 +2,27 @@ package jpm.ui.model;
 
 import jpm.ui.constants.DevelopmentLevel;
 import jpm.ui.constants.JpmConstants;
+import jpm.ui.monitoring.ProcessSpawnEvent;
+import jpm.ui.monitoring.RequestTrace;
+import jpm.ui.protocol.FrameReader;
+import jpm.ui.protocol.ProtocolEvent;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,16 +31,36 @@ import java.net.URISyntaxException;
 /**
  * 외부 프로세스 실행 및 통신을 담당하는 클래스
  * jpm-nlp와 jpm-core 프로세스와의 통신을 관리합니다.
+ *
+ * 요청마다 가상 스레드에서 {@link RequestScope} 를 열어 전달, 출력 읽기, 종료 대기, 제한 시간을 한 범위로 묶습니다.
+ * 하위 작업이 실패하면 요청 하나의 결과로 전달되고, {@link #shutdown} 은 열린 범위가 모두 닫힐 때까지 기다립니다.
+ * 요청마다 {@link RequestTrace} 로 프로세스 실행, 첫 응답, 진행 단계, 출력 구간, 종료 시간을 JFR 이벤트로 남깁니다.
  */
 public class ProcessManager {
 
+    // 종료 코드 (프로세스 자체 종료 코드와 구분되는 음수 값)
+    public static final int EXIT_IO_ERROR = -1;       // 프로세스 통신 오류
+    public static final int EXIT_INTERRUPTED = -2;    // 실행 중단
+    public static final int EXIT_WORKER_DIED = -3;    // 상주 워커 비정상 종료
+    public static final int EXIT_TIMEOUT = -4;        // 요청 제한 시간 초과
+    public static final int EXIT_CANCELLED = -5;      // 사용자가 요청 중단
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 3_000; // 종료 시 진행 중인 요청 범위가 닫히기를 기다리는 최대 시간
+    // 캐시에 저장할 최대 출력 이벤트 수 (넘으면 요약되는 긴 출력이므로 캐시하지 않음)
+    private static final int MAX_RECORDED_EVENTS = JpmConstants.OUTPUT_HEAD_LINES + JpmConstants.OUTPUT_TAIL_LINES;
+
     // 외부 프로세스 실행 경로 (실제 경로로 변경 필요)
-    private final String pythonCommand; // 시스템에 맞는 Python 명령어 ("python" 또는 "python3")
+    private final CompletableFuture<PythonInterpreter> interpreter; // 백그라운드에서 탐색되는 Python 인터프리터
     private String NLP_SCRIPT_PATH;
 
-    private final Consumer<String> outputHandler; // 출력 처리 콜백
+    private final Consumer<ProtocolEvent> outputHandler; // 출력 이벤트 처리 콜백 (출력 읽기 스레드에서 호출)
     private final Consumer<Integer> processCompletionCallback; // 프로세스 종료 후 콜백
-    private final ExecutorService executorService; // 비동기 작업 실행기
+    private final ExecutorService executorService; // 요청마다 가상 스레드를 만드는 실행기
+    private final AtomicLong requestIdSequence = new AtomicLong(); // 요청 ID 발급기
+    private final CompletableFuture<NlpWorkerPool> workerPool; // 상주 NLP 워커 풀 (워커 모드가 아니면 null 로 완료)
+    private final ResponseCache responseCache; // 응답 캐시 (사용하지 않으면 null)
+    private final Map<NlpRequest, RequestScope> scopes = new ConcurrentHashMap<>(); // 진행 중인 요청과 그 범위
+    private volatile boolean closed = false; // 종료 후에는 새 요청을 받지 않음
 
     private static final Logger LOGGER = Logger.getLogger(ProcessManager.class.getName());
     // Logger 레벨 초기화
@@ -36,136 +72,388 @@ public class ProcessManager {
         }
     }
 
+    /**
+     * 요청마다 콜백을 지정하는 경우의 프로세스 매니저 생성자
+     * {@link #processUserInput(String, long, Consumer, Consumer)} 로 요청합니다.
+     */
+    public ProcessManager() {
+        this(event -> { }, exitCode -> { });
+    }
+
     /**
      * 프로세스 매니저 생성자
      *
-     * @param outputHandler 프로세스 출력 처리 콜백
+     * @param outputHandler 프로세스 출력 이벤트 처리 콜백
      */
-    public ProcessManager(Consumer<String> outputHandler, Consumer<Integer> processCompletionCallback) {
-        try {
-            File jarFile = new File(ProcessManager.class.getProtectionDomain()
-                    .getCodeSource().getLocation().toURI());
+    public ProcessManager(Consumer<ProtocolEvent> outputHandler, Consumer<Integer> processCompletionCallback) {
+        String scriptOverride = System.getProperty(JpmConstants.NLP_SCRIPT_OVERRIDE_PROPERTY);
+        if (scriptOverride != null && !scriptOverride.isBlank()) {
+            // 직접 지정한 스크립트 (대역 스크립트 등)
+            this.NLP_SCRIPT_PATH = new File(scriptOverride).getAbsolutePath();
+        } else {
+            try {
+                File jarFile = new File(ProcessManager.class.getProtectionDomain()
+                        .getCodeSource().getLocation().toURI());
 
-            // JAR이 위치한 디렉토리
-            File jarDir = jarFile.getParentFile();
+                // JAR이 위치한 디렉토리
+                File jarDir = jarFile.getParentFile();
 
-            // 그 디렉토리 기준으로 상대 경로 파일 지정
-            File script = new File(jarDir, "gpt-toolCall.py");
-            this.NLP_SCRIPT_PATH = script.getAbsolutePath();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
+                // 그 디렉토리 기준으로 상대 경로 파일 지정
+                File script = new File(jarDir, "gpt-toolCall.py");
+                this.NLP_SCRIPT_PATH = script.getAbsolutePath();
+            } catch (URISyntaxException e) {
+                e.printStackTrace();
+            }
         }
         this.outputHandler = outputHandler;
         this.processCompletionCallback = processCompletionCallback;
-        this.executorService = Executors.newCachedThreadPool();
-        this.pythonCommand = detectPythonCommand(); // Python 명령어 자동 감지
+        // 요청은 대부분 프로세스 출력과 종료를 기다리므로 플랫폼 스레드 대신 가상 스레드 사용
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jpm-request-", 1).factory());
+        this.responseCache = JpmConstants.RESPONSE_CACHE_ENABLED
+                ? new ResponseCache(JpmConstants.USER_DATA_DIR.resolve("cache").resolve("responses"),
+                        JpmConstants.PROJECT_FILES.stream().map(Path::of).toList(),
+                        JpmConstants.RESPONSE_CACHE_MAX_ENTRIES, JpmConstants.RESPONSE_CACHE_MAX_DISK_ENTRIES,
+                        JpmConstants.RESPONSE_CACHE_TTL_MS)
+                : null;
+        // Python 인터프리터 탐색은 JavaFX 스레드를 막지 않도록 백그라운드에서 진행
+        this.interpreter = PythonDiscovery.discoverAsync();
+        // 탐색이 끝나면 첫 요청 전에 최소 개수의 워커를 미리 실행 (스크립트가 워커 모드를 지원하는 경우만)
+        this.workerPool = interpreter.thenApply(python -> NlpWorker.isEnabledFor(NLP_SCRIPT_PATH)
+                ? new NlpWorkerPool(python.getCommand(), NLP_SCRIPT_PATH,
+                        JpmConstants.NLP_POOL_MIN_SIZE, NlpWorkerPool.defaultMaxSize(),
+                        JpmConstants.NLP_POOL_IDLE_TIMEOUT_MS,
+                        this::runFallback)
+                : null);
+    }
+
+    /**
+     * 곧 요청이 들어올 것으로 보일 때(입력 중) NLP 워커를 미리 준비
+     * 유휴 워커가 {@link JpmConstants#NLP_PREWARM_IDLE_WORKERS} 개가 되도록 워커를 실행해, 입력을 마치고 보낸 요청이
+     * 인터프리터 시작과 라이브러리 로드를 기다리지 않게 합니다. 인터프리터 탐색이 끝나지 않았으면 끝난 뒤에 준비합니다.
+     */
+    public void prewarm() {
+        if (closed) {
+            return;
+        }
+        workerPool.thenAccept(pool -> {
+            if (pool != null) {
+                pool.prewarm(JpmConstants.NLP_PREWARM_IDLE_WORKERS);
+            }
+        });
+    }
+
+    /**
+     * 사용자 입력을 처리하고 NLP 프로세스에 전달 (기본 제한 시간 적용)
+     *
+     * @param input 사용자 입력
+     * @return 요청 핸들 (중단에 사용)
+     */
+    public RequestHandle processUserInput(String input) {
+        return processUserInput(input, JpmConstants.NLP_REQUEST_TIMEOUT_MS);
     }
 
     /**
      * 사용자 입력을 처리하고 NLP 프로세스에 전달
-     * 명령줄 인자를 통해 입력을 전달합니다.
+     * 캐시된 응답이 있으면 바로 재생하고, 없으면 워커 풀의 대기열이나 단발성 프로세스로 전달합니다.
+     * 제한 시간 안에 끝나지 않으면 {@link #EXIT_TIMEOUT} 코드로 중단합니다.
      *
      * @param input 사용자 입력
+     * @param timeoutMillis 제한 시간 (ms, 0 이하면 제한 없음)
+     * @return 요청 핸들 (중단에 사용)
      */
-    public void processUserInput(String input) {
-        executorService.submit(() -> {
-            Integer exitCode = null;
-            try {
-                // 새 NLP 프로세스 시작 (매 요청마다 새로운 프로세스)
-                ProcessBuilder pb = new ProcessBuilder(pythonCommand, NLP_SCRIPT_PATH, input);
-                pb.redirectErrorStream(true); // 표준 오류를 표준 출력으로 리다이렉트
-
-                LOGGER.info("NLP 프로세스 시작: " + pythonCommand + " " + NLP_SCRIPT_PATH + " \"" + input + "\"");
-                Process process = pb.start();
-
-                // 프로세스 출력 읽기
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        // 빈 라인 무시
-                        if (!line.trim().isEmpty()) {
-                            final String output = line;
-
-                            outputHandler.accept(output);
-                        }
-                    }
-                }
+    public RequestHandle processUserInput(String input, long timeoutMillis) {
+        return processUserInput(input, timeoutMillis, outputHandler, processCompletionCallback);
+    }
 
-                // 프로세스 종료 대기
-                exitCode = process.waitFor();
-                LOGGER.info("NLP 프로세스 종료 코드: " + exitCode);
+    /**
+     * 요청마다 출력/종료 콜백을 지정해 NLP 프로세스에 전달
+     * 여러 요청을 동시에 처리하면서 요청별로 출력을 구분해야 할 때 사용합니다.
+     *
+     * @param input 사용자 입력
+     * @param timeoutMillis 제한 시간 (ms, 0 이하면 제한 없음)
+     * @param outputHandler 이 요청의 출력 이벤트 처리 콜백
+     * @param processCompletionCallback 이 요청의 종료 콜백
+     * @return 요청 핸들 (중단에 사용)
+     */
+    public RequestHandle processUserInput(String input, long timeoutMillis,
+                                          Consumer<ProtocolEvent> outputHandler,
+                                          Consumer<Integer> processCompletionCallback) {
+        long requestId = requestIdSequence.incrementAndGet();
+        RequestTrace trace = RequestTrace.begin(requestId, input);
+        // 긴 출력은 앞부분과 마지막 몇 줄만 전달하고 전체는 임시 파일에 기록
+        OutputBuffer output = new OutputBuffer(JpmConstants.OUTPUT_HEAD_LINES, JpmConstants.OUTPUT_TAIL_LINES, outputHandler);
+        NlpRequest request = new NlpRequest(requestId, input, event -> {
+            trace.onEvent(event);
+            output.accept(event);
+        }, exitCode -> {
+            trace.complete(exitCode);
+            output.finish();
+            processCompletionCallback.accept(exitCode);
+        });
 
-                if (exitCode != 0) {
-                    // 비정상 종료 시 오류 메시지
-                    outputHandler.accept("프로세스가 비정상 종료되었습니다 (코드: " + exitCode + ")");
-                }
+        // 캐시 조회에 파일 I/O 가 있으므로 JavaFX 스레드가 아닌 가상 스레드에서 처리
+        try {
+            executorService.execute(() -> runRequest(request, trace, timeoutMillis));
+        } catch (RejectedExecutionException e) {
+            request.complete(EXIT_INTERRUPTED); // 종료 후 들어온 요청
+        }
+        return new RequestHandle(request);
+    }
 
-            } catch (IOException e) {
-                LOGGER.log(Level.SEVERE, "프로세스 통신 오류", e);
-                outputHandler.accept("프로세스 통신 중 오류가 발생했습니다: " + e.getMessage());
-                exitCode = -1; // IO 예외 발생 시 오류코드 (임의)
-            } catch (InterruptedException e) {
-                LOGGER.log(Level.WARNING, "프로세스 실행 중단", e);
-                Thread.currentThread().interrupt();
-                outputHandler.accept("프로세스 실행이 중단되었습니다.");
-                exitCode = -2; // 인터럽트 시 오류코드 (임의)
-            } finally {
-                // 프로세스 종료 콜백 호출
-                if(processCompletionCallback != null && exitCode != null) {
-                    processCompletionCallback.accept(exitCode);
-                }
+    /**
+     * 요청 하나의 수명 주기 (요청 가상 스레드)
+     * 전달 작업을 범위 안에서 실행하고 제한 시간까지 기다린 뒤, 실패나 시간 초과를 요청의 종료 코드로 정리합니다.
+     */
+    private void runRequest(NlpRequest request, RequestTrace trace, long timeoutMillis) {
+        RequestScope scope = new RequestScope("jpm-request-" + request.getId());
+        scopes.put(request, scope);
+        try (scope) {
+            if (closed) {
+                request.complete(EXIT_INTERRUPTED); // 등록 전에 종료가 시작된 경우
+                return;
             }
-        });
+            scope.fork("dispatch", () -> {
+                dispatch(request, trace);
+                request.awaitCompletion();
+                return null;
+            });
+
+            boolean finished = timeoutMillis > 0
+                    ? scope.joinUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis))
+                    : joinAll(scope);
+            if (!finished && request.cancel(EXIT_TIMEOUT)) {
+                LOGGER.warning("요청 제한 시간 초과: " + request.getId() + " (" + timeoutMillis + "ms)");
+            }
+            scope.throwIfFailed();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "요청 처리 실패: " + request.getId(), e.getCause());
+            request.outputText("요청 처리 중 오류가 발생했습니다: " + e.getCause().getMessage());
+            request.complete(EXIT_IO_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.complete(EXIT_INTERRUPTED);
+        } finally {
+            scopes.remove(request);
+        }
+    }
+
+    private static boolean joinAll(RequestScope scope) throws InterruptedException {
+        scope.join();
+        return true;
+    }
+
+    /**
+     * 캐시 조회 후 요청 전달 (요청 범위의 전달 작업)
+     * 워커 풀이 받지 못하면 같은 범위 안에서 단발성 프로세스로 실행합니다.
+     */
+    private void dispatch(NlpRequest request, RequestTrace trace) throws InterruptedException {
+        if (request.isCompleted()) {
+            return; // 전달 전에 중단된 요청
+        }
+        NlpRequest routed = request;
+
+        if (responseCache != null) {
+            // 키는 요청 시작 시점의 프로젝트 상태로 생성
+            String cacheKey = responseCache.keyFor(request.getInput());
+            List<ProtocolEvent> cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                LOGGER.info("캐시된 응답 재생: \"" + request.getInput() + "\" (" + cached.size() + "개 이벤트)");
+                trace.setRoute(RequestTrace.ROUTE_CACHE);
+                cached.forEach(request::output);
+                request.complete(0);
+                return;
+            }
+
+            // 출력 이벤트를 기록해 두었다가 정상 종료 시 캐시에 저장 (요약될 만큼 긴 출력은 기록하지 않음)
+            List<ProtocolEvent> recorded = Collections.synchronizedList(new ArrayList<>());
+            AtomicBoolean overflow = new AtomicBoolean(false);
+            NlpRequest recording = new NlpRequest(request.getId(), request.getInput(), event -> {
+                if (!overflow.get()) {
+                    recorded.add(event);
+                    if (recorded.size() > MAX_RECORDED_EVENTS) {
+                        overflow.set(true);
+                        recorded.clear();
+                    }
+                }
+                request.output(event);
+            }, exitCode -> {
+                request.complete(exitCode);
+                if (exitCode == 0 && !overflow.get()) {
+                    responseCache.put(cacheKey, recorded);
+                }
+            });
+            request.setCanceller(() -> recording.cancel(EXIT_CANCELLED));
+            routed = recording;
+        }
+
+        // 인터프리터 탐색이 끝나지 않았다면 끝날 때까지 대기 (가상 스레드이므로 부담 없음)
+        NlpWorkerPool pool;
+        try {
+            pool = workerPool.join();
+        } catch (RuntimeException e) {
+            pool = null;
+        }
+        if (pool != null && pool.submit(routed)) {
+            trace.setRoute(RequestTrace.ROUTE_POOL);
+        } else {
+            trace.setRoute(RequestTrace.ROUTE_ONESHOT);
+            runOneShot(routed);
+        }
     }
 
     /**
-     * 시스템에 맞는 Python 명령어 감지
+     * 워커가 처리하지 못한 요청을 단발성 프로세스로 실행 (워커 풀의 대체 경로)
+     */
+    private void runFallback(NlpRequest request) {
+        try {
+            executorService.execute(() -> runOneShot(request));
+        } catch (RejectedExecutionException e) {
+            request.complete(EXIT_INTERRUPTED); // 종료 중
+        }
+    }
+
+    /**
+     * 단발성 NLP 프로세스 실행
+     * 명령줄 인자를 통해 입력을 전달하고, 출력 읽기와 종료 대기를 한 범위의 하위 작업으로 실행합니다.
+     * 어느 한쪽이 실패하거나 요청이 중단되면 범위를 종료해 프로세스를 하위 프로세스까지 정리합니다.
      *
-     * @return 감지된 Python 명령어 ("python" 또는 "python3")
+     * @param request 처리할 요청
      */
-    private String detectPythonCommand() {
-        String python = "";
+    private void runOneShot(NlpRequest request) {
+        if (request.isCompleted()) {
+            return; // 실행 전에 중단된 요청
+        }
+        String input = request.getInput();
+        String pythonCommand = interpreter.join().getCommand();
+        Integer exitCode = null;
         try {
-            // 먼저 'python3' 시도
-            if (testCommand("python3")) {
-                return python = "python3";
+            // 새 NLP 프로세스 시작 (매 요청마다 새로운 프로세스)
+            ProcessBuilder pb = new ProcessBuilder(pythonCommand, NLP_SCRIPT_PATH, input);
+            pb.redirectErrorStream(true); // 표준 오류를 표준 출력으로 리다이렉트
+
+            LOGGER.info("NLP 프로세스 시작: " + pythonCommand + " " + NLP_SCRIPT_PATH + " \"" + input + "\"");
+            ProcessSpawnEvent spawn = new ProcessSpawnEvent();
+            spawn.begin();
+            Process process;
+            try {
+                process = pb.start();
+            } catch (IOException e) {
+                spawn.complete(request.getId(), ProcessSpawnEvent.MODE_ONESHOT, null, false);
+                throw e;
+            }
+            spawn.complete(request.getId(), ProcessSpawnEvent.MODE_ONESHOT, process, true);
+
+            try (RequestScope scope = new RequestScope("jpm-oneshot-" + request.getId())) {
+                // 파이프 읽기는 인터럽트로 깨어나지 않으므로 범위 종료 시 하위 프로세스까지 종료 (출력 파이프가 닫혀 읽기도 끝남)
+                scope.onShutdown(() -> destroyProcessTree(process.toHandle()));
+                request.setCanceller(scope::shutdown);
+
+                // 프로세스 출력 읽기 (빈 라인은 무시)
+                scope.fork("stdout", () -> {
+                    try (InputStream in = process.getInputStream()) {
+                        new FrameReader(in).readEvents(request::output);
+                    }
+                    return null;
+                });
+                // 프로세스 종료 대기
+                Future<Integer> exit = scope.fork("exit", process::waitFor);
+
+                scope.join();
+                if (request.isCompleted()) {
+                    return; // 중단 또는 시간 초과로 이미 종료된 요청
+                }
+                scope.throwIfFailed();
+                exitCode = exit.resultNow();
             }
+            LOGGER.info("NLP 프로세스 종료 코드: " + exitCode);
 
-            // 다음으로 'python' 시도
-            if (testCommand("python")) {
-                return python = "python";
+            if (exitCode != 0) {
+                // 비정상 종료 시 오류 메시지
+                request.outputText("프로세스가 비정상 종료되었습니다 (코드: " + exitCode + ")");
             }
 
-            // 둘 다 실패하면 기본값 반환
-            return python = "python";
+        } catch (IOException | ExecutionException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            LOGGER.log(Level.SEVERE, "프로세스 통신 오류", cause);
+            request.outputText("프로세스 통신 중 오류가 발생했습니다: " + cause.getMessage());
+            exitCode = EXIT_IO_ERROR;
+        } catch (InterruptedException e) {
+            LOGGER.log(Level.WARNING, "프로세스 실행 중단", e);
+            Thread.currentThread().interrupt();
+            request.outputText("프로세스 실행이 중단되었습니다.");
+            exitCode = EXIT_INTERRUPTED;
         } finally {
-            LOGGER.info("감지한 Python 명령어: " + python);
+            // 프로세스 종료 콜백 호출
+            if (exitCode != null) {
+                request.complete(exitCode);
+            }
         }
     }
 
     /**
-     * 명령어 실행 테스트
+     * 프로세스와 모든 하위 프로세스 강제 종료
+     * 부모가 먼저 종료되면 하위 프로세스를 찾을 수 없으므로 목록을 먼저 수집합니다.
      *
-     * @param command 테스트할 명령어
-     * @return 명령어 실행 성공 여부
+     * @param root 종료할 최상위 프로세스
      */
-    private boolean testCommand(String command) {
-        try {
-            Process process = new ProcessBuilder(command, "--version").start();
-            int exitCode = process.waitFor();
-            return exitCode == 0;
-        } catch (IOException | InterruptedException e) {
-            return false;
-        }
+    static void destroyProcessTree(ProcessHandle root) {
+        List<ProcessHandle> descendants = root.descendants().toList();
+        root.destroyForcibly();
+        descendants.forEach(ProcessHandle::destroyForcibly);
+        LOGGER.info("프로세스 종료: " + root.pid() + " (하위 프로세스 " + descendants.size() + "개)");
+    }
+
+    /**
+     * 진행 중인 요청 수 (접수 후 종료 전, 대기열에서 기다리는 요청 포함)
+     */
+    public int getActiveRequestCount() {
+        return scopes.size();
+    }
+
+    /**
+     * 워커 풀 getter (대기열 길이, 워커 처리 시간 등 통계 조회용)
+     *
+     * @return 워커 풀, 워커 모드가 아니거나 아직 준비되지 않았으면 null
+     */
+    public NlpWorkerPool getWorkerPool() {
+        return workerPool.getNow(null);
     }
 
     /**
      * 자원 정리 및 프로세스 종료
+     * 진행 중인 요청 범위를 모두 종료(프로세스 정리 포함)하고, 범위가 닫힐 때까지 기다립니다.
      */
     public void shutdown() {
         LOGGER.info("프로세스 매니저 종료...");
+        closed = true;
+
+        // 워커 풀을 먼저 종료 상태로 표시 - 아래에서 요청을 중단할 때 교체되는 워커가 다시 실행되지 않도록
+        NlpWorkerPool startedPool = workerPool.getNow(null);
+        if (startedPool != null) {
+            startedPool.markShutdown();
+        }
+
+        // 진행 중인 요청 중단 (실행 중인 프로세스 종료) 후 각 범위의 하위 작업 정리
+        scopes.forEach((request, scope) -> {
+            request.cancel(EXIT_INTERRUPTED);
+            scope.shutdown();
+        });
 
-        // 스레드 풀 종료
-        executorService.shutdownNow();
+        // 워커 풀 종료 (아직 생성 중이면 생성 직후 종료)
+        workerPool.thenAccept(pool -> {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        });
+
+        // 모든 요청 범위가 닫힐 때까지 대기
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("종료 대기 시간 초과 - 닫히지 않은 요청 범위: " + scopes.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -0,0 +1,234 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Python 인터프리터 탐색을 담당하는 클래스
+ * JavaFX 스레드 밖에서 실행되며, 탐색 결과를 디스크에 캐시해 다음 실행부터는 프로세스를 띄우지 않습니다.
+ *
+ * 탐색 순서:
+ *   1. 명시적 지정 - 시스템 프로퍼티 jpm.python / 환경 변수 JPM_PYTHON
+ *   2. 가상환경 - 시스템 프로퍼티 jpm.venv / 환경 변수 VIRTUAL_ENV
+ *   3. 캐시 - PATH 와 인터프리터 파일 수정 시각이 같으면 그대로 사용
+ *   4. PATH 탐색 - python3, python 순서로 찾아 --version 으로 확인
+ */
+public class PythonDiscovery {
+
+    private static final String CACHE_FILE_NAME = "python-interpreter.properties";
+    private static final String KEY_PATH = "path";          // 탐색 당시 PATH 환경 변수
+    private static final String KEY_COMMAND = "command";    // 인터프리터 절대 경로
+    private static final String KEY_VERSION = "version";    // 버전 문자열
+    private static final String KEY_MTIME = "mtime";        // 인터프리터 파일 수정 시각
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
+    private static final Logger LOGGER = Logger.getLogger(PythonDiscovery.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    private PythonDiscovery() {
+    }
+
+    /**
+     * 백그라운드 스레드에서 인터프리터 탐색 시작
+     *
+     * @return 탐색 결과 (실패 시에도 기본 명령어 "python" 으로 완료)
+     */
+    public static CompletableFuture<PythonInterpreter> discoverAsync() {
+        CompletableFuture<PythonInterpreter> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(discover());
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Python 탐색 실패 - 기본 명령어 사용", e);
+                result.complete(new PythonInterpreter("python", ""));
+            }
+        }, "jpm-python-discovery");
+        thread.setDaemon(true);
+        thread.start();
+        return result;
+    }
+
+    /**
+     * 인터프리터 탐색 (호출 스레드에서 실행)
+     *
+     * @return 탐색된 인터프리터
+     */
+    public static PythonInterpreter discover() {
+        long start = System.nanoTime();
+        PythonInterpreter interpreter = resolve();
+        LOGGER.info("감지한 Python 인터프리터: " + interpreter + " ("
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms)");
+        return interpreter;
+    }
+
+    private static PythonInterpreter resolve() {
+        // 1. 명시적 지정 (검증 없이 그대로 사용)
+        String explicit = setting(JpmConstants.PYTHON_OVERRIDE_PROPERTY, JpmConstants.PYTHON_OVERRIDE_ENV);
+        if (explicit != null) {
+            return new PythonInterpreter(explicit, "");
+        }
+
+        // 2. 가상환경
+        String venv = setting(JpmConstants.PYTHON_VENV_PROPERTY, "VIRTUAL_ENV");
+        if (venv != null) {
+            File venvPython = WINDOWS
+                    ? new File(venv, "Scripts" + File.separator + "python.exe")
+                    : new File(venv, "bin" + File.separator + "python");
+            if (venvPython.isFile()) {
+                return new PythonInterpreter(venvPython.getAbsolutePath(), "");
+            }
+            LOGGER.warning("가상환경에서 Python 을 찾을 수 없음: " + venvPython);
+        }
+
+        // 3. 캐시
+        String pathEnv = System.getenv().getOrDefault("PATH", "");
+        Path cacheFile = JpmConstants.USER_DATA_DIR.resolve(CACHE_FILE_NAME);
+        PythonInterpreter cached = readCache(cacheFile, pathEnv);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 4. PATH 탐색 후 --version 으로 확인
+        for (File candidate : findOnPath(pathEnv)) {
+            String version = probeVersion(candidate.getAbsolutePath());
+            if (version != null) {
+                PythonInterpreter interpreter = new PythonInterpreter(candidate.getAbsolutePath(), version);
+                writeCache(cacheFile, pathEnv, interpreter, candidate.lastModified());
+                return interpreter;
+            }
+        }
+
+        // PATH 에서 찾지 못하면 셸 해석에 맡김 (기존 동작과 동일한 기본값)
+        for (String command : new String[]{"python3", "python"}) {
+            String version = probeVersion(command);
+            if (version != null) {
+                return new PythonInterpreter(command, version);
+            }
+        }
+        return new PythonInterpreter("python", "");
+    }
+
+    /**
+     * 시스템 프로퍼티, 환경 변수 순으로 설정값 조회
+     */
+    private static String setting(String property, String env) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(env);
+        }
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * 캐시 읽기
+     * PATH 가 같고 인터프리터 파일의 수정 시각이 그대로일 때만 유효합니다.
+     */
+    private static PythonInterpreter readCache(Path cacheFile, String pathEnv) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Python 캐시 읽기 실패", e);
+            return null;
+        }
+
+        String command = props.getProperty(KEY_COMMAND);
+        if (command == null || !pathEnv.equals(props.getProperty(KEY_PATH))) {
+            return null;
+        }
+        File binary = new File(command);
+        if (!binary.isFile() || !Long.toString(binary.lastModified()).equals(props.getProperty(KEY_MTIME))) {
+            return null;
+        }
+        return new PythonInterpreter(command, props.getProperty(KEY_VERSION, ""));
+    }
+
+    /**
+     * 캐시 쓰기 (실패해도 탐색 결과에는 영향 없음)
+     */
+    private static void writeCache(Path cacheFile, String pathEnv, PythonInterpreter interpreter, long mtime) {
+        Properties props = new Properties();
+        props.setProperty(KEY_PATH, pathEnv);
+        props.setProperty(KEY_COMMAND, interpreter.getCommand());
+        props.setProperty(KEY_VERSION, interpreter.getVersion());
+        props.setProperty(KEY_MTIME, Long.toString(mtime));
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(cacheFile, StandardCharsets.UTF_8)) {
+                props.store(writer, "jpm-ui Python interpreter cache");
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Python 캐시 쓰기 실패", e);
+        }
+    }
+
+    /**
+     * PATH 에서 python3, python 실행 파일 후보 찾기 (프로세스 실행 없음)
+     */
+    private static List<File> findOnPath(String pathEnv) {
+        List<File> candidates = new ArrayList<>();
+        String[] names = WINDOWS
+                ? new String[]{"python3.exe", "python.exe"}
+                : new String[]{"python3", "python"};
+        for (String name : names) {
+            for (String dir : pathEnv.split(File.pathSeparator)) {
+                if (dir.isEmpty()) {
+                    continue;
+                }
+                File file = new File(dir, name);
+                if (file.isFile() && file.canExecute()) {
+                    candidates.add(file);
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * --version 실행으로 인터프리터 확인
+     *
+     * @return 버전 문자열, 실행에 실패하면 null
+     */
+    private static String probeVersion(String command) {
+        try {
+            Process process = new ProcessBuilder(command, "--version").redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return null;
+            }
+            return process.exitValue() == 0 ? output : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
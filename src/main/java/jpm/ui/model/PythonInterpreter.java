@@ -0,0 +1,35 @@
+package jpm.ui.model;
+
+/**
+ * 탐색된 Python 인터프리터 정보를 나타내는 모델 클래스
+ * 실행 명령어(또는 절대 경로)와 버전 문자열을 포함합니다.
+ */
+public class PythonInterpreter {
+
+    private final String command;  // 실행 명령어 또는 인터프리터 절대 경로
+    private final String version;  // "Python 3.x.y" 형태의 버전 문자열 (알 수 없으면 빈 문자열)
+
+    /**
+     * 인터프리터 정보 생성자
+     *
+     * @param command 실행 명령어 또는 절대 경로
+     * @param version 버전 문자열
+     */
+    public PythonInterpreter(String command, String version) {
+        this.command = command;
+        this.version = version;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return command + (version.isEmpty() ? "" : " (" + version + ")");
+    }
+}
@@ -0,0 +1,43 @@
+package jpm.ui.model;
+
+/**
+ * 처리 중인 NLP 요청의 핸들
+ * {@link ProcessManager#processUserInput} 가 반환하며, 요청 중단과 상태 확인에 사용합니다.
+ */
+public class RequestHandle {
+
+    private final NlpRequest request;
+
+    RequestHandle(NlpRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * 요청 ID getter
+     *
+     * @return 요청 ID
+     */
+    public long getId() {
+        return request.getId();
+    }
+
+    /**
+     * 요청 중단
+     * 종료 콜백은 {@link ProcessManager#EXIT_CANCELLED} 코드로 바로 호출되고,
+     * 실행 중이던 프로세스는 하위 프로세스까지 모두 종료됩니다.
+     *
+     * @return 이번 호출로 중단된 경우 true (이미 끝난 요청이면 false)
+     */
+    public boolean cancel() {
+        return request.cancel(ProcessManager.EXIT_CANCELLED);
+    }
+
+    /**
+     * 종료 여부 확인 (정상 종료, 오류, 중단, 시간 초과 모두 포함)
+     *
+     * @return 종료된 요청이면 true
+     */
+    public boolean isDone() {
+        return request.isCompleted();
+    }
+}
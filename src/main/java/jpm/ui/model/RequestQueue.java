@@ -0,0 +1,516 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.protocol.ProtocolEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트 요청 대기열
+ * 처리 중에도 입력을 받아 대기열에 쌓고, 요청의 의존성 정책에 따라 순서대로 또는 동시에 실행합니다.
+ *
+ * 동시에 실행된 요청이라도 출력은 입력한 순서대로 전달합니다(파이프라이닝).
+ * 맨 앞 요청(head)의 출력만 바로 전달하고, 뒤쪽 요청의 출력은 모아 두었다가 맨 앞이 되었을 때 전달합니다.
+ *
+ * 아직 실행되지 않은 요청은 순서를 바꾸거나 뺄 수 있으며, 실행 전 요청 목록은 파일에 저장해
+ * 다음 실행 시 이어서 처리합니다. 실행이 시작된 요청은 도중에 끊겼을 수 있으므로(설치, 삭제 등)
+ * 저장하지 않아 다음 실행에서 묻지 않고 다시 실행되는 일이 없도록 합니다.
+ *
+ * JavaFX 스레드에서만 사용합니다. (프로세스 콜백은 생성자에 전달한 UI 실행기로 옮겨 처리)
+ */
+public class RequestQueue {
+
+    /**
+     * 요청 의존성 정책
+     * SEQUENTIAL: 프로젝트를 바꿀 수 있는 명령 (기본) - 앞선 요청이 모두 끝난 뒤 단독 실행, 뒤 요청은 끝날 때까지 대기
+     * PARALLEL: 조회/질문 - 다른 PARALLEL 요청과 동시에 실행
+     */
+    public enum Policy {
+        SEQUENTIAL,
+        PARALLEL
+    }
+
+    private static final long WRITER_SHUTDOWN_TIMEOUT_MS = 1000; // 종료 시 남은 저장 작업 대기 시간
+
+    // 입력을 단어로 나누는 구분자 (문자와 숫자가 아닌 모든 문자)
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 조회/질문으로 보는 단어 (ResponseCache 의 읽기 전용 메서드 list, version, getMetadata 에 해당하는 요청과 질문)
+    // 영어는 단어 전체가 같아야 하고, 한글은 조사와 어미가 붙으므로 단어가 이 말로 시작하면 일치로 봅니다.
+    private static final Set<String> READ_ONLY_WORDS = Set.of(
+            "list", "show", "version", "versions", "info", "metadata", "search", "find",
+            "what", "which", "why", "how", "help", "explain", "describe");
+    private static final List<String> READ_ONLY_STEMS = List.of(
+            "목록", "보여", "조회", "버전", "정보", "검색", "찾아", "알려", "뭐", "무엇", "어떤", "왜", "설명", "도움");
+
+    // 프로젝트를 바꾸는 명령으로 보는 단어 (조회 단어와 함께 있어도 SEQUENTIAL)
+    private static final Set<String> MUTATING_WORDS = Set.of(
+            "init", "install", "uninstall", "add", "update", "upgrade", "downgrade", "bump", "delete", "remove",
+            "build", "test", "run", "clean", "set", "reset", "refresh", "apply", "change", "create", "fix",
+            "migrate", "lock", "sync", "publish", "deploy");
+    private static final List<String> MUTATING_STEMS = List.of(
+            "초기화", "설치", "추가", "깔아", "업데이트", "업그레이드", "올려", "내려", "삭제", "제거", "지워", "빼",
+            "빌드", "테스트", "실행", "정리", "설정", "적용", "변경", "바꿔", "수정", "만들", "생성");
+
+    /**
+     * 요청 실행기 (보통 {@link ProcessManager#processUserInput(String, long, Consumer, Consumer)})
+     */
+    @FunctionalInterface
+    public interface Runner {
+        /**
+         * 요청 실행
+         *
+         * @param input 사용자 입력
+         * @param timeoutMillis 제한 시간 (ms)
+         * @param outputHandler 출력 이벤트 콜백
+         * @param completionCallback 종료 코드 콜백
+         * @return 요청 핸들 (중단에 사용)
+         */
+        RequestHandle run(String input, long timeoutMillis, Consumer<ProtocolEvent> outputHandler,
+                          Consumer<Integer> completionCallback);
+    }
+
+    /**
+     * 요청 상태 변화 수신자 (JavaFX 스레드에서 호출)
+     */
+    public interface Listener {
+        /**
+         * 요청이 맨 앞이 되어 출력 전달이 시작됨
+         */
+        void onRequestStarted(Entry entry);
+
+        /**
+         * 맨 앞 요청의 출력 이벤트
+         */
+        void onOutput(ProtocolEvent event);
+
+        /**
+         * 맨 앞 요청의 처리 종료
+         */
+        void onRequestCompleted(Entry entry, int exitCode);
+
+        /**
+         * 대기 목록 변경 (추가, 순서 변경, 제거, 실행 시작 등)
+         */
+        void onQueueChanged();
+    }
+
+    /**
+     * 대기열 항목
+     */
+    public static final class Entry {
+        private final String input;
+        private final Policy policy;
+        private final List<ProtocolEvent> buffered = new ArrayList<>(); // 맨 앞이 되기 전에 받은 출력
+        private RequestHandle handle;   // 실행 중이면 요청 핸들
+        private boolean finished;       // 처리 종료 여부 (맨 앞이 아니면 전달 대기)
+        private int exitCode;
+        private boolean dropped;        // 사용자가 뺀 요청 (출력 전달 안 함)
+
+        private Entry(String input, Policy policy) {
+            this.input = input;
+            this.policy = policy;
+        }
+
+        public String getInput() {
+            return input;
+        }
+
+        public Policy getPolicy() {
+            return policy;
+        }
+
+        /**
+         * 실행이 시작된 요청인지 여부 (시작된 요청은 순서를 바꿀 수 없음)
+         */
+        public boolean isStarted() {
+            return handle != null;
+        }
+
+        /**
+         * 처리는 끝났고 앞선 요청의 출력이 끝나기를 기다리는지 여부
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+    }
+
+    private final Runner runner;                   // 요청 실행기
+    private final Consumer<Runnable> uiExecutor;   // 프로세스 콜백을 JavaFX 스레드로 옮기는 실행기
+    private final Listener listener;
+    private final int capacity;
+    private final int maxParallel;
+    private final Path file;                       // 끝나지 않은 요청 저장 파일
+    private final List<Entry> entries = new ArrayList<>(); // 입력 순서 (0 번이 가장 먼저 입력된 요청)
+    private Entry head;                            // 출력을 전달 중인 요청
+    private final ExecutorService writer;          // 저장 파일 쓰기 전용 스레드
+    private boolean closed = false;                // 종료 후에는 새 요청을 실행하지 않고 저장 파일도 유지
+
+    private static final Logger LOGGER = Logger.getLogger(RequestQueue.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 요청 대기열 생성자
+     *
+     * @param runner 요청 실행기 (요청을 실행할 때마다 호출하므로 프로세스 매니저는 처음 실행할 때 생성해도 됨)
+     * @param uiExecutor 프로세스 콜백을 JavaFX 스레드에서 실행할 실행기
+     * @param listener 상태 변화 수신자
+     * @param capacity 최대 요청 수 (실행 중 포함), 가득 차면 새 요청을 받지 않음
+     * @param maxParallel 동시에 실행할 최대 PARALLEL 요청 수
+     * @param file 끝나지 않은 요청을 저장할 파일
+     */
+    public RequestQueue(Runner runner, Consumer<Runnable> uiExecutor, Listener listener,
+                        int capacity, int maxParallel, Path file) {
+        this.runner = runner;
+        this.uiExecutor = uiExecutor;
+        this.listener = listener;
+        this.capacity = capacity;
+        this.maxParallel = Math.max(1, maxParallel);
+        this.file = file;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "jpm-request-queue-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 입력으로 요청의 의존성 정책 결정
+     * 기본은 SEQUENTIAL 이며, 조회/질문 단어가 있고 프로젝트를 바꾸는 단어가 없을 때만 PARALLEL 로 실행합니다.
+     * 잘못 판단해도 순서대로 실행될 뿐이므로, 모르는 명령이 프로젝트 파일을 동시에 고치는 일이 없습니다.
+     *
+     * @param input 사용자 입력
+     * @return 조회/질문으로만 보이면 PARALLEL, 아니면 SEQUENTIAL
+     */
+    public static Policy policyOf(String input) {
+        boolean readOnly = false;
+        for (String token : TOKEN_SEPARATOR.split(input.toLowerCase(Locale.ROOT))) {
+            if (matches(token, MUTATING_WORDS, MUTATING_STEMS)) {
+                return Policy.SEQUENTIAL;
+            }
+            readOnly |= matches(token, READ_ONLY_WORDS, READ_ONLY_STEMS);
+        }
+        return readOnly ? Policy.PARALLEL : Policy.SEQUENTIAL;
+    }
+
+    /**
+     * 단어가 목록의 영어 단어와 같거나 한글 어간으로 시작하는지 여부
+     */
+    private static boolean matches(String token, Set<String> words, List<String> stems) {
+        if (words.contains(token)) {
+            return true;
+        }
+        for (String stem : stems) {
+            if (token.startsWith(stem)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청 추가
+     *
+     * @param input 사용자 입력
+     * @return 대기열이 가득 차 받지 못했으면 false
+     */
+    public boolean offer(String input) {
+        if (isFull()) {
+            return false;
+        }
+        entries.add(new Entry(input, policyOf(input)));
+        changed();
+        return true;
+    }
+
+    /**
+     * 이전 실행에서 끝나지 않은 요청을 대기열 뒤에 이어 붙이고 실행
+     *
+     * @param inputs {@link #load} 로 읽은 입력 (용량을 넘는 요청은 버림)
+     */
+    public void restore(List<String> inputs) {
+        for (String input : inputs) {
+            if (isFull()) {
+                LOGGER.warning("요청 대기열이 가득 차 복원하지 못한 요청: \"" + input + "\"");
+                continue;
+            }
+            entries.add(new Entry(input, policyOf(input)));
+        }
+        changed();
+    }
+
+    /**
+     * 대기열이 가득 찼는지 여부
+     */
+    public boolean isFull() {
+        return entries.size() >= capacity;
+    }
+
+    /**
+     * 맨 앞 요청을 제외한 대기 목록 (입력 순서)
+     */
+    public List<Entry> getWaiting() {
+        List<Entry> waiting = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            if (entry != head && !entry.dropped) {
+                waiting.add(entry);
+            }
+        }
+        return waiting;
+    }
+
+    /**
+     * 실행 전 요청을 한 칸 앞으로 (앞 요청도 실행 전일 때만)
+     */
+    public void moveUp(Entry entry) {
+        int index = entries.indexOf(entry);
+        if (index > 0 && !entry.isStarted() && !entries.get(index - 1).isStarted()) {
+            entries.set(index, entries.get(index - 1));
+            entries.set(index - 1, entry);
+            changed();
+        }
+    }
+
+    /**
+     * 실행 전 요청을 한 칸 뒤로 (뒤 요청도 실행 전일 때만)
+     */
+    public void moveDown(Entry entry) {
+        int index = entries.indexOf(entry);
+        if (index >= 0 && index < entries.size() - 1 && !entry.isStarted() && !entries.get(index + 1).isStarted()) {
+            entries.set(index, entries.get(index + 1));
+            entries.set(index + 1, entry);
+            changed();
+        }
+    }
+
+    /**
+     * 요청 빼기
+     * 실행 전이면 바로 빼고, 실행 중이면 중단한 뒤 출력을 버립니다.
+     */
+    public void remove(Entry entry) {
+        if (entry == head) {
+            cancelHead();
+            return;
+        }
+        if (!entry.isStarted()) {
+            entries.remove(entry);
+            changed();
+            return;
+        }
+        entry.dropped = true;
+        entry.buffered.clear();
+        if (entry.finished) {
+            entries.remove(entry);
+            changed();
+        } else {
+            entry.handle.cancel(); // 종료 콜백에서 목록에서 제거
+        }
+    }
+
+    /**
+     * 맨 앞 요청 중단
+     *
+     * @return 중단할 요청이 있었으면 true
+     */
+    public boolean cancelHead() {
+        return head != null && head.handle.cancel();
+    }
+
+    /**
+     * 출력을 전달 중인 요청이 있는지 여부
+     */
+    public boolean hasActiveRequest() {
+        return head != null;
+    }
+
+    /**
+     * 실행할 수 있는 요청 실행
+     * 앞에서부터 보며, SEQUENTIAL 요청은 실행 중인 요청이 없을 때만 시작하고 그 뒤 요청은 모두 기다립니다.
+     */
+    private void schedule() {
+        int running = 0;
+        for (Entry entry : entries) {
+            if (entry.isStarted() && !entry.finished) {
+                if (entry.policy == Policy.SEQUENTIAL) {
+                    return; // 단독 실행 중
+                }
+                running++;
+            }
+        }
+
+        for (Entry entry : entries) {
+            if (entry.isStarted()) {
+                continue;
+            }
+            if (entry.policy == Policy.SEQUENTIAL) {
+                if (running == 0) {
+                    start(entry);
+                }
+                return;
+            }
+            if (running >= maxParallel) {
+                return;
+            }
+            start(entry);
+            running++;
+        }
+    }
+
+    private void start(Entry entry) {
+        LOGGER.info("요청 실행: \"" + entry.input + "\" (" + entry.policy + ")");
+        entry.handle = runner.run(entry.input, JpmConstants.NLP_REQUEST_TIMEOUT_MS,
+                event -> uiExecutor.accept(() -> onOutput(entry, event)),
+                exitCode -> uiExecutor.accept(() -> onFinished(entry, exitCode)));
+    }
+
+    private void onOutput(Entry entry, ProtocolEvent event) {
+        if (entry == head) {
+            listener.onOutput(event);
+        } else if (!entry.dropped) {
+            entry.buffered.add(event);
+        }
+    }
+
+    private void onFinished(Entry entry, int exitCode) {
+        entry.finished = true;
+        entry.exitCode = exitCode;
+        if (entry == head) {
+            entries.remove(entry);
+            head = null;
+            listener.onRequestCompleted(entry, exitCode);
+        } else if (entry.dropped) {
+            entries.remove(entry);
+        }
+        changed();
+    }
+
+    /**
+     * 맨 앞 요청 갱신
+     * 맨 앞 요청이 실행 중이면 모아둔 출력부터 전달하고, 이미 끝났으면 종료까지 전달한 뒤 다음 요청으로 넘어갑니다.
+     */
+    private void promoteHead() {
+        while (head == null && !entries.isEmpty() && entries.get(0).isStarted()) {
+            Entry next = entries.get(0);
+            head = next;
+            listener.onRequestStarted(next);
+            for (ProtocolEvent event : next.buffered) {
+                listener.onOutput(event);
+            }
+            next.buffered.clear();
+            if (next.finished) {
+                entries.remove(0);
+                head = null;
+                listener.onRequestCompleted(next, next.exitCode);
+            }
+        }
+    }
+
+    /**
+     * 목록이 바뀐 뒤 실행, 맨 앞 갱신, 저장, 알림
+     */
+    private void changed() {
+        if (closed) {
+            return;
+        }
+        schedule();
+        promoteHead();
+        persist();
+        listener.onQueueChanged();
+    }
+
+    /**
+     * 실행 전 요청을 파일에 저장 (저장 전용 스레드)
+     * 실행 중인 요청은 다음 실행에서 다시 실행되면 안 되므로 시작되는 순간 저장 목록에서 빠집니다.
+     */
+    private void persist() {
+        Properties properties = new Properties();
+        int count = 0;
+        for (Entry entry : entries) {
+            if (!entry.isStarted() && !entry.dropped) {
+                properties.setProperty(Integer.toString(count++), entry.input);
+            }
+        }
+        properties.setProperty("count", Integer.toString(count));
+        writer.execute(() -> {
+            try {
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), "request-queue", ".tmp");
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    properties.store(out, "JPM pending requests");
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "요청 대기열 저장 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 저장된 요청 불러오기 (파일 I/O - JavaFX 스레드가 아닌 곳에서 호출)
+     *
+     * @param file 저장 파일
+     * @return 저장된 입력 (입력 순서), 없으면 빈 목록
+     */
+    public static List<String> load(Path file) {
+        List<String> inputs = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return inputs;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            int count = Integer.parseInt(properties.getProperty("count", "0"));
+            for (int i = 0; i < count; i++) {
+                String input = properties.getProperty(Integer.toString(i));
+                if (input != null) {
+                    inputs.add(input);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "요청 대기열 읽기 실패", e);
+        }
+        return inputs;
+    }
+
+    /**
+     * 종료 - 실행 전 요청은 파일에 남겨 두고 저장 스레드 정리
+     * 프로세스 매니저보다 먼저 호출해야 종료 중 실행 중인 요청이 중단될 때 대기 요청이 새로 실행되지 않고 파일에 남습니다.
+     * 저장 스레드는 데몬이므로 마지막 저장이 끝날 때까지 잠깐 기다립니다.
+     */
+    public void shutdown() {
+        closed = true;
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(WRITER_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("요청 대기열 저장이 끝나지 않은 채 종료합니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 요청 하나의 하위 작업(출력 읽기, 종료 대기 등)을 묶어 관리하는 구조적 동시성 범위
+ * 하위 작업은 각각 가상 스레드에서 실행되며, 하나라도 실패하면 범위 전체를 종료해 나머지 작업도 중단합니다.
+ * 범위를 닫으면({@link #close}) 모든 하위 작업이 끝날 때까지 기다리므로 범위 밖으로 스레드가 새지 않습니다.
+ *
+ * JDK 21 의 StructuredTaskScope.ShutdownOnFailure 와 같은 방식이지만, 미리보기 기능 없이 쓰기 위해 직접 구현합니다.
+ * 프로세스 파이프 읽기처럼 인터럽트로 깨어나지 않는 작업은 {@link #onShutdown} 에 정리 작업(프로세스 종료 등)을 등록합니다.
+ *
+ * 사용 방법: 소유 스레드가 fork → join(또는 joinUntil) → throwIfFailed 순으로 호출하고 try-with-resources 로 닫습니다.
+ */
+public class RequestScope implements AutoCloseable {
+
+    private final String name;
+    private final List<Thread> threads = new ArrayList<>();          // 하위 작업 스레드
+    private final List<FutureTask<?>> tasks = new ArrayList<>();      // 하위 작업 결과
+    private final List<Runnable> shutdownActions = new ArrayList<>(); // 종료 시 실행할 정리 작업
+    private final AtomicReference<Throwable> failure = new AtomicReference<>(); // 처음 실패한 하위 작업의 예외
+    private boolean shutdown = false;
+
+    private static final Logger LOGGER = Logger.getLogger(RequestScope.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 범위 생성자
+     *
+     * @param name 범위 이름 (하위 작업 스레드 이름의 접두어)
+     */
+    public RequestScope(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 하위 작업을 새 가상 스레드에서 시작
+     *
+     * @param taskName 작업 이름 (스레드 이름에 사용)
+     * @param task 실행할 작업
+     * @return 작업 결과 ({@link #join} 이후 {@link Future#resultNow} 로 조회)
+     * @throws IllegalStateException 이미 종료된 범위인 경우
+     */
+    public synchronized <T> Future<T> fork(String taskName, Callable<T> task) {
+        if (shutdown) {
+            throw new IllegalStateException("이미 종료된 범위: " + name);
+        }
+        FutureTask<T> future = new FutureTask<>(task) {
+            @Override
+            protected void setException(Throwable t) {
+                super.setException(t);
+                // 실패는 범위 전체의 결과로 전파하고 나머지 작업 중단 (취소로 끝난 작업은 제외)
+                if (!isCancelled() && failure.compareAndSet(null, t)) {
+                    LOGGER.log(Level.FINE, name + "-" + taskName + " 실패", t);
+                    shutdown();
+                }
+            }
+        };
+        Thread thread = Thread.ofVirtual().name(name + "-" + taskName).unstarted(future);
+        tasks.add(future);
+        threads.add(thread);
+        thread.start();
+        return future;
+    }
+
+    /**
+     * 범위 종료 시 실행할 정리 작업 등록 (인터럽트로 깨어나지 않는 작업을 풀기 위해)
+     * 이미 종료된 범위면 등록 즉시 실행합니다.
+     *
+     * @param action 정리 작업
+     */
+    public void onShutdown(Runnable action) {
+        synchronized (this) {
+            if (!shutdown) {
+                shutdownActions.add(action);
+                return;
+            }
+        }
+        action.run();
+    }
+
+    /**
+     * 범위 종료 - 정리 작업을 실행하고 끝나지 않은 하위 작업을 취소(인터럽트)
+     * 여러 번 호출해도 한 번만 실행되며, 하위 작업이 끝나기를 기다리지는 않습니다.
+     */
+    public void shutdown() {
+        List<Runnable> actions;
+        List<FutureTask<?>> running;
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            actions = List.copyOf(shutdownActions);
+            running = List.copyOf(tasks);
+        }
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, name + " 정리 작업 실패", e);
+            }
+        }
+        for (FutureTask<?> task : running) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * 종료 여부 확인
+     */
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * 모든 하위 작업이 끝날 때까지 대기
+     *
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public void join() throws InterruptedException {
+        for (Thread thread : snapshot()) {
+            thread.join();
+        }
+    }
+
+    /**
+     * 모든 하위 작업이 끝나거나 기한이 될 때까지 대기
+     *
+     * @param deadlineNanos 기한 ({@link System#nanoTime} 기준)
+     * @return 기한 안에 모두 끝났으면 true
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public boolean joinUntil(long deadlineNanos) throws InterruptedException {
+        for (Thread thread : snapshot()) {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining > 0) {
+                thread.join(Duration.ofNanos(remaining));
+            }
+            if (thread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 하위 작업이 실패했으면 그 예외를 전달
+     *
+     * @throws ExecutionException 처음 실패한 하위 작업의 예외를 원인으로 포함
+     */
+    public void throwIfFailed() throws ExecutionException {
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new ExecutionException(t);
+        }
+    }
+
+    /**
+     * 범위 닫기 - 종료한 뒤 모든 하위 작업 스레드가 끝날 때까지 대기
+     * 대기 중 인터럽트되어도 끝까지 기다린 뒤 인터럽트 상태를 복원합니다.
+     */
+    @Override
+    public void close() {
+        shutdown();
+        boolean interrupted = false;
+        for (Thread thread : snapshot()) {
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized List<Thread> snapshot() {
+        return List.copyOf(threads);
+    }
+}
@@ -0,0 +1,324 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.protocol.FrameParser;
+import jpm.ui.protocol.ProgressEvent;
+import jpm.ui.protocol.ProtocolEvent;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * NLP 응답 캐시
+ * 같은 질문에 대한 응답(출력 이벤트 목록)을 기록해 두었다가 다시 요청하면 프로세스 실행 없이 재생합니다.
+ *
+ * 캐시 키는 정규화한 입력과 프로젝트 파일 지문(경로, 크기, 수정 시각)을 합친 값이므로,
+ * 프로젝트 파일이 바뀌면 이전 응답은 더 이상 조회되지 않습니다.
+ * 메모리에는 최근 사용 순(LRU)으로 일정 개수만 두고, 디스크에도 저장해 재시작 후에도 사용합니다.
+ * 모든 항목은 유효 시간(TTL)이 지나면 버립니다.
+ *
+ * 프로젝트를 바꾸는 명령(install, delete, build 등)이 실행된 응답은 저장하지 않습니다.
+ * 파일 I/O 를 하므로 JavaFX 스레드가 아닌 곳에서 호출합니다.
+ */
+public class ResponseCache {
+
+    private static final String FILE_HEADER = "JPM-RESPONSE-CACHE 1";
+    private static final String FILE_SUFFIX = ".frames";
+
+    // 캐시해도 되는 (프로젝트를 바꾸지 않는) JPM 작업
+    private static final Set<String> READ_ONLY_METHODS = Set.of("list", "version", "getMetadata");
+
+    private final Path directory;          // 디스크 캐시 디렉토리
+    private final List<Path> projectFiles; // 지문을 계산할 프로젝트 파일
+    private final int maxEntries;          // 메모리 캐시 최대 항목 수
+    private final int maxDiskEntries;      // 디스크 캐시 최대 항목 수
+    private final long ttlMillis;          // 항목 유효 시간
+    private final Map<String, Entry> entries; // 접근 순서 LinkedHashMap (LRU)
+
+    private static final Logger LOGGER = Logger.getLogger(ResponseCache.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 응답 캐시 생성자
+     *
+     * @param directory 디스크 캐시 디렉토리
+     * @param projectFiles 지문을 계산할 프로젝트 파일 (없는 파일도 "없음" 상태로 지문에 포함)
+     * @param maxEntries 메모리 캐시 최대 항목 수
+     * @param maxDiskEntries 디스크 캐시 최대 항목 수
+     * @param ttlMillis 항목 유효 시간 (ms)
+     */
+    public ResponseCache(Path directory, List<Path> projectFiles, int maxEntries, int maxDiskEntries, long ttlMillis) {
+        this.directory = directory;
+        this.projectFiles = List.copyOf(projectFiles);
+        this.maxEntries = maxEntries;
+        this.maxDiskEntries = maxDiskEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 입력과 현재 프로젝트 상태로 캐시 키 생성
+     * 요청 시작 시점에 만들어 두고 {@link #get}, {@link #put} 에 같은 키를 사용합니다.
+     *
+     * @param input 사용자 입력
+     * @return 캐시 키
+     */
+    public String keyFor(String input) {
+        return projectFingerprint() + ":" + normalize(input);
+    }
+
+    /**
+     * 입력 정규화 - 대소문자, 연속 공백, 끝의 문장 부호 차이를 무시
+     */
+    static String normalize(String input) {
+        String normalized = input.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        int end = normalized.length();
+        while (end > 0 && "?.!".indexOf(normalized.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return normalized.substring(0, end).strip();
+    }
+
+    /**
+     * 프로젝트 파일 지문 (파일마다 경로, 크기, 수정 시각의 SHA-256)
+     * 내용을 읽지 않고 파일 속성만 보므로 요청마다 계산해도 부담이 없습니다.
+     */
+    private String projectFingerprint() {
+        StringBuilder sb = new StringBuilder();
+        for (Path file : projectFiles) {
+            sb.append(file.toAbsolutePath()).append('|');
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                sb.append(attributes.size()).append('|').append(attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                sb.append('-'); // 파일 없음
+            }
+            sb.append('\n');
+        }
+        return sha256(sb.toString()).substring(0, 16);
+    }
+
+    /**
+     * 캐시된 응답 조회 (메모리 → 디스크 순)
+     *
+     * @param key {@link #keyFor} 로 만든 키
+     * @return 기록된 출력 이벤트, 없거나 만료되었으면 null
+     */
+    public synchronized List<ProtocolEvent> get(String key) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = readFromDisk(key);
+            if (entry != null) {
+                entries.put(key, entry);
+            }
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.createdAt > ttlMillis) {
+            entries.remove(key);
+            deleteFromDisk(key);
+            return null;
+        }
+        return entry.events;
+    }
+
+    /**
+     * 응답 저장 (프로젝트를 바꾸는 명령이 포함된 응답은 저장하지 않음)
+     *
+     * @param key 요청 시작 시점에 {@link #keyFor} 로 만든 키
+     * @param events 기록된 출력 이벤트
+     */
+    public synchronized void put(String key, List<ProtocolEvent> events) {
+        if (!isCacheable(events)) {
+            return;
+        }
+        Entry entry = new Entry(System.currentTimeMillis(), List.copyOf(events));
+        entries.put(key, entry);
+        writeToDisk(key, entry);
+    }
+
+    /**
+     * 캐시해도 되는 응답인지 여부
+     * 응답 본문이 있고, JPM 진행 상태가 모두 읽기 전용 작업일 때만 캐시합니다.
+     */
+    static boolean isCacheable(List<ProtocolEvent> events) {
+        boolean hasText = false;
+        for (ProtocolEvent event : events) {
+            if (event instanceof ProgressEvent progress && progress.isJpm()
+                    && !READ_ONLY_METHODS.contains(progress.getMethod())) {
+                return false;
+            }
+            hasText |= event.getType() == ProtocolEvent.Type.TEXT;
+        }
+        return hasText;
+    }
+
+    /**
+     * 메모리와 디스크의 모든 항목 삭제
+     */
+    public synchronized void clear() {
+        entries.clear();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.getFileName().toString().endsWith(FILE_SUFFIX)).forEach(ResponseCache::deleteQuietly);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "응답 캐시 디렉토리 없음", e);
+        }
+    }
+
+    private Path fileFor(String key) {
+        return directory.resolve(sha256(key) + FILE_SUFFIX);
+    }
+
+    /**
+     * 디스크 항목 읽기
+     * 파일 형식: 헤더 줄, 생성 시각(ms) 줄, 키 줄, 이후 프레임 한 줄씩
+     */
+    private Entry readFromDisk(String key) {
+        Path file = fileFor(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!FILE_HEADER.equals(reader.readLine())) {
+                return null;
+            }
+            long createdAt = Long.parseLong(reader.readLine());
+            if (!key.equals(reader.readLine())) {
+                return null; // 해시 충돌
+            }
+            List<ProtocolEvent> events = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ProtocolEvent event = FrameParser.parse(line);
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+            return new Entry(createdAt, List.copyOf(events));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "응답 캐시 읽기 실패: " + file, e);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /**
+     * 디스크 항목 쓰기 (임시 파일에 쓴 뒤 이동해 읽는 쪽에 반쯤 쓴 파일이 보이지 않도록 함)
+     */
+    private void writeToDisk(String key, Entry entry) {
+        try {
+            Files.createDirectories(directory);
+            Path file = fileFor(key);
+            Path temp = Files.createTempFile(directory, "response", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(FILE_HEADER);
+                writer.newLine();
+                writer.write(Long.toString(entry.createdAt));
+                writer.newLine();
+                writer.write(key);
+                writer.newLine();
+                for (ProtocolEvent event : entry.events) {
+                    writer.write(FrameParser.format(event));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            pruneDisk();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "응답 캐시 저장 실패", e);
+        }
+    }
+
+    private void deleteFromDisk(String key) {
+        deleteQuietly(fileFor(key));
+    }
+
+    /**
+     * 디스크 항목이 최대 개수를 넘으면 오래된 것부터 삭제
+     */
+    private void pruneDisk() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(f -> f.getFileName().toString().endsWith(FILE_SUFFIX)).toList();
+        }
+        if (files.size() <= maxDiskEntries) {
+            return;
+        }
+        files.stream()
+                .sorted(Comparator.comparingLong(ResponseCache::lastModified))
+                .limit(files.size() - maxDiskEntries)
+                .forEach(ResponseCache::deleteQuietly);
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "응답 캐시 파일 삭제 실패: " + file, e);
+        }
+    }
+
+    private static String sha256(String s) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JDK 가 SHA-256 을 지원
+        }
+    }
+
+    /**
+     * 캐시 항목 - 생성 시각과 기록된 출력 이벤트
+     */
+    private static final class Entry {
+        private final long createdAt;
+        private final List<ProtocolEvent> events;
+
+        Entry(long createdAt, List<ProtocolEvent> events) {
+            this.createdAt = createdAt;
+            this.events = events;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package jpm.ui.model;
+
+/**
+ * 채팅 기록 검색 결과 한 건
+ */
+public class SearchHit {
+
+    private final int index;             // 채팅 기록에서의 메시지 순번
+    private final double score;          // 관련도 점수 (클수록 관련 높음)
+    private final ChatMessage message;   // 찾은 메시지
+
+    /**
+     * 검색 결과 생성자
+     *
+     * @param index 채팅 기록에서의 메시지 순번
+     * @param score 관련도 점수
+     * @param message 찾은 메시지
+     */
+    public SearchHit(int index, double score, ChatMessage message) {
+        this.index = index;
+        this.score = score;
+        this.message = message;
+    }
+
+    /**
+     * 메시지 순번 getter
+     *
+     * @return 채팅 기록에서의 메시지 순번
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 관련도 점수 getter
+     *
+     * @return 관련도 점수
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * 찾은 메시지 getter
+     *
+     * @return 찾은 메시지
+     */
+    public ChatMessage getMessage() {
+        return message;
+    }
+}
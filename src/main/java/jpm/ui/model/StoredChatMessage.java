@@ -0,0 +1,39 @@
+package jpm.ui.model;
+
+/**
+ * {@link MessageStore} 에 저장된 메시지의 뷰 (저장소와 순번만 보관)
+ * 내용은 요청할 때마다 저장소에서 풀어 만들므로, 자주 쓰는 값은 호출 측에서 보관합니다.
+ */
+final class StoredChatMessage extends ChatMessage {
+
+    private final MessageStore store;
+    private final int index;          // 저장소에서의 순번
+
+    StoredChatMessage(MessageStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    boolean isStoredIn(MessageStore store) {
+        return this.store == store;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String getContent() {
+        return store.contentAt(index);
+    }
+
+    @Override
+    public MessageType getType() {
+        return store.typeAt(index);
+    }
+
+    @Override
+    public long getEpochMillis() {
+        return store.epochMillisAt(index);
+    }
+}
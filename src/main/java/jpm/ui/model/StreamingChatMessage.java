@@ -0,0 +1,83 @@
+package jpm.ui.model;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+
+/**
+ * 출력 중인 JPM 응답을 나타내는 메시지 클래스
+ * 응답 본문이 도착할 때마다 같은 말풍선 안에서 내용이 늘어나며,
+ * 출력이 끝나면 {@link #freeze} 로 {@link MessageStore} 에 저장된 일반 메시지로 고정됩니다.
+ *
+ * 내용 추가({@link #append})와 화면 반영({@link #publish})을 분리해,
+ * 화면 갱신 빈도를 호출 측에서 제한할 수 있습니다. JavaFX 스레드에서만 사용합니다.
+ */
+public class StreamingChatMessage extends ChatMessage {
+
+    private final StringBuilder buffer = new StringBuilder(); // 지금까지 받은 내용
+    private final ReadOnlyStringWrapper text = new ReadOnlyStringWrapper(this, "text", ""); // 화면에 반영된 내용
+    private final long epochMillis = System.currentTimeMillis(); // 생성 시간
+    private boolean dirty = false; // 반영되지 않은 내용이 있는지 여부
+
+    /**
+     * 내용 추가 (화면에는 {@link #publish()} 호출 시 반영)
+     *
+     * @param chunk 추가할 내용
+     * @param inline true 면 줄바꿈 없이 이어 붙임 (토큰 단위 출력), false 면 새 줄로 추가
+     */
+    public void append(String chunk, boolean inline) {
+        if (!inline && buffer.length() > 0) {
+            buffer.append('\n');
+        }
+        buffer.append(chunk);
+        dirty = true;
+    }
+
+    /**
+     * 반영되지 않은 내용이 있는지 여부
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 지금까지 받은 내용을 화면에 반영
+     */
+    public void publish() {
+        if (dirty) {
+            text.set(buffer.toString());
+            dirty = false;
+        }
+    }
+
+    /**
+     * 화면에 반영된 내용 (셀에서 바인딩)
+     */
+    public ReadOnlyStringProperty textProperty() {
+        return text.getReadOnlyProperty();
+    }
+
+    /**
+     * 출력 완료 후 변경되지 않는 메시지로 변환
+     *
+     * @param store 메시지를 저장할 저장소
+     * @return 같은 내용의 일반 JPM 메시지
+     */
+    public ChatMessage freeze(MessageStore store) {
+        return store.append(MessageType.JPM, epochMillis, buffer.toString());
+    }
+
+    @Override
+    public String getContent() {
+        return text.get();
+    }
+
+    @Override
+    public MessageType getType() {
+        return MessageType.JPM;
+    }
+
+    @Override
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+}
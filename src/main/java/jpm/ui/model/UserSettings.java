@@ -0,0 +1,79 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 사용자 설정 (~/.jpm/settings.properties)
+ * 사용자가 직접 편집하는 키=값 파일이며, 파일이 없거나 값이 없으면 각 설정의 기본값을 사용합니다.
+ * 같은 이름의 시스템 프로퍼티(jpm. 접두사)가 있으면 파일보다 우선합니다. 예: rendering.profile → -Djpm.rendering.profile
+ */
+public class UserSettings {
+
+    // 렌더링 방식 (auto, full, cached, opaque)
+    public static final String RENDERING_PROFILE = "rendering.profile";
+
+    private final Properties properties;
+
+    private static final Logger LOGGER = Logger.getLogger(UserSettings.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    private UserSettings(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 설정 파일 읽기 (파일 I/O)
+     *
+     * @param file 설정 파일
+     * @return 사용자 설정, 파일이 없거나 읽지 못하면 빈 설정
+     */
+    public static UserSettings load(Path file) {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.log(Level.WARNING, "사용자 설정 읽기 실패: " + file, e);
+            }
+        }
+        return new UserSettings(properties);
+    }
+
+    /**
+     * 기본 위치의 설정 파일 읽기
+     */
+    public static UserSettings load() {
+        return load(JpmConstants.USER_DATA_DIR.resolve("settings.properties"));
+    }
+
+    /**
+     * 설정 값 조회
+     *
+     * @param key 설정 키
+     * @param defaultValue 설정이 없을 때의 값
+     * @return 시스템 프로퍼티, 설정 파일, 기본값 순으로 찾은 값 (앞뒤 공백 제거)
+     */
+    public String get(String key, String defaultValue) {
+        String value = System.getProperty("jpm." + key);
+        if (value == null) {
+            value = properties.getProperty(key);
+        }
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
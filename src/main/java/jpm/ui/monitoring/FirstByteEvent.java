@@ -0,0 +1,26 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 접수부터 첫 출력 이벤트까지의 시간 (time to first byte)
+ */
+@Name("jpm.FirstByte")
+@Label("JPM Time To First Byte")
+@Category({"JPM", "Request"})
+@Description("요청을 접수한 뒤 프로세스에서 첫 프레임을 받을 때까지의 시간")
+@StackTrace(false)
+class FirstByteEvent extends Event {
+
+    @Label("Request ID")
+    long requestId;
+
+    @Label("First Frame")
+    @Description("처음 받은 프레임 종류 (PROGRESS, OUTPUT_START, TEXT ...)")
+    String frameType;
+}
@@ -0,0 +1,29 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 응답 출력 구간 ({@code OUTPUT;START} 부터 {@code OUTPUT;END} 까지)
+ */
+@Name("jpm.OutputSection")
+@Label("JPM Output Section")
+@Category({"JPM", "Request"})
+@Description("OUTPUT;START 부터 OUTPUT;END (또는 요청 종료) 까지의 시간")
+@StackTrace(false)
+class OutputSectionEvent extends Event {
+
+    @Label("Request ID")
+    long requestId;
+
+    @Label("Text Frames")
+    long textFrames;
+
+    @Label("Closed")
+    @Description("OUTPUT;END 로 끝났으면 true, 요청 종료로 끊겼으면 false")
+    boolean closed;
+}
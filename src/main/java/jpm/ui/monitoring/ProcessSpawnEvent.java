@@ -0,0 +1,55 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * NLP 프로세스 실행 (인터프리터 시작 비용)
+ * 단발성 실행은 프로세스 생성까지, 상주 워커는 READY 프레임을 받을 때까지의 시간입니다.
+ */
+@Name("jpm.ProcessSpawn")
+@Label("JPM Process Spawn")
+@Category({"JPM", "Process"})
+@Description("NLP 프로세스를 실행하는 데 걸린 시간 (워커는 READY 수신까지)")
+@StackTrace(false)
+public class ProcessSpawnEvent extends Event {
+
+    public static final String MODE_ONESHOT = "oneshot";
+    public static final String MODE_WORKER = "worker";
+
+    @Label("Request ID")
+    @Description("단발성 실행의 요청 ID (워커 실행은 0)")
+    long requestId;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("PID")
+    long pid;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * 실행 결과를 기록하고 이벤트 저장 (기록 중이 아니면 아무것도 하지 않음)
+     *
+     * @param requestId 요청 ID (워커 실행은 0)
+     * @param mode {@link #MODE_ONESHOT} 또는 {@link #MODE_WORKER}
+     * @param process 실행된 프로세스 (실패하면 null)
+     * @param success 실행 성공 여부
+     */
+    public void complete(long requestId, String mode, Process process, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.requestId = requestId;
+            this.mode = mode;
+            this.pid = process != null ? process.pid() : -1;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 진행 단계 하나 ({@code PROGRESS;<source>;<method>} 를 받은 뒤 다음 단계나 출력 시작까지)
+ */
+@Name("jpm.ProgressStage")
+@Label("JPM Progress Stage")
+@Category({"JPM", "Request"})
+@Description("PROGRESS 프레임 하나가 나타낸 단계의 시간 (다음 PROGRESS, OUTPUT;START 또는 요청 종료까지)")
+@StackTrace(false)
+class ProgressStageEvent extends Event {
+
+    @Label("Request ID")
+    long requestId;
+
+    @Label("Source")
+    @Description("진행 주체 (JPM: jpm-core 작업, GPT: 모델 응답 대기)")
+    String source;
+
+    @Label("Method")
+    String method;
+
+    @Label("Argument")
+    String argument;
+}
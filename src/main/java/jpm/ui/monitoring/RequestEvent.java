@@ -0,0 +1,36 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 하나의 전체 수명 (접수부터 종료 콜백까지)
+ */
+@Name("jpm.Request")
+@Label("JPM Request")
+@Category({"JPM", "Request"})
+@Description("사용자 요청 하나를 접수한 뒤 종료될 때까지의 시간")
+@StackTrace(false)
+class RequestEvent extends Event {
+
+    @Label("Request ID")
+    long requestId;
+
+    @Label("Route")
+    @Description("요청이 전달된 경로 (cache, pool, oneshot). 풀에서 단발성 실행으로 대체되면 같은 ID 의 Process Spawn 이벤트가 함께 기록됩니다")
+    String route;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Exit Code")
+    @Description("프로세스 종료 코드 또는 ProcessManager 의 EXIT_* 코드 (음수)")
+    int exitCode;
+
+    @Label("Output Events")
+    long outputEvents;
+}
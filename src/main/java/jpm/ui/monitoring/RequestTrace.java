@@ -0,0 +1,175 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.EventType;
+import jpm.ui.protocol.ProgressEvent;
+import jpm.ui.protocol.ProtocolEvent;
+
+/**
+ * 요청 하나의 단계별 시간을 JDK Flight Recorder 이벤트로 기록
+ * 프로세스에서 받은 출력 이벤트를 순서대로 관찰해 첫 응답, 진행 단계, 출력 구간, 종료를 각각의 이벤트로 남깁니다.
+ *
+ * 요청 이벤트가 하나도 기록 중이 아니면 {@link #begin} 이 아무것도 하지 않는 공유 인스턴스를 돌려주므로,
+ * 기록하지 않을 때는 시각 측정이나 객체 생성 없이 빈 메서드 호출만 남습니다.
+ * 출력 읽기 스레드와 종료 처리 스레드에서 함께 호출되므로 모든 메서드를 동기화합니다.
+ *
+ * 기록 예: {@code java -XX:StartFlightRecording:filename=jpm.jfr ...} 후
+ * {@code jfr print --events jpm.Request,jpm.ProgressStage jpm.jfr} 또는 JMC 의 Event Browser 에서 JPM 분류 확인
+ */
+public class RequestTrace {
+
+    public static final String ROUTE_CACHE = "cache";
+    public static final String ROUTE_POOL = "pool";
+    public static final String ROUTE_ONESHOT = "oneshot";
+
+    // 기록하지 않을 때 사용하는 빈 추적
+    private static final RequestTrace DISABLED = new RequestTrace(0, 0) {
+        @Override
+        public void setRoute(String route) {
+        }
+
+        @Override
+        public void onEvent(ProtocolEvent event) {
+        }
+
+        @Override
+        public void complete(int exitCode) {
+        }
+    };
+
+    private static final EventType[] REQUEST_EVENT_TYPES = {
+            EventType.getEventType(RequestEvent.class),
+            EventType.getEventType(FirstByteEvent.class),
+            EventType.getEventType(ProgressStageEvent.class),
+            EventType.getEventType(OutputSectionEvent.class)
+    };
+
+    private final RequestEvent request;
+    private FirstByteEvent firstByte;     // 첫 출력 전까지만 유지
+    private ProgressStageEvent stage;     // 진행 중인 단계 (없으면 null)
+    private OutputSectionEvent output;    // 진행 중인 출력 구간 (없으면 null)
+    private boolean completed = false;
+
+    private RequestTrace(long requestId, int inputLength) {
+        request = new RequestEvent();
+        request.requestId = requestId;
+        request.inputLength = inputLength;
+        request.route = ROUTE_ONESHOT;
+    }
+
+    /**
+     * 요청 추적 시작 (요청 접수 시점)
+     *
+     * @param requestId 요청 ID
+     * @param input 사용자 입력
+     * @return 요청 추적, 요청 이벤트가 기록 중이 아니면 아무것도 하지 않는 인스턴스
+     */
+    public static RequestTrace begin(long requestId, String input) {
+        if (!isRecording()) {
+            return DISABLED;
+        }
+        RequestTrace trace = new RequestTrace(requestId, input.length());
+        trace.request.begin();
+        trace.firstByte = new FirstByteEvent();
+        trace.firstByte.requestId = requestId;
+        trace.firstByte.begin();
+        return trace;
+    }
+
+    /**
+     * 요청 관련 이벤트가 하나라도 기록 중인지 확인
+     */
+    private static boolean isRecording() {
+        for (EventType type : REQUEST_EVENT_TYPES) {
+            if (type.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청이 전달된 경로 기록
+     *
+     * @param route {@link #ROUTE_CACHE}, {@link #ROUTE_POOL}, {@link #ROUTE_ONESHOT}
+     */
+    public synchronized void setRoute(String route) {
+        request.route = route;
+    }
+
+    /**
+     * 출력 이벤트 관찰 (받은 순서대로 호출)
+     *
+     * @param event 프로세스에서 받은 출력 이벤트
+     */
+    public synchronized void onEvent(ProtocolEvent event) {
+        if (completed) {
+            return;
+        }
+        request.outputEvents++;
+        if (firstByte != null) {
+            firstByte.end();
+            firstByte.frameType = event.getType().name();
+            firstByte.commit();
+            firstByte = null;
+        }
+        switch (event.getType()) {
+            case PROGRESS -> {
+                endStage();
+                ProgressEvent progress = (ProgressEvent) event;
+                stage = new ProgressStageEvent();
+                stage.requestId = request.requestId;
+                stage.source = progress.getSource();
+                stage.method = progress.getMethod();
+                stage.argument = progress.getArgumentValue();
+                stage.begin();
+            }
+            case OUTPUT_START -> {
+                endStage();
+                endOutput(false);
+                output = new OutputSectionEvent();
+                output.requestId = request.requestId;
+                output.begin();
+            }
+            case OUTPUT_END -> endOutput(true);
+            case TEXT -> {
+                if (output != null) {
+                    output.textFrames++;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 요청 종료 - 진행 중인 단계와 출력 구간을 닫고 요청 이벤트 저장
+     *
+     * @param exitCode 종료 코드
+     */
+    public synchronized void complete(int exitCode) {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        endStage();
+        endOutput(false);
+        request.end();
+        request.exitCode = exitCode;
+        request.commit();
+    }
+
+    private void endStage() {
+        if (stage != null) {
+            stage.commit();
+            stage = null;
+        }
+    }
+
+    private void endOutput(boolean closed) {
+        if (output != null) {
+            output.closed = closed;
+            output.commit();
+            output = null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 애플리케이션 시작 단계별 시간 (JVM 시작 시각 기준)
+ */
+@Name("jpm.Startup")
+@Label("JPM Startup")
+@Category({"JPM", "UI"})
+@Description("JVM 시작부터 첫 화면 표시, 입력 가능 상태까지 걸린 시간")
+@StackTrace(false)
+public class StartupEvent extends Event {
+
+    @Label("Init")
+    @Description("Application.init() 완료 (폰트 등 리소스 준비)")
+    @Timespan(Timespan.MILLISECONDS)
+    long init;
+
+    @Label("First Frame")
+    @Description("창 틀만 있는 첫 화면의 레이아웃 완료")
+    @Timespan(Timespan.MILLISECONDS)
+    long firstFrame;
+
+    @Label("Interactive")
+    @Description("메인 뷰와 스타일을 붙인 화면의 레이아웃 완료")
+    @Timespan(Timespan.MILLISECONDS)
+    long interactive;
+
+    /**
+     * 단계별 시간을 기록하고 이벤트 저장 (기록 중이 아니면 아무것도 하지 않음)
+     *
+     * @param init JVM 시작부터 init() 완료까지 (ms)
+     * @param firstFrame JVM 시작부터 첫 화면까지 (ms)
+     * @param interactive JVM 시작부터 입력 가능 상태까지 (ms)
+     */
+    public void complete(long init, long firstFrame, long interactive) {
+        end();
+        if (shouldCommit()) {
+            this.init = init;
+            this.firstFrame = firstFrame;
+            this.interactive = interactive;
+            commit();
+        }
+    }
+}
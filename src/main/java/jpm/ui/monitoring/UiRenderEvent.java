@@ -0,0 +1,41 @@
+package jpm.ui.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 펄스 한 번에 모인 출력 갱신을 화면에 반영하는 시간 (JavaFX 스레드)
+ */
+@Name("jpm.UiRender")
+@Label("JPM UI Render")
+@Category({"JPM", "UI"})
+@Description("UI 갱신 대기열에서 꺼낸 출력 갱신을 채팅 목록에 반영하는 데 걸린 시간")
+@StackTrace(false)
+public class UiRenderEvent extends Event {
+
+    @Label("Updates")
+    int updates;
+
+    @Label("Pending")
+    @Description("반영 후에도 대기열에 남은 갱신 수")
+    int pending;
+
+    /**
+     * 반영 결과를 기록하고 이벤트 저장 (기록 중이 아니면 아무것도 하지 않음)
+     *
+     * @param updates 이번에 반영한 갱신 수
+     * @param pending 대기열에 남은 갱신 수
+     */
+    public void complete(int updates, int pending) {
+        end();
+        if (shouldCommit()) {
+            this.updates = updates;
+            this.pending = pending;
+            commit();
+        }
+    }
+}
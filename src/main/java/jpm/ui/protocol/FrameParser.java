@@ -0,0 +1,212 @@
+package jpm.ui.protocol;
+
+/**
+ * 프레임(출력 한 줄) 파서
+ * {@code String.split} 없이 구분자 위치만 찾아 필드를 비교하므로,
+ * 인자 없는 알려진 진행 상태와 OUTPUT 명령은 새 객체를 만들지 않습니다.
+ *
+ * 잘못된 프레임에 대해 예외를 던지지 않습니다.
+ * - 필드가 부족한 PROGRESS 는 빈 필드로 채운 진행 상태 이벤트
+ * - START/END/APPEND 가 아닌 OUTPUT 은 본문 이벤트
+ * - 빈 줄은 null (무시)
+ */
+public final class FrameParser {
+
+    private static final String PROGRESS = "PROGRESS";
+    private static final String OUTPUT = "OUTPUT";
+    private static final String START = "START";
+    private static final String END = "END";
+    private static final String APPEND = "APPEND";
+
+    private FrameParser() {
+    }
+
+    /**
+     * 문자열 전체를 프레임으로 파싱
+     *
+     * @param frame 출력 한 줄
+     * @return 파싱된 이벤트, 빈 줄이면 null
+     */
+    public static ProtocolEvent parse(CharSequence frame) {
+        return parse(frame, 0, frame.length());
+    }
+
+    /**
+     * 문자열의 [start, end) 구간을 프레임으로 파싱
+     *
+     * @param frame 프레임을 담은 문자열 (재사용 버퍼여도 됨 - 결과 이벤트는 버퍼를 참조하지 않음)
+     * @param start 시작 위치
+     * @param end 끝 위치 (미포함)
+     * @return 파싱된 이벤트, 빈 줄이면 null
+     */
+    public static ProtocolEvent parse(CharSequence frame, int start, int end) {
+        // 앞뒤 공백 제외한 구간
+        int from = start;
+        int to = end;
+        while (from < to && Character.isWhitespace(frame.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(frame.charAt(to - 1))) {
+            to--;
+        }
+        if (from == to) {
+            return null;
+        }
+
+        int first = indexOf(frame, ';', from, to);
+        int headEnd = first < 0 ? to : first;
+
+        if (regionEquals(frame, from, headEnd, PROGRESS)) {
+            return parseProgress(frame, first < 0 ? to : first + 1, to);
+        }
+        if (first >= 0 && regionEquals(frame, from, headEnd, OUTPUT)) {
+            int second = indexOf(frame, ';', first + 1, to);
+            int argEnd = second < 0 ? to : second;
+            if (regionEquals(frame, first + 1, argEnd, START)) {
+                return OutputStart.INSTANCE;
+            }
+            if (regionEquals(frame, first + 1, argEnd, END)) {
+                return OutputEnd.INSTANCE;
+            }
+            if (second >= 0 && regionEquals(frame, first + 1, argEnd, APPEND)) {
+                // 토큰은 앞뒤 공백도 내용이므로 원래 구간 끝까지 사용
+                return new TextChunk(unescape(frame, second + 1, end), true);
+            }
+        }
+        return new TextChunk(frame.subSequence(start, end).toString());
+    }
+
+    /**
+     * PROGRESS 이후의 {@code <source>;<method>[;<argument>]} 파싱
+     */
+    private static ProgressEvent parseProgress(CharSequence frame, int from, int to) {
+        int sourceEnd = indexOf(frame, ';', from, to);
+        if (sourceEnd < 0) {
+            sourceEnd = to;
+        }
+        int methodStart = Math.min(sourceEnd + 1, to);
+        int methodEnd = indexOf(frame, ';', methodStart, to);
+        int argStart = methodEnd < 0 ? to : methodEnd + 1;
+        if (methodEnd < 0) {
+            methodEnd = to;
+        }
+
+        int sourceIndex = find(ProgressEvent.KNOWN_SOURCES, frame, from, sourceEnd);
+        int methodIndex = find(ProgressEvent.KNOWN_METHODS, frame, methodStart, methodEnd);
+        boolean hasArgument = argStart < to;
+
+        if (!hasArgument && sourceIndex >= 0 && methodIndex >= 0) {
+            return ProgressEvent.preallocated(sourceIndex, methodIndex);
+        }
+
+        String source = sourceIndex >= 0 ? ProgressEvent.KNOWN_SOURCES[sourceIndex] : substring(frame, from, sourceEnd);
+        String method = methodIndex >= 0 ? ProgressEvent.KNOWN_METHODS[methodIndex] : substring(frame, methodStart, methodEnd);
+        String key = null;
+        String value = null;
+        if (hasArgument) {
+            // "key:value" 형태, ':' 가 없으면 값만 있는 것으로 처리
+            int colon = indexOf(frame, ':', argStart, to);
+            if (colon < 0) {
+                value = substring(frame, argStart, to);
+            } else {
+                key = substring(frame, argStart, colon);
+                value = substring(frame, colon + 1, to);
+            }
+        }
+        return new ProgressEvent(source, method, key, value);
+    }
+
+    /**
+     * 이벤트를 다시 프레임 문자열로 변환 ({@link #parse} 의 역변환)
+     * 기록해 둔 출력을 저장했다가 다시 파싱해 재생할 때 사용합니다.
+     * 여러 줄인 본문은 줄마다 한 프레임으로 나누어 줄바꿈으로 이어 붙입니다.
+     *
+     * @param event 변환할 이벤트
+     * @return 프레임 문자열 (한 줄 이상)
+     */
+    public static String format(ProtocolEvent event) {
+        if (event instanceof TextChunk chunk) {
+            if (chunk.isInline()) {
+                return OUTPUT + ";" + APPEND + ";" + escape(chunk.getText());
+            }
+            return chunk.getText();
+        }
+        // 진행 상태, OUTPUT;START/END 는 toString 이 프레임 형식
+        return event.toString();
+    }
+
+    /**
+     * 토큰 내용 이스케이프 (줄바꿈 → \n, 역슬래시 → \\)
+     */
+    private static String escape(String s) {
+        if (s.indexOf('\\') < 0 && s.indexOf('\n') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length() + 8);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\') {
+                sb.append("\\\\");
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 토큰 내용의 이스케이프 해제 (\n → 줄바꿈, \\ → 역슬래시)
+     */
+    private static String unescape(CharSequence s, int from, int to) {
+        if (indexOf(s, '\\', from, to) < 0) {
+            return substring(s, from, to);
+        }
+        StringBuilder sb = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < to) {
+                char next = s.charAt(++i);
+                sb.append(next == 'n' ? '\n' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int find(String[] candidates, CharSequence frame, int from, int to) {
+        for (int i = 0; i < candidates.length; i++) {
+            if (regionEquals(frame, from, to, candidates[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence s, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(CharSequence s, int from, int to, String literal) {
+        if (to - from != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (s.charAt(from + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String substring(CharSequence s, int from, int to) {
+        return from >= to ? "" : s.subSequence(from, to).toString();
+    }
+}
@@ -0,0 +1,121 @@
+package jpm.ui.protocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 출력 스트림에서 프레임(한 줄)을 읽는 클래스
+ * 재사용 바이트/문자 버퍼와 점진적 UTF-8 디코딩을 사용하므로,
+ * 멀티바이트 문자가 읽기 경계에 걸쳐도 깨지지 않고 줄마다 Reader 객체를 만들지 않습니다.
+ *
+ * 한 인스턴스는 하나의 스트림을 한 스레드에서 읽는 용도입니다.
+ */
+public final class FrameReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_FRAME_LENGTH = 1 << 20; // 줄바꿈 없이 이보다 길면 끊어서 전달
+
+    private final InputStream in;
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder frame = new StringBuilder(256); // 현재 줄 (재사용)
+
+    /**
+     * 프레임 리더 생성자
+     *
+     * @param in 읽을 스트림 (프로세스 표준 출력)
+     */
+    public FrameReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * 스트림 끝까지 프레임을 읽어 전달
+     * 전달되는 문자열은 재사용 버퍼이므로 콜백 안에서만 유효합니다.
+     *
+     * @param handler 프레임 처리 콜백
+     * @throws IOException 스트림 읽기 오류
+     */
+    public void readFrames(Consumer<CharSequence> handler) throws IOException {
+        while (true) {
+            int n = in.read(bytes.array(), bytes.position(), bytes.remaining());
+            boolean eof = n < 0;
+            if (!eof) {
+                bytes.position(bytes.position() + n);
+            }
+
+            bytes.flip();
+            CoderResult result;
+            do {
+                result = decoder.decode(bytes, chars, eof);
+                drainChars(handler);
+            } while (result.isOverflow());
+            bytes.compact();
+
+            if (eof) {
+                while (decoder.flush(chars).isOverflow()) {
+                    drainChars(handler);
+                }
+                drainChars(handler);
+                if (frame.length() > 0) {
+                    emit(handler);
+                }
+                decoder.reset();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 스트림 끝까지 읽으며 프레임을 이벤트로 파싱해 전달 (빈 줄은 무시)
+     *
+     * @param handler 이벤트 처리 콜백
+     * @throws IOException 스트림 읽기 오류
+     */
+    public void readEvents(Consumer<ProtocolEvent> handler) throws IOException {
+        readFrames(line -> {
+            ProtocolEvent event = FrameParser.parse(line);
+            if (event != null) {
+                handler.accept(event);
+            }
+        });
+    }
+
+    /**
+     * 디코딩된 문자를 줄 단위로 나눠 전달
+     */
+    private void drainChars(Consumer<CharSequence> handler) {
+        chars.flip();
+        while (chars.hasRemaining()) {
+            char c = chars.get();
+            if (c == '\n') {
+                emit(handler);
+            } else {
+                frame.append(c);
+                if (frame.length() >= MAX_FRAME_LENGTH) {
+                    emit(handler);
+                }
+            }
+        }
+        chars.clear();
+    }
+
+    private void emit(Consumer<CharSequence> handler) {
+        int length = frame.length();
+        if (length > 0 && frame.charAt(length - 1) == '\r') {
+            frame.setLength(length - 1);
+        }
+        handler.accept(frame);
+        frame.setLength(0);
+    }
+}
@@ -0,0 +1,23 @@
+package jpm.ui.protocol;
+
+/**
+ * 응답 출력 종료 이벤트 ({@code OUTPUT;END})
+ * 상태가 없으므로 하나의 인스턴스를 공유합니다.
+ */
+public final class OutputEnd extends ProtocolEvent {
+
+    public static final OutputEnd INSTANCE = new OutputEnd();
+
+    private OutputEnd() {
+    }
+
+    @Override
+    public Type getType() {
+        return Type.OUTPUT_END;
+    }
+
+    @Override
+    public String toString() {
+        return "OUTPUT;END";
+    }
+}
@@ -0,0 +1,23 @@
+package jpm.ui.protocol;
+
+/**
+ * 응답 출력 시작 이벤트 ({@code OUTPUT;START})
+ * 상태가 없으므로 하나의 인스턴스를 공유합니다.
+ */
+public final class OutputStart extends ProtocolEvent {
+
+    public static final OutputStart INSTANCE = new OutputStart();
+
+    private OutputStart() {
+    }
+
+    @Override
+    public Type getType() {
+        return Type.OUTPUT_START;
+    }
+
+    @Override
+    public String toString() {
+        return "OUTPUT;START";
+    }
+}
@@ -0,0 +1,68 @@
+package jpm.ui.protocol;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 긴 출력의 요약 이벤트
+ * NLP 프로세스가 보내는 프레임이 아니라, 출력이 너무 길 때 {@code OutputBuffer} 가 만들어 전달합니다.
+ * 앞부분은 이미 본문 이벤트로 전달되었고, 이 이벤트는 생략된 줄 수와 마지막 몇 줄, 전체 출력 파일을 담습니다.
+ *
+ * 출력이 처음 생략되기 시작할 때 기록 중인 파일만 담은 중간 요약({@link #isFinal()} == false)을 한 번 먼저 보내,
+ * 명령이 끝나기 전에도 전체 출력을 열어볼 수 있게 합니다.
+ */
+public final class OutputSummary extends ProtocolEvent {
+
+    private final long totalLines;   // 전체 출력 줄 수
+    private final long omittedLines; // 화면에 보여주지 않은 줄 수
+    private final List<String> tail; // 마지막 몇 줄
+    private final Path fullOutput;   // 전체 출력이 기록된 파일 (생략된 줄이 없거나 기록에 실패했으면 null)
+    private final boolean complete;  // 출력 구간이 끝난 뒤의 최종 요약인지 여부
+
+    /**
+     * 출력 요약 이벤트 생성자
+     *
+     * @param totalLines 전체 출력 줄 수
+     * @param omittedLines 화면에 보여주지 않은 줄 수
+     * @param tail 마지막 몇 줄
+     * @param fullOutput 전체 출력 파일 (없으면 null)
+     * @param complete 출력 구간이 끝난 뒤의 최종 요약이면 true, 기록 중인 파일을 알리는 중간 요약이면 false
+     */
+    public OutputSummary(long totalLines, long omittedLines, List<String> tail, Path fullOutput, boolean complete) {
+        this.totalLines = totalLines;
+        this.omittedLines = omittedLines;
+        this.tail = List.copyOf(tail);
+        this.fullOutput = fullOutput;
+        this.complete = complete;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public long getOmittedLines() {
+        return omittedLines;
+    }
+
+    public List<String> getTail() {
+        return tail;
+    }
+
+    public Path getFullOutput() {
+        return fullOutput;
+    }
+
+    public boolean isFinal() {
+        return complete;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.OUTPUT_SUMMARY;
+    }
+
+    @Override
+    public String toString() {
+        return "OUTPUT;SUMMARY;" + totalLines + ";" + omittedLines;
+    }
+}
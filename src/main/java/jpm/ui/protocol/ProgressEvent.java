@@ -0,0 +1,104 @@
+package jpm.ui.protocol;
+
+/**
+ * 진행 상태 이벤트 ({@code PROGRESS;<source>;<method>[;<key>:<value>]})
+ * 예: {@code PROGRESS;JPM;install;pkg:junit}, {@code PROGRESS;GPT;generate}
+ *
+ * 인자가 없는 알려진 source/method 조합은 미리 만들어 둔 인스턴스를 재사용합니다.
+ */
+public final class ProgressEvent extends ProtocolEvent {
+
+    public static final String SOURCE_JPM = "JPM";
+    public static final String SOURCE_GPT = "GPT";
+
+    // 미리 생성해 둘 source / method 목록
+    static final String[] KNOWN_SOURCES = {SOURCE_JPM, SOURCE_GPT};
+    static final String[] KNOWN_METHODS = {
+            "init", "install", "update", "list", "delete", "build", "test", "run",
+            "clean", "version", "set", "getMetadata", "refresh", "generate"
+    };
+    private static final ProgressEvent[][] PREALLOCATED = new ProgressEvent[KNOWN_SOURCES.length][KNOWN_METHODS.length];
+
+    static {
+        for (int s = 0; s < KNOWN_SOURCES.length; s++) {
+            for (int m = 0; m < KNOWN_METHODS.length; m++) {
+                PREALLOCATED[s][m] = new ProgressEvent(KNOWN_SOURCES[s], KNOWN_METHODS[m], null, null);
+            }
+        }
+    }
+
+    private final String source;        // 진행 주체 (JPM, GPT)
+    private final String method;        // 진행 중인 작업 (install, build, generate ...)
+    private final String argumentKey;   // 인자 키 (예: pkg), 없으면 null
+    private final String argumentValue; // 인자 값 (예: 패키지 이름), 없으면 null
+
+    /**
+     * 진행 상태 이벤트 생성자
+     *
+     * @param source 진행 주체
+     * @param method 진행 중인 작업
+     * @param argumentKey 인자 키 (없으면 null)
+     * @param argumentValue 인자 값 (없으면 null)
+     */
+    public ProgressEvent(String source, String method, String argumentKey, String argumentValue) {
+        this.source = source;
+        this.method = method;
+        this.argumentKey = argumentKey;
+        this.argumentValue = argumentValue;
+    }
+
+    /**
+     * 미리 생성된 인자 없는 이벤트 조회
+     *
+     * @param sourceIndex {@link #KNOWN_SOURCES} 인덱스
+     * @param methodIndex {@link #KNOWN_METHODS} 인덱스
+     * @return 공유 인스턴스
+     */
+    static ProgressEvent preallocated(int sourceIndex, int methodIndex) {
+        return PREALLOCATED[sourceIndex][methodIndex];
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getArgumentKey() {
+        return argumentKey;
+    }
+
+    public String getArgumentValue() {
+        return argumentValue;
+    }
+
+    /**
+     * JPM 진행 상태 여부
+     */
+    public boolean isJpm() {
+        return SOURCE_JPM.equals(source);
+    }
+
+    /**
+     * GPT 진행 상태 여부
+     */
+    public boolean isGpt() {
+        return SOURCE_GPT.equals(source);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.PROGRESS;
+    }
+
+    @Override
+    public String toString() {
+        String base = "PROGRESS;" + source + ";" + method;
+        if (argumentKey == null && argumentValue == null) {
+            return base;
+        }
+        return base + ";" + (argumentKey == null ? "" : argumentKey + ":") + (argumentValue == null ? "" : argumentValue);
+    }
+}
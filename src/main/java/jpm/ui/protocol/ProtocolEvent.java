@@ -0,0 +1,32 @@
+package jpm.ui.protocol;
+
+/**
+ * NLP 프로세스 출력 프로토콜의 이벤트 기본 클래스
+ * 출력 한 줄(프레임)은 파싱되어 아래 타입 중 하나의 이벤트가 됩니다.
+ *
+ * PROGRESS : {@code PROGRESS;<source>;<method>[;<key>:<value>]} 진행 상태
+ * OUTPUT_START : {@code OUTPUT;START} 응답 출력 시작
+ * OUTPUT_END : {@code OUTPUT;END} 응답 출력 종료
+ * TEXT : {@code OUTPUT;APPEND;<token>} 토큰 또는 그 외의 모든 줄 (응답 본문)
+ * OUTPUT_SUMMARY : 프레임이 아닌, 긴 출력을 줄인 뒤 UI 에 전달하는 요약
+ */
+public abstract class ProtocolEvent {
+
+    /**
+     * 이벤트 타입 열거형
+     */
+    public enum Type {
+        PROGRESS,
+        OUTPUT_START,
+        OUTPUT_END,
+        TEXT,
+        OUTPUT_SUMMARY
+    }
+
+    /**
+     * 이벤트 타입 getter
+     *
+     * @return 이벤트 타입
+     */
+    public abstract Type getType();
+}
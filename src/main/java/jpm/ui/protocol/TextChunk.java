@@ -0,0 +1,50 @@
+package jpm.ui.protocol;
+
+/**
+ * 응답 본문 이벤트
+ * 프로토콜 명령이 아닌 출력 줄은 모두 이 이벤트로 전달됩니다.
+ * {@code OUTPUT;APPEND;<text>} 프레임은 줄바꿈 없이 이어 붙일 토큰(inline)으로 전달됩니다.
+ */
+public final class TextChunk extends ProtocolEvent {
+
+    private final String text;
+    private final boolean inline; // 앞 내용에 줄바꿈 없이 이어 붙일지 여부
+
+    /**
+     * 한 줄 본문 이벤트 생성자
+     *
+     * @param text 출력 내용
+     */
+    public TextChunk(String text) {
+        this(text, false);
+    }
+
+    /**
+     * 본문 이벤트 생성자
+     *
+     * @param text 출력 내용
+     * @param inline true 면 토큰 단위로 이어 붙일 내용
+     */
+    public TextChunk(String text, boolean inline) {
+        this.text = text;
+        this.inline = inline;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isInline() {
+        return inline;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.TEXT;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
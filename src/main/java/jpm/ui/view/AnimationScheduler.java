@@ -0,0 +1,280 @@
+package jpm.ui.view;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.InputEvent;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 창 상태에 맞춰 반복 애니메이션을 돌리는 스케줄러 (JavaFX 스레드 전용)
+ * JavaFX 애니메이션은 하나라도 실행 중이면 화면 갱신 주기(60Hz)마다 펄스를 일으키므로,
+ * 창이 보이지 않거나 사용자가 보고 있지 않을 때는 애니메이션을 모두 멈춥니다.
+ *
+ * - ACTIVE : 창이 보이고 포커스가 있으며 최근에 입력이 있음 - 미리 만든 Timeline 으로 원래 주기대로 실행
+ * - IDLE : 포커스가 없거나(다른 창에 가려진 경우 포함) 입력 없이 {@link #IDLE_TIMEOUT} 이 지남 -
+ *          애니메이션은 멈추고 백그라운드 타이머로 낮은 빈도의 단계만 진행 (진행 상태는 계속 보이도록)
+ * - PARKED : 창이 최소화되었거나 표시되지 않음 - 아무것도 실행하지 않음
+ *
+ * 반복 작업은 {@link #createTicker} 로 한 번 만들어 재사용하고, 일시적인 효과는 {@link #isActive()} 일 때만 재생합니다.
+ */
+public class AnimationScheduler {
+
+    /**
+     * 애니메이션 실행 단계
+     */
+    public enum Mode {
+        ACTIVE, IDLE, PARKED
+    }
+
+    public static final Duration IDLE_TIMEOUT = Duration.seconds(10); // 입력이 없으면 낮은 빈도로 바꾸기까지의 시간
+
+    private final ReadOnlyObjectWrapper<Mode> mode = new ReadOnlyObjectWrapper<>(Mode.ACTIVE);
+    private final List<Ticker> tickers = new ArrayList<>();
+    private final ScheduledExecutorService idleTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "jpm-animation-idle");
+        t.setDaemon(true);
+        return t;
+    });
+    // 값을 읽지 않은 속성도 매번 알림을 받도록 InvalidationListener 대신 ChangeListener 사용
+    private final ChangeListener<Object> windowStateListener = (obs, oldValue, newValue) -> updateMode();
+    private final EventHandler<InputEvent> inputListener = e -> onInput();
+    private Scene watchedScene;
+    private Window watchedWindow;
+    private long lastInputNanos = System.nanoTime();
+    private boolean inputIdle = false;               // 입력 없이 IDLE_TIMEOUT 이 지났는지 여부
+    private ScheduledFuture<?> idleCheck;            // 입력 없음 확인 예약 (없으면 null)
+
+    /**
+     * 반복 작업 (예: 타이핑 인디케이터의 점 이동)
+     * ACTIVE 에서는 미리 만든 Timeline, IDLE 에서는 백그라운드 타이머로 실행하고 PARKED 에서는 멈춥니다.
+     */
+    public final class Ticker {
+        private final Timeline timeline;
+        private final long idlePeriodMillis;
+        private final Runnable step;
+        private ScheduledFuture<?> idleTask;    // IDLE 단계의 예약 작업 (없으면 null)
+        private boolean running = false;
+
+        private Ticker(Duration activePeriod, Duration idlePeriod, Runnable step) {
+            this.timeline = new Timeline(new KeyFrame(activePeriod, e -> step.run()));
+            this.timeline.setCycleCount(Animation.INDEFINITE);
+            this.idlePeriodMillis = (long) idlePeriod.toMillis();
+            this.step = step;
+        }
+
+        /**
+         * 실행 시작 (현재 단계에 맞는 방식으로)
+         */
+        public void start() {
+            if (!running) {
+                running = true;
+                apply(mode.get());
+            }
+        }
+
+        /**
+         * 실행 중지
+         */
+        public void stop() {
+            if (running) {
+                running = false;
+                apply(Mode.PARKED);
+            }
+        }
+
+        public boolean isRunning() {
+            return running;
+        }
+
+        private void apply(Mode target) {
+            Mode effective = running ? target : Mode.PARKED;
+            if (effective == Mode.ACTIVE) {
+                timeline.play();
+            } else {
+                timeline.stop();
+            }
+            if (effective == Mode.IDLE) {
+                if (idleTask == null) {
+                    idleTask = idleTimer.scheduleAtFixedRate(() -> Platform.runLater(this::idleStep),
+                            idlePeriodMillis, idlePeriodMillis, TimeUnit.MILLISECONDS);
+                }
+            } else if (idleTask != null) {
+                idleTask.cancel(false);
+                idleTask = null;
+            }
+        }
+
+        private void idleStep() {
+            // 취소 직전에 예약된 단계는 무시
+            if (running && mode.get() == Mode.IDLE) {
+                step.run();
+            }
+        }
+    }
+
+    /**
+     * 반복 작업 생성
+     *
+     * @param activePeriod ACTIVE 단계의 주기
+     * @param idlePeriod IDLE 단계의 주기 (activePeriod 보다 길게)
+     * @param step 매 주기 실행할 작업 (JavaFX 스레드)
+     * @return 멈춘 상태의 반복 작업
+     */
+    public Ticker createTicker(Duration activePeriod, Duration idlePeriod, Runnable step) {
+        Ticker ticker = new Ticker(activePeriod, idlePeriod, step);
+        tickers.add(ticker);
+        return ticker;
+    }
+
+    /**
+     * 노드가 속한 창의 상태 감시 시작 (노드가 다른 Scene / 창으로 옮겨지면 따라감)
+     *
+     * @param node 감시할 창에 붙을 노드
+     */
+    public void attach(Node node) {
+        node.sceneProperty().addListener((obs, oldScene, newScene) -> watchScene(newScene));
+        watchScene(node.getScene());
+    }
+
+    /**
+     * 현재 실행 단계
+     */
+    public Mode getMode() {
+        return mode.get();
+    }
+
+    public ReadOnlyObjectProperty<Mode> modeProperty() {
+        return mode.getReadOnlyProperty();
+    }
+
+    /**
+     * 일시적인 효과를 재생해도 되는 단계인지 여부
+     */
+    public boolean isActive() {
+        return mode.get() == Mode.ACTIVE;
+    }
+
+    /**
+     * 종료 - 모든 반복 작업 중지
+     */
+    public void shutdown() {
+        for (Ticker ticker : tickers) {
+            ticker.stop();
+        }
+        idleTimer.shutdownNow();
+    }
+
+    private void watchScene(Scene scene) {
+        if (scene == watchedScene) {
+            return;
+        }
+        if (watchedScene != null) {
+            watchedScene.windowProperty().removeListener(windowStateListener);
+            watchedScene.removeEventFilter(InputEvent.ANY, inputListener);
+        }
+        watchedScene = scene;
+        if (scene != null) {
+            scene.windowProperty().addListener(windowStateListener);
+            scene.addEventFilter(InputEvent.ANY, inputListener);
+        }
+        updateMode();
+    }
+
+    private void watchWindow(Window window) {
+        if (window == watchedWindow) {
+            return;
+        }
+        if (watchedWindow != null) {
+            watchedWindow.showingProperty().removeListener(windowStateListener);
+            watchedWindow.focusedProperty().removeListener(windowStateListener);
+            if (watchedWindow instanceof Stage stage) {
+                stage.iconifiedProperty().removeListener(windowStateListener);
+            }
+        }
+        watchedWindow = window;
+        if (window != null) {
+            window.showingProperty().addListener(windowStateListener);
+            window.focusedProperty().addListener(windowStateListener);
+            if (window instanceof Stage stage) {
+                stage.iconifiedProperty().addListener(windowStateListener);
+            }
+        }
+    }
+
+    /**
+     * 창 상태와 입력 여부로 단계를 다시 계산하고 반복 작업에 반영
+     */
+    private void updateMode() {
+        Window window = watchedScene != null ? watchedScene.getWindow() : null;
+        watchWindow(window);
+
+        Mode next;
+        if (window == null || !window.isShowing() || (window instanceof Stage stage && stage.isIconified())) {
+            next = Mode.PARKED;
+        } else if (!window.isFocused() || inputIdle) {
+            next = Mode.IDLE;
+        } else {
+            next = Mode.ACTIVE;
+        }
+        if (next == Mode.ACTIVE) {
+            scheduleIdleCheck(IDLE_TIMEOUT.toMillis());
+        }
+        if (next != mode.get()) {
+            mode.set(next);
+            for (Ticker ticker : tickers) {
+                ticker.apply(next);
+            }
+        }
+    }
+
+    /**
+     * 사용자 입력 - 입력 없음 상태 해제
+     */
+    private void onInput() {
+        lastInputNanos = System.nanoTime();
+        if (inputIdle) {
+            inputIdle = false;
+            updateMode();
+        }
+    }
+
+    /**
+     * 입력 없음 확인 예약 (이미 예약되어 있으면 그대로)
+     * 입력마다 다시 예약하지 않고, 확인 시점에 마지막 입력 이후 남은 시간만큼 다시 예약합니다.
+     */
+    private void scheduleIdleCheck(double delayMillis) {
+        if ((idleCheck != null && !idleCheck.isDone()) || idleTimer.isShutdown()) {
+            return;
+        }
+        idleCheck = idleTimer.schedule(() -> Platform.runLater(this::checkIdle),
+                Math.max(1, (long) delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private void checkIdle() {
+        idleCheck = null;
+        double idleMillis = (System.nanoTime() - lastInputNanos) / 1e6;
+        if (idleMillis < IDLE_TIMEOUT.toMillis()) {
+            scheduleIdleCheck(IDLE_TIMEOUT.toMillis() - idleMillis);
+        } else if (!inputIdle) {
+            inputIdle = true;
+            updateMode();
+        }
+    }
+}
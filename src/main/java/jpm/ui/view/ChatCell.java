@@ -0,0 +1,264 @@
+package jpm.ui.view;
+
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.control.Control;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import javafx.scene.text.TextFlow;
+import jpm.ui.model.ChatMessage;
+import jpm.ui.model.OutputLinkMessage;
+import jpm.ui.model.StreamingChatMessage;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 채팅 메시지 셀
+ * 메시지 타입별 노드 구성(템플릿)을 셀마다 처음 필요할 때 한 번만 만들고,
+ * 재사용될 때는 텍스트만 바꿔 끼웁니다. 스크롤 중에는 새 노드를 만들지 않습니다.
+ * 셀 높이는 {@link MessageHeightCache} 에 저장해 같은 메시지를 다시 측정하지 않습니다.
+ * 검색으로 이동한 메시지를 담은 셀은 잠시 배경색으로 강조합니다.
+ * 요약된 긴 출력 뒤의 링크 메시지는 누르면 전체 출력을 엽니다.
+ */
+public class ChatCell extends ListCell<ChatMessage> {
+
+    // 타입별 줄바꿈 너비
+    static final double USER_WRAP_WIDTH = 500;
+    static final double JPM_WRAP_WIDTH = 600;
+    static final double SYSTEM_WRAP_WIDTH = 500;
+
+    private static final String TRANSPARENT_STYLE = "-fx-background-color: transparent;";
+    private static final String HIGHLIGHT_STYLE = "-fx-background-color: rgba(255, 214, 10, 0.25); -fx-background-radius: 5px;";
+
+    private final TypingIndicator typingIndicator;
+    private final MessageHeightCache heightCache;
+    private final ObservableValue<ChatMessage> highlightedMessage;
+    private final Consumer<Path> onOpenOutput;
+
+    // 사용자 메시지 템플릿
+    private HBox userRow;
+    private Text userText;
+    // JPM 메시지 템플릿
+    private HBox jpmRow;
+    private Text jpmText;
+    // 시스템 메시지 템플릿
+    private HBox systemRow;
+    private Text systemText;
+    // 전체 출력 링크 템플릿
+    private HBox linkRow;
+    private Hyperlink link;
+    // 타이핑 인디케이터 템플릿 (이 셀 전용 노드)
+    private HBox typingRow;
+
+    /**
+     * 셀 생성자
+     *
+     * @param typingIndicator 타이핑 인디케이터 상태 (노드는 셀마다 따로 생성)
+     * @param heightCache 셀 높이 캐시 (모든 셀이 공유)
+     * @param highlightedMessage 강조할 메시지 (검색 결과로 이동한 메시지)
+     * @param onOpenOutput 전체 출력 링크를 눌렀을 때 호출 (전체 출력 파일 전달)
+     */
+    public ChatCell(TypingIndicator typingIndicator, MessageHeightCache heightCache,
+                    ObservableValue<ChatMessage> highlightedMessage, Consumer<Path> onOpenOutput) {
+        this.typingIndicator = typingIndicator;
+        this.heightCache = heightCache;
+        this.highlightedMessage = highlightedMessage;
+        this.onOpenOutput = onOpenOutput;
+        setStyle(TRANSPARENT_STYLE); // 셀 배경을 투명하게 설정
+        highlightedMessage.addListener((obs, oldMessage, newMessage) -> updateHighlight());
+    }
+
+    /**
+     * 강조할 메시지를 담고 있으면 배경색 표시
+     */
+    private void updateHighlight() {
+        ChatMessage message = getItem();
+        boolean highlighted = message != null && message == highlightedMessage.getValue();
+        setStyle(highlighted ? HIGHLIGHT_STYLE : TRANSPARENT_STYLE);
+    }
+
+    @Override
+    protected void updateItem(ChatMessage message, boolean empty) {
+        super.updateItem(message, empty);
+        updateHighlight();
+
+        // 이전 메시지가 출력 중인 응답이었다면 연결 해제
+        if (jpmText != null && jpmText.textProperty().isBound()) {
+            jpmText.textProperty().unbind();
+        }
+
+        if (empty || message == null) {
+            setText(null);
+            setGraphic(null);
+            return;
+        }
+
+        switch (message.getType()) {
+            case USER -> {
+                if (userRow == null) {
+                    buildUserTemplate();
+                }
+                userText.setText(message.getContent());
+                setGraphic(userRow);
+            }
+            case JPM -> {
+                if (jpmRow == null) {
+                    buildJpmTemplate();
+                }
+                // 출력 중인 응답은 내용이 늘어날 때마다 갱신
+                if (message instanceof StreamingChatMessage streaming) {
+                    jpmText.textProperty().bind(streaming.textProperty());
+                } else {
+                    jpmText.setText(message.getContent());
+                }
+                setGraphic(jpmRow);
+            }
+            case SYSTEM -> {
+                if (message instanceof OutputLinkMessage outputLink) {
+                    if (linkRow == null) {
+                        buildLinkTemplate();
+                    }
+                    link.setText(outputLink.getContent());
+                    link.setOnAction(e -> onOpenOutput.accept(outputLink.getFullOutput()));
+                    setGraphic(linkRow);
+                    return;
+                }
+                if (systemRow == null) {
+                    buildSystemTemplate();
+                }
+                systemText.setText(message.getContent());
+                setGraphic(systemRow);
+            }
+            case TYPING -> {
+                if (typingRow == null) {
+                    typingRow = new HBox(typingIndicator.createNode());
+                    typingRow.setPadding(new Insets(5, 10, 5, 10));
+                    typingRow.setAlignment(Pos.CENTER_LEFT);
+                }
+                setGraphic(typingRow);
+            }
+        }
+    }
+
+    /**
+     * 셀 높이 계산
+     * 측정한 적 있는 메시지는 캐시된 높이를 쓰고, 화면에 보이지 않는 측정용 셀에서는
+     * 텍스트 레이아웃 없이 추정 높이를 돌려줍니다.
+     */
+    @Override
+    protected double computePrefHeight(double width) {
+        ChatMessage message = getItem();
+        if (isEmpty() || message == null || message.getType() == ChatMessage.MessageType.TYPING) {
+            return super.computePrefHeight(width);
+        }
+
+        ChatMessage.MessageType type = message.getType();
+        double wrapWidth = wrapWidth(type);
+        double cached = heightCache.get(message, wrapWidth);
+        if (cached >= 0) {
+            return cached;
+        }
+        if (isMeasurementOnly()) {
+            return heightCache.estimate(type, message.getContent(), wrapWidth);
+        }
+
+        double measured = super.computePrefHeight(width);
+        // 출력 중인 응답은 내용이 계속 바뀌므로 캐시하지 않음
+        if (!(message instanceof StreamingChatMessage)) {
+            heightCache.put(message, wrapWidth, measured);
+        }
+        return measured;
+    }
+
+    /**
+     * 목록의 크기 추정에만 쓰이는(화면에 그려지지 않는) 셀인지 여부
+     * 이런 셀은 스타일이 적용되지 않았을 수 있으므로 측정값을 캐시하지 않습니다.
+     */
+    private boolean isMeasurementOnly() {
+        Parent parent = getParent();
+        return getScene() == null || parent == null || !parent.isVisible() || !isVisible();
+    }
+
+    private static double wrapWidth(ChatMessage.MessageType type) {
+        return switch (type) {
+            case USER -> USER_WRAP_WIDTH;
+            case JPM -> JPM_WRAP_WIDTH;
+            default -> SYSTEM_WRAP_WIDTH;
+        };
+    }
+
+    /**
+     * 사용자 메시지: 말풍선 형태의 컨테이너, 오른쪽 정렬
+     */
+    private void buildUserTemplate() {
+        userRow = new HBox();
+        userRow.setPadding(new Insets(5, 10, 5, 10));
+        userRow.setAlignment(Pos.CENTER_RIGHT);
+
+        // TextFlow를 사용하여 텍스트 우측 정렬 구현
+        userText = new Text();
+        userText.getStyleClass().add("user-text");
+        TextFlow textFlow = new TextFlow(userText);
+        textFlow.setTextAlignment(TextAlignment.RIGHT);
+        textFlow.setPrefWidth(Control.USE_COMPUTED_SIZE);
+        textFlow.setMaxWidth(USER_WRAP_WIDTH); // 최대 너비 제한
+
+        // 동적 크기의 말풍선
+        StackPane bubble = new StackPane(textFlow);
+        bubble.getStyleClass().addAll("message-bubble", "user-bubble");
+        bubble.setPadding(new Insets(7.5, 12.5, 7.5, 12.5));
+
+        userRow.getChildren().add(bubble);
+    }
+
+    /**
+     * JPM 메시지: 말풍선 없는 단순 텍스트, 왼쪽 정렬
+     */
+    private void buildJpmTemplate() {
+        jpmRow = new HBox();
+        jpmRow.setPadding(new Insets(5, 10, 5, 10));
+        jpmRow.setAlignment(Pos.CENTER_LEFT);
+
+        jpmText = new Text();
+        jpmText.setWrappingWidth(JPM_WRAP_WIDTH); // 긴 텍스트를 위한 충분한 너비
+        jpmText.getStyleClass().add("typing-text");
+
+        jpmRow.getChildren().add(jpmText);
+    }
+
+    /**
+     * 전체 출력 링크: 요약된 응답 아래, 왼쪽 정렬
+     */
+    private void buildLinkTemplate() {
+        linkRow = new HBox();
+        linkRow.setPadding(new Insets(0, 10, 5, 10));
+        linkRow.setAlignment(Pos.CENTER_LEFT);
+
+        link = new Hyperlink();
+        link.getStyleClass().add("output-link");
+
+        linkRow.getChildren().add(link);
+    }
+
+    /**
+     * 시스템 메시지: 가운데 정렬
+     */
+    private void buildSystemTemplate() {
+        systemRow = new HBox();
+        systemRow.setPadding(new Insets(5, 10, 5, 10));
+        systemRow.setAlignment(Pos.CENTER);
+
+        systemText = new Text();
+        systemText.setWrappingWidth(SYSTEM_WRAP_WIDTH);
+        systemText.getStyleClass().add("system-text");
+
+        systemRow.getChildren().add(systemText);
+    }
+}
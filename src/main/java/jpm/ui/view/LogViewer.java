@@ -0,0 +1,297 @@
+package jpm.ui.view;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.model.LogFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 큰 로그 파일 보기 창 (빌드/테스트 전체 출력)
+ * 파일을 메모리 맵으로 열고 줄 위치 색인은 백그라운드에서 만들며, 목록은 화면에 보이는 줄만 맵에서 읽어 그립니다.
+ * 정규식 검색(이전/다음), 줄 번호로 이동, 파일이 늘어나면 끝을 따라가는 기능을 제공합니다.
+ */
+public class LogViewer extends BorderPane {
+
+    private static final long POLL_INTERVAL_MS = 300; // 늘어난 출력을 확인하는 간격
+    private static final long UPDATE_INTERVAL_NANOS = 100_000_000L; // 색인 중 화면에 줄 수를 반영하는 간격
+    private static final double LINE_HEIGHT = 18;     // 고정 줄 높이 (측정 없이 스크롤)
+
+    private final LogFile logFile;
+    private final LineList lines = new LineList();
+    private final ListView<Integer> lineView;
+    private final TextField searchField;
+    private final TextField gotoField;
+    private final CheckBox followBox;
+    private final Label statusLabel;
+    private final ScheduledExecutorService indexer;  // 색인 및 늘어난 출력 확인
+    private final ExecutorService searcher;          // 검색 전용
+    private volatile boolean closed = false;
+    private volatile long searchSequence = 0;        // 마지막 검색 번호 (이전 검색 중단용)
+
+    private static final Logger LOGGER = Logger.getLogger(LogViewer.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 로그 파일을 새 창으로 열기
+     *
+     * @param file 로그 파일
+     * @param owner 부모 창 (스타일시트를 물려받음)
+     */
+    public static void open(Path file, Window owner) {
+        LogFile logFile;
+        try {
+            logFile = LogFile.open(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "로그 파일 열기 실패: " + file, e);
+            return;
+        }
+        LogViewer viewer = new LogViewer(logFile);
+        Scene scene = new Scene(viewer, 900, 600);
+        if (owner != null && owner.getScene() != null) {
+            scene.getStylesheets().addAll(owner.getScene().getStylesheets());
+        }
+        Stage stage = new Stage();
+        stage.setTitle("출력 - " + file.getFileName());
+        stage.setScene(scene);
+        stage.setOnHidden(e -> viewer.close());
+        stage.show();
+    }
+
+    private LogViewer(LogFile logFile) {
+        this.logFile = logFile;
+        setId("log-viewer");
+        setPadding(new Insets(8));
+
+        searchField = new TextField();
+        searchField.setPromptText("정규식 검색 (Enter: 다음, Shift+Enter: 이전)");
+        HBox.setHgrow(searchField, Priority.ALWAYS);
+        Button prevButton = new Button("▲");
+        Button nextButton = new Button("▼");
+        gotoField = new TextField();
+        gotoField.setPromptText("줄 번호");
+        gotoField.setPrefColumnCount(7);
+        followBox = new CheckBox("끝 따라가기");
+        followBox.setSelected(true);
+        statusLabel = new Label();
+        statusLabel.getStyleClass().add("log-status");
+
+        HBox toolbar = new HBox(6, searchField, prevButton, nextButton, gotoField, followBox);
+        toolbar.setAlignment(Pos.CENTER_LEFT);
+        toolbar.setPadding(new Insets(0, 0, 8, 0));
+
+        lineView = new ListView<>(lines);
+        lineView.setId("log-lines");
+        lineView.setFixedCellSize(LINE_HEIGHT);
+        lineView.setCellFactory(listView -> new LineCell());
+
+        setTop(toolbar);
+        setCenter(lineView);
+        setBottom(statusLabel);
+
+        // 이벤트
+        searchField.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.ENTER) {
+                search(!e.isShiftDown());
+            }
+        });
+        prevButton.setOnAction(e -> search(false));
+        nextButton.setOnAction(e -> search(true));
+        gotoField.setOnAction(e -> gotoLine(gotoField.getText()));
+        // 직접 스크롤하면 끝 따라가기 해제
+        lineView.setOnScroll(e -> {
+            if (e.getDeltaY() > 0) {
+                followBox.setSelected(false);
+            }
+        });
+
+        searcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "jpm-log-search");
+            t.setDaemon(true);
+            return t;
+        });
+        indexer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "jpm-log-index");
+            t.setDaemon(true);
+            return t;
+        });
+        // 처음 색인 후에도 명령이 출력을 쓰는 중일 수 있으므로 주기적으로 늘어난 부분 색인
+        indexer.scheduleWithFixedDelay(this::refresh, 0, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 늘어난 출력 색인 후 화면 반영 (색인 스레드)
+     * 큰 파일을 처음 열 때도 바로 볼 수 있도록, 일정 시간마다 색인을 끊고 그때까지의 줄 수를 반영합니다.
+     */
+    private void refresh() {
+        try {
+            while (!closed) {
+                long deadline = System.nanoTime() + UPDATE_INTERVAL_NANOS;
+                if (!logFile.refresh(() -> closed || System.nanoTime() > deadline)) {
+                    break; // 늘어난 줄 없음
+                }
+                int count = logFile.getLineCount();
+                long size = logFile.getIndexedSize();
+                Platform.runLater(() -> {
+                    lines.setSize(count);
+                    statusLabel.setText(String.format("%,d줄 · %.1f MB", count, size / 1048576.0));
+                    if (followBox.isSelected() && count > 0) {
+                        lineView.scrollTo(count - 1);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "로그 파일 색인 실패", e);
+        }
+    }
+
+    /**
+     * 선택된 줄(없으면 맨 위/아래)부터 정규식 검색 후 찾은 줄로 이동
+     */
+    private void search(boolean forward) {
+        String query = searchField.getText();
+        if (query.isEmpty()) {
+            return;
+        }
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(query, Pattern.CASE_INSENSITIVE);
+        } catch (PatternSyntaxException e) {
+            statusLabel.setText("잘못된 정규식: " + e.getDescription());
+            return;
+        }
+        int selected = lineView.getSelectionModel().getSelectedIndex();
+        int from = selected >= 0 ? selected : (forward ? -1 : lines.size());
+        long sequence = ++searchSequence;
+        followBox.setSelected(false);
+        statusLabel.setText("검색 중...");
+        searcher.execute(() -> {
+            int found = logFile.search(pattern, from, forward, () -> closed || sequence != searchSequence);
+            Platform.runLater(() -> {
+                if (sequence != searchSequence) {
+                    return;
+                }
+                if (found >= 0) {
+                    showLine(found);
+                    statusLabel.setText(String.format("%,d번째 줄", found + 1));
+                } else {
+                    statusLabel.setText("더 이상 일치하는 줄이 없습니다");
+                }
+            });
+        });
+    }
+
+    /**
+     * 줄 번호로 이동 (1 부터)
+     */
+    private void gotoLine(String text) {
+        try {
+            int line = Integer.parseInt(text.strip().replace(",", "")) - 1;
+            if (line >= 0 && line < lines.size()) {
+                followBox.setSelected(false);
+                showLine(line);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 안내
+        }
+        statusLabel.setText(String.format("1 ~ %,d 사이의 줄 번호를 입력하세요", lines.size()));
+    }
+
+    private void showLine(int line) {
+        lineView.getSelectionModel().clearAndSelect(line);
+        lineView.scrollTo(Math.max(0, line - 5)); // 찾은 줄 위로 몇 줄 여유
+    }
+
+    /**
+     * 창을 닫을 때 색인/검색 스레드와 파일 정리
+     */
+    private void close() {
+        closed = true;
+        searcher.shutdownNow();
+        indexer.shutdownNow();
+        try {
+            indexer.awaitTermination(1, TimeUnit.SECONDS);
+            logFile.close();
+        } catch (IOException | InterruptedException e) {
+            LOGGER.log(Level.FINE, "로그 파일 닫기 실패", e);
+        }
+    }
+
+    /**
+     * 줄 번호 목록 - 실제 값을 담지 않고 크기만 가지며, i 번째 항목은 i
+     * 줄 내용은 셀이 그려질 때 로그 파일에서 읽습니다.
+     */
+    private static final class LineList extends ObservableListBase<Integer> {
+        private int size = 0;
+
+        @Override
+        public Integer get(int index) {
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        void setSize(int newSize) {
+            if (newSize <= size) {
+                return;
+            }
+            int oldSize = size;
+            size = newSize;
+            beginChange();
+            nextAdd(oldSize, newSize);
+            endChange();
+        }
+    }
+
+    /**
+     * 로그 한 줄 셀: 줄 번호와 내용
+     */
+    private final class LineCell extends ListCell<Integer> {
+        @Override
+        protected void updateItem(Integer line, boolean empty) {
+            super.updateItem(line, empty);
+            if (empty || line == null) {
+                setText(null);
+                return;
+            }
+            setText(String.format("%7d  %s", line + 1, logFile.readLine(line)));
+        }
+    }
+}
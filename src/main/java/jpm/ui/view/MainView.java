@@ -6,24 +6,48 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
+import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
-import javafx.scene.text.Text;
-import javafx.scene.text.TextFlow;
-import javafx.scene.text.TextAlignment;
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.model.ChatHistoryStore;
 import jpm.ui.model.ChatMessage;
+import jpm.ui.model.ChatSearchIndex;
+import jpm.ui.model.MessageStore;
+import jpm.ui.model.OutputLinkMessage;
 import jpm.ui.model.ProcessManager;
-import javafx.animation.KeyFrame;
-import javafx.animation.ScaleTransition;
-import javafx.animation.Timeline;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
+import jpm.ui.model.RequestQueue;
+import jpm.ui.model.StreamingChatMessage;
+import jpm.ui.monitoring.UiRenderEvent;
+import jpm.ui.protocol.OutputSummary;
+import jpm.ui.protocol.ProgressEvent;
+import jpm.ui.protocol.ProtocolEvent;
+import jpm.ui.protocol.TextChunk;
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.shape.Polygon;
 import javafx.util.Duration;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * 채팅 인터페이스를 제공하는 메인 뷰 컴포넌트
@@ -31,21 +55,80 @@ import java.util.List;
  */
 public class MainView extends BorderPane {
 
+    /**
+     * 응답 반영 관찰자 (측정 도구용)
+     * 처리 중인 요청의 출력 이벤트와 종료가 화면 모델에 반영된 직후 JavaFX 스레드에서 호출됩니다.
+     */
+    public interface ResponseObserver {
+        void onResponseEvent(ProtocolEvent event);
+
+        void onRequestCompleted(int exitCode);
+    }
+
+    private static final int UI_UPDATE_QUEUE_CAPACITY = 1024; // 출력 스레드 → UI 대기열 최대 길이
+    private static final long STREAM_RENDER_INTERVAL_NANOS = 1_000_000_000L / 30; // 출력 중인 응답의 최대 갱신 빈도 (30fps)
+    private static final int HISTORY_PAGE_SIZE = 100; // 채팅 기록을 한 번에 불러오는 메시지 수
+    private static final int HISTORY_MAX_LOADED = HISTORY_PAGE_SIZE * 3; // 목록에 두는 최대 기록 수 (넘으면 화면에서 먼 쪽부터 정리)
+    private static final long HISTORY_SHUTDOWN_TIMEOUT_MS = 3000; // 종료 시 기록 저장과 검색 색인 저장 대기 시간
+    private static final Duration SEARCH_HIGHLIGHT_DURATION = Duration.seconds(2); // 검색으로 이동한 메시지 강조 시간
+    private static final KeyCombination SEARCH_SHORTCUT = new KeyCodeCombination(KeyCode.F, KeyCombination.SHORTCUT_DOWN);
+    private static final KeyCombination HUD_SHORTCUT = new KeyCodeCombination(KeyCode.P, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN);
+
+    private static final Logger LOGGER = Logger.getLogger(MainView.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
     private final ListView<ChatMessage> chatListView;
     private final TextField inputField; // 메시지 입력 창
     private final Button sendButton; // 메시지 전송 버튼
-    private final ObservableList<ChatMessage> messages; // 채팅 메시지가 쌓이는 리스트
+    private final ObservableList<ChatMessage> messages; // 채팅 메시지가 쌓이는 리스트 (저장소 메시지의 뷰)
+    private final MessageStore messageStore = new MessageStore(); // 목록 메시지의 타입, 시간, 내용을 배열로 보관
+    private final ChatMessage typingMessage = messageStore.append(ChatMessage.MessageType.TYPING, 0, ""); // 타이핑 인디케이터 자리 (재사용)
     private final ProgressIndicator progressIndicator; // Python 프로세스 실행 중에 보여질 원형 로딩 컴포넌트
-    private final ProcessManager processManager;
-    private HBox typingIndicator;
-    private List<Circle> dots;
-    private int activeDotIndex = 0;
-    private Timeline animation;
+    private ProcessManager processManager; // 처음 필요할 때 생성 (Python 탐색과 워커 실행이 창 표시를 늦추지 않도록)
+    private final RequestQueue requestQueue; // 처리 중에 입력한 요청을 쌓아 두는 대기열
+    private final RequestQueueView requestQueueView; // 입력 창 위의 대기 요청 패널
+    private final Tooltip stopTooltip = new Tooltip("중단 (Esc)");
+    private final UiUpdateQueue<Runnable> uiUpdateQueue; // 프로세스 출력을 펄스 단위로 모아 처리하는 대기열
+    private List<ChatMessage> pendingMessages; // 대기열 처리 중 모아둔 메시지 (한 번에 addAll)
+    private StreamingChatMessage streamingMessage; // 출력 중인 응답 말풍선 (없으면 null)
+    private long lastStreamRenderNanos = 0; // 출력 중인 응답을 마지막으로 화면에 반영한 시각
+    private final PauseTransition streamRenderTimer = new PauseTransition(); // 갱신 빈도 제한으로 미뤄진 반영 예약
+    private final AnimationScheduler animationScheduler = new AnimationScheduler(); // 창 상태에 맞춘 반복 애니메이션 실행
+    private final TypingIndicator typingIndicator = new TypingIndicator(animationScheduler); // 타이핑 인디케이터 상태 (노드는 셀마다 생성)
+    private final MessageHeightCache heightCache = new MessageHeightCache(); // 메시지별 셀 높이 캐시
+    private final ObjectProperty<ChatMessage> highlightedMessage = new SimpleObjectProperty<>(); // 검색으로 이동해 강조 중인 메시지
+    private final PauseTransition highlightTimer = new PauseTransition(SEARCH_HIGHLIGHT_DURATION);
+    private final PauseTransition prewarmTimer = new PauseTransition(Duration.millis(JpmConstants.NLP_PREWARM_DEBOUNCE_MS)); // 입력 중 워커 준비 예약
+    private final SearchBar searchBar;
+    private final PerformanceHud performanceHud; // 성능 정보 오버레이 (Ctrl/Cmd + Shift + P)
+    private Consumer<Path> onShowFullOutput = path -> { }; // 요약된 출력의 전체 내용 열기
+    private ResponseObserver responseObserver = null; // 응답 반영 관찰자 (측정 도구용, 없으면 null)
     private boolean isTyping = false;
-    ImageView icon = new ImageView(new Image(getClass().getResourceAsStream("/image/up-arrow3.png")));
-
-    // 클래스 필드로 추가
-    private Text typingStatusText;
+    // 채팅 기록 저장소는 전용 스레드에서만 접근 (열기, 기록, 읽기 순서 유지)
+    private final ExecutorService historyExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "jpm-history");
+        t.setDaemon(true);
+        return t;
+    });
+    private ChatHistoryStore historyStore; // 열기 실패 시 null (기록 없이 동작)
+    private ChatSearchIndex searchIndex; // 채팅 기록 검색 인덱스 (저장소를 연 뒤 생성)
+    private int historyLoadedFrom = 0; // 목록에 불러온 가장 오래된 기록의 순번
+    private int historyLoadedCount = 0; // 목록 앞쪽에 불러온 기록 수 (순번 historyLoadedFrom 부터 연속)
+    private int historyEnd = 0; // 시작할 때 저장되어 있던 기록 수 (이후 저장된 메시지는 목록 뒤쪽에 그대로 있음)
+    // 불러온 기록과 그 뒤 메시지 사이에 빠진 기록이 있음을 나타내는 자리 (보이면 이어서 불러옴)
+    private final ChatMessage historyGapMessage = messageStore.append(ChatMessage.MessageType.SYSTEM, 0, "· · ·");
+    private VirtualFlow<?> chatFlow; // 목록의 보이는 범위 확인용 (스킨 생성 후 설정)
+    private final Map<Integer, ChatMessage> savedMessages = new HashMap<>(); // 이번 실행 중 저장된 메시지 (기록 순번 → 메시지)
+    private boolean loadingHistory = false; // 이전 기록을 불러오는 중인지 여부
+    // 아이콘은 백그라운드에서 읽어 뷰 생성을 막지 않음
+    ImageView icon = new ImageView(new Image(getClass().getResource("/image/up-arrow3.png").toExternalForm(), true));
 
     public MainView() {
         // 기본 스타일 및 패딩 설정
@@ -60,22 +143,14 @@ public class MainView extends BorderPane {
 
         // 채팅 메시지 표시 영역 구성
         chatListView = new ListView<>(messages);
-        chatListView.setCellFactory(this::createChatCell);
+        chatListView.setCellFactory(listView -> new ChatCell(typingIndicator, heightCache, highlightedMessage,
+                path -> onShowFullOutput.accept(path)));
         chatListView.setId("chat-list-view");
 
         // 리스트뷰 투명 배경 설정
+        // ListView 는 자체적으로 보이는 셀만 만들고 스크롤바도 필요할 때만 표시하므로 ScrollPane 으로 감싸지 않음
         chatListView.setStyle("-fx-background-color: transparent;");
 
-        // 스크롤 정책 설정 - 필요할 때만 스크롤바 표시
-        ScrollPane scrollPane = new ScrollPane(chatListView);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setFitToHeight(true);
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-
-        // 스크롤팬 투명 배경 설정
-        scrollPane.setStyle("-fx-background: transparent; -fx-background-color: transparent;");
-
         // 입력 필드 구성
         inputField = new TextField();
         inputField.setPromptText("메시지를 입력하세요...");
@@ -101,6 +176,7 @@ public class MainView extends BorderPane {
         progressIndicator.setMaxSize(20, 20);
         progressIndicator.setVisible(false);   // 초기에는 숨김. Python 프로세스 실행 시 보여질 예정
         progressIndicator.setStyle("-fx-progress-color: #000000;");
+        progressIndicator.setMouseTransparent(true); // 처리 중에는 아래의 버튼이 중단 버튼으로 동작
 
         // 전송 버튼에 ProgressIndicator 추가하기 위한 StackPane 사용
         StackPane buttonPane = new StackPane();
@@ -112,50 +188,520 @@ public class MainView extends BorderPane {
         inputBox.setAlignment(Pos.CENTER);
         inputBox.setStyle("-fx-background-color: transparent;");
 
-        // 레이아웃 배치
-        setCenter(scrollPane);
-        setBottom(inputBox);
+        // 채팅 기록 검색창 (Ctrl/Cmd + F 로 열기)
+        searchBar = new SearchBar(hit -> jumpToHistory(hit.getIndex()));
+
+        // 출력 스레드에서 들어온 갱신을 펄스마다 모아서 처리
+        uiUpdateQueue = new UiUpdateQueue<>(UI_UPDATE_QUEUE_CAPACITY, this::applyUiUpdates);
+
+        // 요청 대기열 - 프로세스 매니저는 첫 요청 때 생성, 콜백은 요청마다 대기열이 등록 (출력과 종료 모두 같은 UI 갱신 대기열로 순서 유지)
+        requestQueue = new RequestQueue((input, timeoutMillis, outputHandler, completionCallback) ->
+                processManager().processUserInput(input, timeoutMillis, outputHandler, completionCallback),
+                uiUpdateQueue::put, new RequestQueue.Listener() {
+            @Override
+            public void onRequestStarted(RequestQueue.Entry entry) {
+                MainView.this.onRequestStarted(entry.getInput());
+            }
+
+            @Override
+            public void onOutput(ProtocolEvent event) {
+                handleJpmResponse(event);
+                if (responseObserver != null) {
+                    responseObserver.onResponseEvent(event);
+                }
+            }
 
-        // 프로세스 매니저 초기화 - 응답 처리 콜백 등록
-        processManager = new ProcessManager(
-                this::handleJpmResponse,
-                exitCode -> setProcessingState(false)
-        );
+            @Override
+            public void onRequestCompleted(RequestQueue.Entry entry, int exitCode) {
+                MainView.this.onRequestCompleted(exitCode);
+                if (responseObserver != null) {
+                    responseObserver.onRequestCompleted(exitCode);
+                }
+            }
 
-        // 타이핑 인디케이터 생성 메서드 호출 추가
-        createTypingIndicator();
+            @Override
+            public void onQueueChanged() {
+                MainView.this.onQueueChanged();
+            }
+        }, JpmConstants.REQUEST_QUEUE_CAPACITY, JpmConstants.REQUEST_QUEUE_MAX_PARALLEL,
+                JpmConstants.USER_DATA_DIR.resolve("request-queue"));
+        requestQueueView = new RequestQueueView(requestQueue);
+        performanceHud = new PerformanceHud(uiUpdateQueue::size,
+                () -> processManager != null ? processManager.getActiveRequestCount() : 0);
+        performanceHud.setMessageStore(messageStore);
 
-        // 애니메이션 설정 메서드 호출 추가
-        setupAnimation();
+        // 레이아웃 배치 (대기 요청 패널은 입력 창 바로 위)
+        setTop(searchBar);
+        setCenter(chatListView);
+        setBottom(new VBox(requestQueueView, inputBox));
+        streamRenderTimer.setOnFinished(e -> renderStreamingMessage());
 
 
         // 이벤트 핸들러 등록
         setupEventHandlers();
+        // 창이 최소화되거나 사용자가 보고 있지 않으면 반복 애니메이션을 멈추거나 낮은 빈도로 실행
+        animationScheduler.attach(this);
 
         // 시작 메시지 추가
         addSystemMessage("JPM에 오신 것을 환영합니다! 프로젝트 관리와 관련된 질문이나 명령을 입력해주세요.");
+
+        // 저장된 채팅 기록 중 최근 메시지만 불러오기
+        loadRecentHistory();
+
+        // 지난 실행에서 시작하지 못한 요청 이어서 처리 (기록을 불러온 뒤)
+        restorePendingRequests();
     }
 
     /**
      * 이벤트 핸들러 설정
      */
     private void setupEventHandlers() {
-        // 전송 버튼 클릭 이벤트
-        sendButton.setOnAction(e -> sendMessage());
+        // 전송 버튼 클릭 이벤트 (처리 중이고 입력이 비어 있으면 중단 버튼)
+        sendButton.setOnAction(e -> {
+            if (isStopMode()) {
+                requestQueue.cancelHead();
+            } else {
+                sendMessage();
+            }
+        });
 
-        // 입력 필드 엔터키 이벤트
+        // 입력 필드 엔터키 이벤트 (처리 중에 입력하면 대기열에 추가)
         inputField.setOnAction(e -> sendMessage());
+        inputField.textProperty().addListener((obs, oldText, newText) -> {
+            updateSendButton();
+            // 입력이 잠시 멈추면 NLP 워커를 미리 준비 (보낼 때 인터프리터 시작을 기다리지 않도록)
+            if (newText != null && !newText.isBlank()) {
+                prewarmTimer.playFromStart();
+            }
+        });
+        prewarmTimer.setOnFinished(e -> processManager().prewarm());
+
+        // 검색 / 성능 정보 단축키
+        addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (SEARCH_SHORTCUT.match(e)) {
+                searchBar.open();
+                e.consume();
+            } else if (HUD_SHORTCUT.match(e)) {
+                performanceHud.toggle();
+                e.consume();
+            } else if (e.getCode() == KeyCode.ESCAPE && requestQueue.hasActiveRequest() && !searchBar.isOpen()) {
+                // ESC: 처리 중인 요청 중단 (대기 중인 요청은 이어서 처리)
+                requestQueue.cancelHead();
+                e.consume();
+            }
+        });
+        highlightTimer.setOnFinished(e -> highlightedMessage.set(null));
 
-        // 메시지 목록 변경 시 자동 스크롤 처리
+        // 메시지 목록 끝에 추가될 때 자동 스크롤 처리 (묶음 추가 시에도 한 번만 호출됨)
+        // 위쪽에 이전 기록을 끼워 넣을 때는 보던 위치를 유지
         messages.addListener((javafx.collections.ListChangeListener.Change<? extends ChatMessage> c) -> {
-            if (c.next() && c.wasAdded()) {
-                Platform.runLater(() -> {
-                    chatListView.scrollTo(messages.size() - 1);
+            if (c.next() && c.wasAdded() && c.getTo() == messages.size()) {
+                chatListView.scrollTo(messages.size() - 1);
+            }
+        });
+
+        // 목록 맨 위까지 스크롤하면 이전 기록, 빠진 기록 자리가 보이면 그 자리의 기록 불러오기
+        chatListView.skinProperty().addListener((obs, oldSkin, newSkin) -> {
+            if (chatListView.lookup(".virtual-flow") instanceof VirtualFlow<?> flow) {
+                chatFlow = flow;
+                flow.positionProperty().addListener((o, oldPosition, newPosition) -> {
+                    if (newPosition.doubleValue() <= 0) {
+                        loadOlderHistory();
+                    } else {
+                        loadHistoryGapIfVisible();
+                    }
                 });
             }
         });
     }
 
+    /**
+     * 채팅 기록 저장소를 열고 최근 메시지 한 페이지를 목록 앞에 추가
+     * 저장소는 인덱스만 맵핑하므로 기록이 많아도 시작 시간이 늘지 않습니다.
+     */
+    private void loadRecentHistory() {
+        loadingHistory = true;
+        historyExecutor.execute(() -> {
+            List<ChatMessage> page = List.of();
+            int from = 0;
+            int size = 0;
+            try {
+                Path historyDirectory = JpmConstants.USER_DATA_DIR.resolve("history");
+                historyStore = ChatHistoryStore.open(historyDirectory);
+                size = historyStore.size();
+                from = Math.max(0, size - HISTORY_PAGE_SIZE);
+                page = historyStore.read(from, size, messageStore);
+
+                // 기존 기록은 검색 인덱스 스레드에서 색인 (저장된 색인 이후의 메시지만, 이후 저장되는 메시지는 저장 시점에 색인)
+                searchIndex = new ChatSearchIndex(historyStore, historyDirectory.resolve("search.idx"));
+                searchIndex.indexExisting(size);
+                searchBar.setIndex(searchIndex);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "채팅 기록 열기 실패", e);
+            }
+
+            int loadedFrom = from;
+            int end = size;
+            List<ChatMessage> loaded = page;
+            Platform.runLater(() -> {
+                historyLoadedFrom = loadedFrom;
+                historyLoadedCount = loaded.size();
+                historyEnd = end;
+                loadingHistory = false;
+                if (!loaded.isEmpty()) {
+                    messages.addAll(0, loaded);
+                    chatListView.scrollTo(messages.size() - 1);
+                }
+            });
+        });
+    }
+
+    /**
+     * 채팅 기록 [from, to) 구간을 기록 스레드에서 읽은 뒤 JavaFX 스레드에서 전달
+     * 한 번에 한 구간만 읽으며, 읽는 중이면 요청을 무시합니다.
+     *
+     * @param onLoaded 읽은 메시지를 받아 목록에 반영 (JavaFX 스레드)
+     */
+    private void readHistory(int from, int to, Consumer<List<ChatMessage>> onLoaded) {
+        if (loadingHistory || from >= to) {
+            return;
+        }
+        loadingHistory = true;
+        historyExecutor.execute(() -> {
+            List<ChatMessage> page = List.of();
+            try {
+                if (historyStore != null) {
+                    page = historyStore.read(from, to, messageStore);
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "채팅 기록 읽기 실패", e);
+            }
+
+            List<ChatMessage> loaded = page;
+            Platform.runLater(() -> {
+                loadingHistory = false;
+                if (!loaded.isEmpty()) {
+                    onLoaded.accept(loaded);
+                }
+            });
+        });
+    }
+
+    /**
+     * 불러온 기록 바로 이전 한 페이지를 목록 앞에 추가 (맨 위로 스크롤했을 때)
+     * 보고 있던 메시지가 그대로 맨 위에 오도록 위치를 맞추고, 화면에서 먼 최근 쪽 기록은 정리합니다.
+     */
+    private void loadOlderHistory() {
+        if (historyLoadedFrom <= 0) {
+            return;
+        }
+        int to = historyLoadedFrom;
+        readHistory(Math.max(0, to - HISTORY_PAGE_SIZE), to, loaded -> {
+            historyLoadedFrom = to - loaded.size();
+            historyLoadedCount += loaded.size();
+            messages.addAll(0, loaded);
+            chatListView.scrollTo(loaded.size());
+            trimHistory(true);
+        });
+    }
+
+    /**
+     * 빠진 기록 자리가 화면에 보이면 그 자리의 기록 불러오기
+     * 자리가 화면 맨 위에 걸려 있으면 아래(최근 메시지)에서 올라온 것이므로 저장되어 있던 마지막 페이지를,
+     * 아니면 불러온 기록에서 내려온 것이므로 그 다음 페이지를 불러옵니다.
+     */
+    private void loadHistoryGapIfVisible() {
+        if (!hasHistoryGap() || chatFlow == null) {
+            return;
+        }
+        IndexedCell<?> first = chatFlow.getFirstVisibleCell();
+        IndexedCell<?> last = chatFlow.getLastVisibleCell();
+        int gap = historyLoadedCount;
+        if (first == null || last == null || gap < first.getIndex() || gap > last.getIndex()) {
+            return;
+        }
+        if (gap == first.getIndex() && gap < last.getIndex()) {
+            int from = Math.max(0, historyEnd - HISTORY_PAGE_SIZE);
+            readHistory(from, historyEnd, loaded -> {
+                replaceHistory(from, loaded);
+                // 보고 있던 최근 메시지가 그대로 맨 위에 오도록
+                chatListView.scrollTo(historyLoadedCount);
+            });
+            return;
+        }
+        int from = historyLoadedFrom + historyLoadedCount;
+        readHistory(from, Math.min(historyEnd, from + HISTORY_PAGE_SIZE), loaded -> {
+            messages.addAll(historyLoadedCount, loaded);
+            historyLoadedCount += loaded.size();
+            updateHistoryGap();
+            trimHistory(false);
+        });
+    }
+
+    /**
+     * 목록의 기록을 새 구간으로 교체 (검색 결과처럼 멀리 떨어진 기록으로 이동할 때)
+     * 사이의 기록은 불러오지 않고, 이전 구간은 목록과 메시지 저장소에서 정리합니다.
+     */
+    private void replaceHistory(int from, List<ChatMessage> page) {
+        List<ChatMessage> dropped = new ArrayList<>(messages.subList(0, historyLoadedCount));
+        messages.remove(0, historyLoadedCount + (isHistoryGapShown() ? 1 : 0));
+        messageStore.release(dropped);
+        historyLoadedFrom = from;
+        historyLoadedCount = page.size();
+        messages.addAll(0, page);
+        updateHistoryGap();
+    }
+
+    /**
+     * 불러온 기록이 최대 개수를 넘으면 화면에서 먼 쪽부터 정리
+     *
+     * @param keepOlder true 면 오래된 쪽(위)을 보는 중이므로 최근 쪽을, false 면 오래된 쪽을 정리
+     */
+    private void trimHistory(boolean keepOlder) {
+        int excess = historyLoadedCount - HISTORY_MAX_LOADED;
+        if (excess <= 0) {
+            return;
+        }
+        List<ChatMessage> dropped;
+        if (keepOlder) {
+            List<ChatMessage> newest = messages.subList(historyLoadedCount - excess, historyLoadedCount);
+            dropped = new ArrayList<>(newest);
+            newest.clear();
+            historyLoadedCount -= excess;
+            updateHistoryGap();
+        } else {
+            // 위쪽을 지워도 보고 있던 메시지가 그대로 맨 위에 오도록 위치 조정
+            IndexedCell<?> first = chatFlow == null ? null : chatFlow.getFirstVisibleCell();
+            List<ChatMessage> oldest = messages.subList(0, excess);
+            dropped = new ArrayList<>(oldest);
+            oldest.clear();
+            historyLoadedFrom += excess;
+            historyLoadedCount -= excess;
+            if (first != null) {
+                chatListView.scrollTo(Math.max(0, first.getIndex() - excess));
+            }
+        }
+        messageStore.release(dropped);
+    }
+
+    /**
+     * 불러온 기록 뒤에 저장되어 있던 기록이 남아 있는지 여부
+     */
+    private boolean hasHistoryGap() {
+        return historyLoadedFrom + historyLoadedCount < historyEnd;
+    }
+
+    private boolean isHistoryGapShown() {
+        return historyLoadedCount < messages.size() && messages.get(historyLoadedCount) == historyGapMessage;
+    }
+
+    /**
+     * 빠진 기록 자리를 불러온 기록 바로 뒤에 두거나 (빠진 기록이 있을 때) 제거
+     */
+    private void updateHistoryGap() {
+        boolean shown = isHistoryGapShown();
+        if (hasHistoryGap() && !shown) {
+            messages.add(historyLoadedCount, historyGapMessage);
+        } else if (!hasHistoryGap() && shown) {
+            messages.remove(historyLoadedCount);
+        }
+    }
+
+    /**
+     * 검색 결과 메시지로 이동해 잠시 강조
+     * 아직 목록에 불러오지 않은 기록이면 그 주변 한 페이지만 불러와 목록의 기록을 교체한 뒤 이동합니다.
+     *
+     * @param index 채팅 기록에서의 메시지 순번
+     */
+    private void jumpToHistory(int index) {
+        int position = listPositionOf(index);
+        if (position >= 0) {
+            highlightedMessage.set(messages.get(position));
+            highlightTimer.playFromStart();
+            chatListView.scrollTo(position);
+        } else if (index < historyEnd) {
+            int from = Math.max(0, Math.min(index - HISTORY_PAGE_SIZE / 2, historyEnd - HISTORY_PAGE_SIZE));
+            readHistory(from, Math.min(historyEnd, from + HISTORY_PAGE_SIZE), loaded -> {
+                replaceHistory(from, loaded);
+                if (listPositionOf(index) >= 0) {
+                    jumpToHistory(index);
+                }
+            });
+        }
+    }
+
+    /**
+     * 기록 순번에 해당하는 메시지의 목록 위치
+     *
+     * @return 목록 위치, 목록에 없으면 -1
+     */
+    private int listPositionOf(int index) {
+        if (index >= historyLoadedFrom && index < historyLoadedFrom + historyLoadedCount) {
+            return index - historyLoadedFrom;
+        }
+        ChatMessage saved = savedMessages.get(index);
+        return saved == null ? -1 : messages.indexOf(saved);
+    }
+
+    /**
+     * 메시지를 채팅 기록에 저장 (기록 전용 스레드)
+     */
+    private void saveToHistory(ChatMessage message) {
+        if (!ChatHistoryStore.isPersistable(message)) {
+            return;
+        }
+        historyExecutor.execute(() -> {
+            try {
+                if (historyStore != null) {
+                    int index = historyStore.append(message);
+                    searchIndex.addAsync(index, message);
+                    Platform.runLater(() -> savedMessages.put(index, message));
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "채팅 기록 저장 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 대기열에 모인 UI 갱신을 한 번에 적용 (JavaFX 스레드, 펄스당 한 번)
+     * 갱신 중 추가되는 메시지는 모아 두었다가 마지막에 한 번에 추가합니다.
+     * 반영에 걸린 시간은 JFR 이벤트(jpm.UiRender)로 기록합니다.
+     */
+    private void applyUiUpdates(List<Runnable> updates) {
+        long started = System.nanoTime();
+        UiRenderEvent render = new UiRenderEvent();
+        render.begin();
+        pendingMessages = new ArrayList<>();
+        try {
+            for (Runnable update : updates) {
+                update.run();
+            }
+        } finally {
+            flushPendingMessages();
+            pendingMessages = null;
+        }
+        renderStreamingMessage();
+        render.complete(updates.size(), uiUpdateQueue.size());
+        performanceHud.recordUpdates(updates.size(), System.nanoTime() - started);
+    }
+
+    /**
+     * 출력 중인 응답에 본문 추가
+     * 진행 중인 말풍선이 없으면 새로 만들고, 있으면 같은 말풍선에 이어 붙입니다.
+     */
+    private void appendStreamingText(TextChunk chunk) {
+        if (streamingMessage == null) {
+            streamingMessage = new StreamingChatMessage();
+            appendMessage(streamingMessage);
+        }
+        streamingMessage.append(chunk.getText(), chunk.isInline());
+    }
+
+    /**
+     * 출력 중인 응답을 화면에 반영
+     * 최대 갱신 빈도를 넘으면 남은 시간 뒤로 한 번만 미룹니다.
+     */
+    private void renderStreamingMessage() {
+        if (streamingMessage == null || !streamingMessage.isDirty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = lastStreamRenderNanos + STREAM_RENDER_INTERVAL_NANOS - now;
+        if (wait <= 0) {
+            streamRenderTimer.stop();
+            streamingMessage.publish();
+            lastStreamRenderNanos = now;
+        } else if (streamRenderTimer.getStatus() != Animation.Status.RUNNING) {
+            streamRenderTimer.setDuration(Duration.millis(wait / 1_000_000.0));
+            streamRenderTimer.play();
+        }
+    }
+
+    /**
+     * 출력 중인 응답을 완료 처리
+     * 목록의 스트리밍 메시지를 같은 내용의 일반 메시지로 바꿉니다.
+     */
+    private void finishStreamingMessage() {
+        if (streamingMessage == null) {
+            return;
+        }
+        streamRenderTimer.stop();
+        flushPendingMessages();
+        int index = messages.lastIndexOf(streamingMessage);
+        if (index >= 0) {
+            ChatMessage completed = streamingMessage.freeze(messageStore);
+            messages.set(index, completed);
+            saveToHistory(completed);
+        }
+        streamingMessage = null;
+    }
+
+    /**
+     * 요청 처리 시작 (대기열의 맨 앞이 되어 출력을 받기 시작할 때)
+     * 대기열에서 넘어온 요청도 응답 바로 앞에 오도록 이때 사용자 메시지를 추가합니다.
+     */
+    private void onRequestStarted(String input) {
+        addUserMessage(input);
+        showTypingIndicator();
+        setProcessingState(true);
+    }
+
+    /**
+     * 요청 처리 종료 (프로세스 종료 콜백, 출력과 같은 대기열로 전달됨)
+     */
+    private void onRequestCompleted(int exitCode) {
+        finishStreamingMessage();
+        hideTypingIndicator();
+        // 중단, 시간 초과는 출력 중이던 응답 뒤에 안내 문구 추가
+        if (exitCode == ProcessManager.EXIT_CANCELLED) {
+            appendMessage(newMessage(ChatMessage.MessageType.SYSTEM, "요청을 중단했습니다."));
+        } else if (exitCode == ProcessManager.EXIT_TIMEOUT) {
+            appendMessage(newMessage(ChatMessage.MessageType.SYSTEM, "응답 시간이 초과되어 요청을 중단했습니다."));
+        }
+        setProcessingState(false);
+    }
+
+    /**
+     * 현재 시각의 메시지를 저장소에 만들기 (목록에는 추가하지 않음)
+     */
+    private ChatMessage newMessage(ChatMessage.MessageType type, String content) {
+        return messageStore.append(type, System.currentTimeMillis(), content);
+    }
+
+    /**
+     * 메시지 추가 - 대기열 처리 중이면 모아 두고, 아니면 바로 추가
+     */
+    private void appendMessage(ChatMessage message) {
+        if (pendingMessages != null) {
+            pendingMessages.add(message);
+        } else {
+            messages.add(message);
+        }
+    }
+
+    /**
+     * 모아둔 메시지를 목록에 한 번에 추가
+     * 타이핑 인디케이터 등 목록을 직접 바꾸기 전에 호출해 순서를 유지합니다.
+     */
+    private void flushPendingMessages() {
+        if (pendingMessages != null && !pendingMessages.isEmpty()) {
+            messages.addAll(pendingMessages);
+            pendingMessages.clear();
+        }
+    }
+
+    /**
+     * JavaFX 스레드에서 실행 (이미 JavaFX 스레드라면 바로 실행)
+     */
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
     /**
      * 진행 상태 표시 여부 설정
      * */
@@ -188,22 +734,59 @@ public class MainView extends BorderPane {
      * 진행 상태 표시 여부 설정
      * */
     private void setProcessingState(boolean isProcessing) {
-        Platform.runLater(() -> {
-            // 진행 상태에 따라 입력 필드와 전송 버튼 활성화/비활성화
-            inputField.setDisable(isProcessing);
-            sendButton.setDisable(isProcessing);
-
-            // 진행 상태에 따라 프로그레스 인디케이터 표시/숨김
+        runOnFxThread(() -> {
+            // 처리 중에도 입력 필드는 그대로 두고 새 입력은 대기열에 추가
             progressIndicator.setVisible(isProcessing);
             if (isProcessing) {
                 progressIndicator.toFront();
             }
-            sendButton.setGraphic(isProcessing ? null : icon);
+            updateSendButton();
+        });
+    }
+
+    /**
+     * 전송 버튼이 중단 버튼으로 동작하는지 여부 (처리 중이고 입력이 비어 있을 때)
+     */
+    private boolean isStopMode() {
+        return progressIndicator.isVisible() && inputField.getText().isBlank();
+    }
+
+    /**
+     * 처리 상태와 입력 내용에 맞게 전송 버튼 갱신
+     * 중단 모드에서는 아이콘 대신 프로그레스 인디케이터를 보여주고, 대기열이 가득 차면 전송을 막습니다.
+     */
+    private void updateSendButton() {
+        boolean stopMode = isStopMode();
+        sendButton.setGraphic(stopMode ? null : icon);
+        sendButton.setTooltip(stopMode ? stopTooltip : null);
+        progressIndicator.setOpacity(stopMode ? 1 : 0);
+        sendButton.setDisable(!stopMode && requestQueue.isFull());
+    }
 
-            // 처리가 완료되면 입력 필드에 포커스 설정
-            if (!isProcessing) {
-                inputField.requestFocus();
+    /**
+     * 대기열 변경 시 패널과 입력 상태 갱신
+     */
+    private void onQueueChanged() {
+        requestQueueView.refresh();
+        inputField.setPromptText(requestQueue.isFull()
+                ? "대기 중인 요청이 너무 많습니다. 처리가 끝나기를 기다려주세요..."
+                : "메시지를 입력하세요...");
+        updateSendButton();
+    }
+
+    /**
+     * 지난 실행에서 시작하지 못한 요청을 읽어 대기열에 다시 추가 (기록 전용 스레드에서 파일 읽기)
+     */
+    private void restorePendingRequests() {
+        historyExecutor.execute(() -> {
+            List<String> inputs = RequestQueue.load(JpmConstants.USER_DATA_DIR.resolve("request-queue"));
+            if (inputs.isEmpty()) {
+                return;
             }
+            Platform.runLater(() -> {
+                addSystemMessage("지난번에 실행하지 못한 요청 " + inputs.size() + "개를 이어서 처리합니다.");
+                requestQueue.restore(inputs);
+            });
         });
     }
 
@@ -211,96 +794,36 @@ public class MainView extends BorderPane {
      * 사용자 메시지 추가
      */
     private void addUserMessage(String content) {
-        messages.add(new ChatMessage(content, ChatMessage.MessageType.USER));
+        ChatMessage message = newMessage(ChatMessage.MessageType.USER, content);
+        appendMessage(message);
+        saveToHistory(message);
     }
 
     /**
      * 시스템 메시지 추가 (환영 메시지 등)
      */
     private void addSystemMessage(String content) {
-        messages.add(new ChatMessage(content, ChatMessage.MessageType.SYSTEM));
+        messages.add(newMessage(ChatMessage.MessageType.SYSTEM, content));
     }
 
     /**
-     * 채팅 셀 팩토리 - 메시지 타입에 따라 다른 스타일 적용
+     * 응답 반영 관찰자 설정 (지연 시간 측정 도구 등)
+     *
+     * @param responseObserver 관찰자, 해제하려면 null
      */
-    private ListCell<ChatMessage> createChatCell(ListView<ChatMessage> listView) {
-        return new ListCell<>() {
-            @Override
-            protected void updateItem(ChatMessage message, boolean empty) {
-                super.updateItem(message, empty);
-
-                if (empty || message == null) {
-                    setText(null);
-                    setGraphic(null);
-                    return;
-                }
-
-                // 컨테이너 준비
-                HBox container = new HBox();
-                container.setPadding(new Insets(5, 10, 5, 10));
-
-                switch (message.getType()) {
-                    case USER:
-                        // 사용자 메시지: 말풍선 형태의 컨테이너, 오른쪽 정렬
-                        container.setAlignment(Pos.CENTER_RIGHT);
-
-                        // 동적 크기의 말풍선 생성
-                        StackPane bubble = new StackPane();
-
-                        // TextFlow를 사용하여 텍스트 우측 정렬 구현
-                        Text userText = new Text(message.getContent());
-                        TextFlow textFlow = new TextFlow(userText);
-                        textFlow.setTextAlignment(TextAlignment.RIGHT);
-                        textFlow.setPrefWidth(Control.USE_COMPUTED_SIZE);
-                        textFlow.setMaxWidth(500); // 최대 너비 제한
-
-                        // 텍스트 스타일 적용
-                        userText.getStyleClass().add("user-text");
-
-                        bubble.getChildren().add(textFlow);
-                        bubble.getStyleClass().addAll("message-bubble", "user-bubble");
-                        bubble.setPadding(new Insets(7.5, 12.5, 7.5, 12.5));
-
-                        container.getChildren().add(bubble);
-                        break;
-
-                    case JPM:
-                        // JPM 메시지: 말풍선 없는 단순 텍스트, 왼쪽 정렬
-                        container.setAlignment(Pos.CENTER_LEFT);
-
-                        // 텍스트 설정
-                        Text jpmText = new Text(message.getContent());
-                        jpmText.setWrappingWidth(600); // 긴 텍스트를 위한 충분한 너비
-                        jpmText.getStyleClass().add("typing-text");
-
-                        container.getChildren().add(jpmText);
-                        break;
-
-                    case SYSTEM:
-                        // 시스템 메시지: 가운데 정렬
-                        container.setAlignment(Pos.CENTER);
-
-                        Text systemText = new Text(message.getContent());
-                        systemText.setWrappingWidth(500);
-                        systemText.getStyleClass().add("system-text");
-
-                        container.getChildren().add(systemText);
-                        break;
-
-                    case TYPING:
-                        // 타이핑 인디케이터 표시
-                        container.setAlignment(Pos.CENTER_LEFT);
-                        container.getChildren().add(typingIndicator);
-                        typingIndicator.setVisible(true);
-                        typingIndicator.setManaged(true);
-                        break;
-                }
+    public void setResponseObserver(ResponseObserver responseObserver) {
+        this.responseObserver = responseObserver;
+    }
 
-                setGraphic(container);
-                setStyle("-fx-background-color: transparent;"); // 셀 배경을 투명하게 설정
-            }
-        };
+    /**
+     * 프로세스 매니저 조회 (JavaFX 스레드), 처음 호출할 때 생성
+     * 생성하면서 Python 인터프리터 탐색과 워커 실행을 백그라운드에서 시작합니다.
+     */
+    private ProcessManager processManager() {
+        if (processManager == null) {
+            processManager = new ProcessManager();
+        }
+        return processManager;
     }
 
     /**
@@ -314,70 +837,36 @@ public class MainView extends BorderPane {
      * 종료 시 리소스 정리
      */
     public void shutdown() {
+        prewarmTimer.stop();
+        animationScheduler.shutdown();
+        // 대기열을 먼저 닫아야 실행 중인 요청이 중단될 때 대기 요청이 새로 시작되지 않고 다음 실행으로 넘어감
+        requestQueue.shutdown();
         if (processManager != null) {
             processManager.shutdown();
         }
-    }
-
-    /**
-     * 타이핑 인디케이터 생성 메서드
-     */
-    private void createTypingIndicator() {
-        // 타이핑 인디케이터 컨테이너
-        typingIndicator = new HBox(8);
-        typingIndicator.setPadding(new Insets(5, 10, 5, 10));
-        typingIndicator.setAlignment(Pos.CENTER_LEFT);
-
-        // 말풍선 배경
-        StackPane bubbleContainer = new StackPane();
-        bubbleContainer.getStyleClass().add("message-bubble");
-        bubbleContainer.setPadding(new Insets(7.5, 12.5, 7.5, 12.5));
-
-        // 말풍선 내용을 담을 HBox
-        HBox contentBox = new HBox(10); // 10픽셀 간격
-        contentBox.setAlignment(Pos.CENTER_LEFT);
-
-        // "~~ 하는중" 텍스트 추가
-        typingStatusText = new Text("응답 준비 중");
-        typingStatusText.getStyleClass().add("typing-text");
-        contentBox.getChildren().add(typingStatusText);
-
-        // 3개의 점 생성
-        dots = new ArrayList<>();
-        HBox dotsContainer = new HBox(8);
-
-        for (int i = 0; i < 3; i++) {
-            Circle dot = new Circle(4);
-            // 모든 점의 중심을 동일하게 설정하여 애니메이션 중에도 정렬이 유지되도록 함
-            dot.setCenterX(0);
-            dot.setCenterY(0);
-            dot.setFill(i == 0 ? Color.GRAY : Color.LIGHTGRAY);
-
-            // 각 점을 StackPane으로 감싸서 애니메이션 중에도 레이아웃이 안정적으로 유지되도록 함
-            StackPane dotWrapper = new StackPane(dot);
-            dotWrapper.setMinSize(10, 10);  // 최소 크기 설정
-            dotWrapper.setPrefSize(10, 10);  // 선호 크기 설정
-
-            dots.add(dot);
-            dotsContainer.getChildren().add(dotWrapper);
+        searchBar.shutdown();
+        // 남은 기록을 저장한 뒤 저장소 닫기
+        historyExecutor.execute(() -> {
+            try {
+                if (searchIndex != null) {
+                    searchIndex.shutdown();
+                }
+                if (historyStore != null) {
+                    historyStore.close();
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "채팅 기록 닫기 실패", e);
+            }
+        });
+        historyExecutor.shutdown();
+        // 기록 스레드는 데몬이므로 색인 저장이 끝날 때까지 잠깐 기다림
+        try {
+            if (!historyExecutor.awaitTermination(HISTORY_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("채팅 기록 정리가 끝나지 않은 채 종료합니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-
-        // 텍스트와 점 컨테이너를 contentBox에 추가
-        contentBox.getChildren().add(dotsContainer);
-
-        // contentBox를 말풍선 컨테이너에 추가
-        bubbleContainer.getChildren().add(contentBox);
-
-        // 타이핑 인디케이터에 말풍선 추가
-        HBox bubble = new HBox();
-        bubble.getChildren().addAll(bubbleContainer);
-        bubble.setAlignment(Pos.CENTER_LEFT);
-
-        typingIndicator.getChildren().add(bubble);
-
-        // 처음에는 보이지 않게 설정
-        typingIndicator.setVisible(false);
-        typingIndicator.setManaged(false);
     }
 
     /**
@@ -385,41 +874,7 @@ public class MainView extends BorderPane {
      * @param text 표시할 텍스트
      */
     public void setTypingIndicatorText(String text) {
-        Platform.runLater(() -> {
-            if (typingStatusText != null) {
-                typingStatusText.setText(text);
-            }
-        });
-    }
-
-    /**
-     * 애니메이션 설정 메서드
-     */
-    private void setupAnimation() {
-        // 0.33초마다 활성화된 점 변경
-        animation = new Timeline(
-                new KeyFrame(Duration.millis(330), e -> {
-                    // 이전 점 비활성화
-                    dots.get(activeDotIndex).setFill(Color.LIGHTGRAY);
-
-                    // 다음 점 활성화
-                    activeDotIndex = (activeDotIndex + 1) % 3;
-                    Circle activeCircle = dots.get(activeDotIndex);
-                    activeCircle.setFill(Color.GRAY);
-
-                    // 활성화된 점에 크기 애니메이션 적용
-                    ScaleTransition scaleTransition = new ScaleTransition(Duration.millis(330), activeCircle);
-                    scaleTransition.setFromX(1.0);
-                    scaleTransition.setFromY(1.0);
-                    scaleTransition.setToX(1.5);  // 1.5배로 커짐
-                    scaleTransition.setToY(1.5);  // 1.5배로 커짐
-                    scaleTransition.setCycleCount(2);  // 커졌다가 작아지는 사이클
-                    scaleTransition.setAutoReverse(true);  // 자동으로 역방향 애니메이션 실행
-                    scaleTransition.play();
-                })
-        );
-
-        animation.setCycleCount(Timeline.INDEFINITE);
+        runOnFxThread(() -> typingIndicator.setText(text));
     }
 
     /**
@@ -430,13 +885,15 @@ public class MainView extends BorderPane {
             isTyping = true;
 
             // 타이핑 인디케이터를 메시지 목록에 추가
-            Platform.runLater(() -> {
-                // 타이핑 인디케이터 메시지 생성
-                ChatMessage typingMessage = new ChatMessage("", ChatMessage.MessageType.TYPING);
+            runOnFxThread(() -> {
+                // 먼저 도착한 응답 메시지 뒤에 오도록 모아둔 메시지부터 추가
+                flushPendingMessages();
+
+                // 타이핑 인디케이터 자리 추가 (매번 같은 메시지 사용)
                 messages.add(typingMessage);
 
                 // 애니메이션 시작
-                animation.play();
+                typingIndicator.start();
             });
         }
     }
@@ -449,12 +906,14 @@ public class MainView extends BorderPane {
             isTyping = false;
 
             // 타이핑 인디케이터 메시지 제거
-            Platform.runLater(() -> {
-                // 타이핑 메시지 찾아서 제거
-                messages.removeIf(msg -> msg.getType() == ChatMessage.MessageType.TYPING);
+            runOnFxThread(() -> {
+                flushPendingMessages();
+
+                // 타이핑 메시지 찾아서 제거 (내용을 읽지 않도록 객체로 비교)
+                messages.remove(typingMessage);
 
                 // 애니메이션 중지
-                animation.stop();
+                typingIndicator.stop();
             });
         }
     }
@@ -462,103 +921,134 @@ public class MainView extends BorderPane {
     ///
 
     // 메시지 전송 처리 메서드 수정
+    // 요청 대기열에 추가하고, 처리가 시작되면 사용자 메시지와 타이핑 인디케이터를 표시 (onRequestStarted)
     private void sendMessage() {
         String input = inputField.getText().trim();
         if (!input.isEmpty()) {
-            // 사용자 메시지 추가
-            addUserMessage(input);
-            inputField.clear();
-
-            // 타이핑 인디케이터 표시
-            showTypingIndicator();
-
-            // 진행 상태 표시
-            setProcessingState(true);
-
-            // 프로세스에 입력 전달
-            processManager.processUserInput(input);
+            // 대기열이 가득 차면 입력을 남겨 두어 다시 보낼 수 있게 함
+            if (requestQueue.offer(input)) {
+                inputField.clear();
+            }
         }
     }
 
-    // JPM 응답 처리 메서드 수정
-    private void handleJpmResponse(String response) {
-
-        // JPM 메시지 추가 (UI 스레드에서 실행)
-        Platform.runLater(() -> {
-            String[] command = response.split(";");
-            if(command.length != 0 && command[0].equals("PROGRESS")) {
+    // JPM 응답 처리 메서드 수정 (UI 갱신 대기열을 통해 JavaFX 스레드에서 실행)
+    private void handleJpmResponse(ProtocolEvent event) {
+        switch (event.getType()) {
+            case PROGRESS -> {
                 // 타이핑 인디케이터 숨기기
                 hideTypingIndicator();
 
-                if(command[1].equals("JPM")) {
-                    String method = command[2];
-                    switch (method) {
-                        case "init":
-                            setTypingIndicatorText("jpm 프로젝트 초기화 중");
-                            showTypingIndicator();
-                            break;
-                        case "install":
-                            setTypingIndicatorText("설치 중: " + command[3].split(":")[1]);
-                            showTypingIndicator();
-                            break;
-                        case "update":
-                            setTypingIndicatorText("업데이트 중: " + command[3].split(":")[1]);
-                            showTypingIndicator();
-                            break;
-                        case "list":
-                            setTypingIndicatorText("리스트업 중");
-                            showTypingIndicator();
-                            break;
-                        case "delete":
-                            setTypingIndicatorText("삭제 중: " + command[3].split(":")[1]);
-                            showTypingIndicator();
-                            break;
-                        case "build":
-                            setTypingIndicatorText("빌드 중");
-                            showTypingIndicator();
-                            break;
-                        case "test":
-                            setTypingIndicatorText("프로젝트 테스트 중");
-                            showTypingIndicator();
-                            break;
-                        case "run":
-                            setTypingIndicatorText("프로젝트 실행 중");
-                            showTypingIndicator();
-                            break;
-                        case "clean":
-                            setTypingIndicatorText("프로젝트 빌드 초기화 중");
-                            showTypingIndicator();
-                            break;
-                        case "version":
-                            setTypingIndicatorText("프로젝트 버전 읽어오는 중");
-                            showTypingIndicator();
-                            break;
-                        case "set":
-                            setTypingIndicatorText("메인 클래스 설정 중");
-                            showTypingIndicator();
-                            break;
-                        case "getMetadata":
-                            setTypingIndicatorText("프로젝트 메타데이터 읽어오는 중");
-                            showTypingIndicator();
-                            break;
-                        case "refresh":
-                            setTypingIndicatorText("프로젝트 설정 적용 중");
-                            showTypingIndicator();
-                            break;
-                    }
-                }
-                else if(command[1].equals("GPT")) {
-                    if(command[2].equals("generate")) {
-                        setTypingIndicatorText("응답 생성 중");
-                        showTypingIndicator();
-                    }
+                String status = progressText((ProgressEvent) event);
+                if (status != null) {
+                    setTypingIndicatorText(status);
+                    showTypingIndicator();
                 }
             }
-            else {
-                if(command[0].equals("OUTPUT") && command[1].equals("START")) hideTypingIndicator();
-                else if(command[0].equals("OUTPUT") && command[1].equals("END")) setProcessingState(false);
-                else messages.add(new ChatMessage(response, ChatMessage.MessageType.JPM));
+            case OUTPUT_START -> {
+                // 새 응답은 새 말풍선에서 시작
+                finishStreamingMessage();
+                hideTypingIndicator();
             }
-        });
+            case OUTPUT_END -> {
+                finishStreamingMessage();
+                setProcessingState(false);
+            }
+            case TEXT -> appendStreamingText((TextChunk) event);
+            case OUTPUT_SUMMARY -> appendOutputSummary((OutputSummary) event);
+        }
+    }
+
+    /**
+     * 긴 출력 요약 추가
+     * 출력이 생략되기 시작하면 기록 중인 전체 출력 링크를 먼저 추가하고,
+     * 구간이 끝나면 생략된 줄 수와 마지막 몇 줄을 붙인 뒤 링크를 줄 수가 표시된 링크로 바꿉니다.
+     */
+    private void appendOutputSummary(OutputSummary summary) {
+        Path file = summary.getFullOutput();
+        if (!summary.isFinal()) {
+            finishStreamingMessage();
+            appendMessage(new OutputLinkMessage(file, -1));
+            return;
+        }
+        if (summary.getOmittedLines() > 0) {
+            appendStreamingText(new TextChunk(String.format("… %,d줄 생략 …", summary.getOmittedLines())));
+        }
+        for (String line : summary.getTail()) {
+            appendStreamingText(new TextChunk(line));
+        }
+        if (file != null) {
+            finishStreamingMessage();
+            OutputLinkMessage link = new OutputLinkMessage(file, summary.getTotalLines());
+            int index = outputLinkPosition(file);
+            if (index >= 0) {
+                messages.set(index, link);
+            } else {
+                appendMessage(link);
+            }
+        }
+    }
+
+    /**
+     * 기록 중으로 추가해 둔 전체 출력 링크의 목록 위치 (최근 메시지부터 검색)
+     *
+     * @return 목록 위치, 없으면 -1
+     */
+    private int outputLinkPosition(Path file) {
+        flushPendingMessages();
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i) instanceof OutputLinkMessage link && link.getFullOutput().equals(file)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 성능 정보 오버레이 getter (창 위에 겹쳐 배치하기 위해)
+     */
+    public PerformanceHud getPerformanceHud() {
+        return performanceHud;
+    }
+
+    /**
+     * 요약된 출력의 전체 내용을 여는 방법 설정
+     *
+     * @param onShowFullOutput 전체 출력 파일을 받아 여는 콜백 (JavaFX 스레드)
+     */
+    public void setOnShowFullOutput(Consumer<Path> onShowFullOutput) {
+        this.onShowFullOutput = onShowFullOutput;
+    }
+
+    /**
+     * 진행 상태 이벤트를 타이핑 인디케이터 문구로 변환
+     *
+     * @return 표시할 문구, 알 수 없는 진행 상태면 null
+     */
+    private static String progressText(ProgressEvent progress) {
+        if (progress.isJpm()) {
+            // 인자가 없는 잘못된 프레임이어도 이름만 빼고 표시
+            String target = progress.getArgumentValue() == null ? "" : ": " + progress.getArgumentValue();
+            return switch (progress.getMethod()) {
+                case "init" -> "jpm 프로젝트 초기화 중";
+                case "install" -> "설치 중" + target;
+                case "update" -> "업데이트 중" + target;
+                case "list" -> "리스트업 중";
+                case "delete" -> "삭제 중" + target;
+                case "build" -> "빌드 중";
+                case "test" -> "프로젝트 테스트 중";
+                case "run" -> "프로젝트 실행 중";
+                case "clean" -> "프로젝트 빌드 초기화 중";
+                case "version" -> "프로젝트 버전 읽어오는 중";
+                case "set" -> "메인 클래스 설정 중";
+                case "getMetadata" -> "프로젝트 메타데이터 읽어오는 중";
+                case "refresh" -> "프로젝트 설정 적용 중";
+                default -> null;
+            };
+        }
+        if (progress.isGpt() && progress.getMethod().equals("generate")) {
+            return "응답 생성 중";
+        }
+        return null;
     }
 }
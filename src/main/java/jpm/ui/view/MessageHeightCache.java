@@ -0,0 +1,98 @@
+package jpm.ui.view;
+
+import jpm.ui.model.ChatMessage;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 채팅 셀 높이 캐시
+ * 메시지 내용과 줄바꿈 너비가 같으면 높이도 같으므로, 한 번 측정한 높이를 재사용해
+ * 스크롤로 다시 보이는 셀의 텍스트 레이아웃 계산을 건너뜁니다.
+ * 아직 측정하지 않은 메시지는 글자 수로 높이를 추정합니다.
+ *
+ * 메시지 내용은 읽을 때마다 새로 만들어지므로 키는 메시지 객체이며(내용이 바뀌지 않는 메시지만 저장),
+ * 약한 참조이므로 메시지가 목록에서 사라지면 함께 정리됩니다. 캐시된 높이가 있으면 내용을 읽지 않아도 됩니다.
+ * JavaFX 스레드에서만 사용합니다.
+ */
+public class MessageHeightCache {
+
+    // 높이 추정용 글꼴 지표 (14px Pretendard 기준 근사값)
+    private static final double LATIN_CHAR_WIDTH = 7.5;
+    private static final double WIDE_CHAR_WIDTH = 14.0;  // 한글 등 전각 문자
+    private static final double LINE_HEIGHT = 19.0;
+    // 셀 패딩 (.list-cell 8px * 2 + 행 패딩 5px * 2)
+    private static final double CELL_PADDING = 26.0;
+    // 사용자 말풍선 패딩 (7.5px * 2)
+    private static final double BUBBLE_PADDING = 15.0;
+
+    private final Map<ChatMessage, double[]> heights = new WeakHashMap<>();
+
+    /**
+     * 측정된 높이 조회
+     *
+     * @param message 메시지
+     * @param wrapWidth 줄바꿈 너비
+     * @return 측정된 높이, 없으면 -1
+     */
+    public double get(ChatMessage message, double wrapWidth) {
+        double[] entry = heights.get(message);
+        // entry = {줄바꿈 너비, 높이}
+        return entry != null && entry[0] == wrapWidth ? entry[1] : -1;
+    }
+
+    /**
+     * 측정된 높이 저장
+     *
+     * @param message 메시지 (내용이 바뀌지 않는 메시지)
+     * @param wrapWidth 줄바꿈 너비
+     * @param height 측정된 높이
+     */
+    public void put(ChatMessage message, double wrapWidth, double height) {
+        heights.put(message, new double[]{wrapWidth, height});
+    }
+
+    /**
+     * 측정 전 높이 추정
+     * 문단마다 글자 폭을 더해 줄 수를 계산합니다.
+     *
+     * @param type 메시지 타입
+     * @param content 메시지 내용
+     * @param wrapWidth 줄바꿈 너비
+     * @return 추정 높이
+     */
+    public double estimate(ChatMessage.MessageType type, String content, double wrapWidth) {
+        int lines = 0;
+        double lineWidth = 0;
+        boolean emptyLine = true;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '\n') {
+                lines++;
+                lineWidth = 0;
+                emptyLine = true;
+                continue;
+            }
+            double charWidth = c < 0x1100 ? LATIN_CHAR_WIDTH : WIDE_CHAR_WIDTH;
+            if (lineWidth + charWidth > wrapWidth) {
+                lines++;
+                lineWidth = 0;
+            }
+            lineWidth += charWidth;
+            emptyLine = false;
+        }
+        if (!emptyLine || lines == 0) {
+            lines++;
+        }
+
+        double height = lines * LINE_HEIGHT + CELL_PADDING;
+        return type == ChatMessage.MessageType.USER ? height + BUBBLE_PADDING : height;
+    }
+
+    /**
+     * 캐시 비우기 (글꼴, 스타일 변경 시)
+     */
+    public void clear() {
+        heights.clear();
+    }
+}
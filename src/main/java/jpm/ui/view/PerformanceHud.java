@@ -0,0 +1,301 @@
+package jpm.ui.view;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import jpm.ui.model.MessageStore;
+
+import com.sun.management.OperatingSystemMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 성능 정보 오버레이 (HUD)
+ * 창이 끊길 때 원인이 렌더링/레이아웃인지, 출력 반영 콜백인지, GC 인지 구분할 수 있도록 다음 값을 1초마다 보여줍니다.
+ *
+ * - FPS : 실제로 일어난 펄스 수 (그릴 것이 없으면 펄스가 없으므로 0 에 가까움)
+ * - CSS/레이아웃 : 펄스마다 CSS 와 레이아웃 처리에 걸린 시간 (평균 / 최대)
+ * - 출력 반영 : UI 갱신 대기열의 항목을 채팅 목록에 반영하는 데 걸린 시간 (평균 / 최대)
+ * - runLater 지연 : Platform.runLater 로 넣은 작업이 실행되기까지 걸린 시간 (밀린 작업량)
+ * - CPU/프레임 : 측정 구간의 프로세스 CPU 시간을 펄스 수로 나눈 값 (렌더링 방식별 비용 비교용, GC 와 출력 읽기 스레드 포함)
+ * - UI 대기열, 출력 이벤트/s, 진행 중인 NLP 요청 수, 힙 사용량, GC 횟수와 시간
+ * - 메시지 저장소 : 메시지 수, 저장소 배열 크기와 메시지당 바이트, 압축된 메시지 수
+ *
+ * 보이는 동안에만 펄스 리스너와 1초 타이머를 등록하고, 값은 JavaFX 스레드에서 정수 카운터로만 모으므로
+ * 실제 사용 중에 켜 두어도 부담이 거의 없습니다.
+ * 실행 중인 JavaFX Animation(Timeline 포함)은 펄스를 화면 주사율로 일으키므로, 타이머는 Timeline 대신
+ * {@link AnimationScheduler} 의 IDLE 단계처럼 백그라운드 스레드에서 Platform.runLater 로 표시 작업만 넣습니다.
+ * 표시를 바꾸는 1초마다의 펄스 외에는 펄스를 일으키지 않아 FPS 와 CPU/프레임 값이 측정 대상을 반영합니다.
+ */
+public class PerformanceHud extends Label {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 1000;
+
+    private final IntSupplier eventQueueDepth;   // UI 갱신 대기열 길이
+    private final IntSupplier activeRequests;    // 진행 중인 NLP 요청 수
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final OperatingSystemMXBean os = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+    private final List<GarbageCollectorMXBean> collectors;
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "jpm-performance-hud");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> samplerTask;      // 보이는 동안의 1초 표시 작업 (숨기면 null)
+    private final Runnable preLayoutListener = this::onPreLayout;
+    private final Runnable postLayoutListener = this::onPostLayout;
+    private Scene attachedScene;                 // 펄스 리스너를 등록한 Scene
+    private RenderingProfile renderingProfile;   // 창 테두리 렌더링 방식 (표시용, 모르면 null)
+    private MessageStore messageStore;           // 채팅 메시지 저장소 (표시용, 모르면 null)
+
+    // 측정 구간 카운터 (JavaFX 스레드 전용)
+    private long pulses = 0;
+    private long layoutStartNanos = 0;
+    private long layoutTotalNanos = 0;
+    private long layoutMaxNanos = 0;
+    private long updateBatches = 0;
+    private long updateEvents = 0;
+    private long updateTotalNanos = 0;
+    private long updateMaxNanos = 0;
+    private long runLaterLatencyNanos = 0;
+    private boolean probePending = false;
+    private long probePostedNanos = 0;
+    private long lastSampleNanos = 0;
+    private long lastGcCount = 0;
+    private long lastGcMillis = 0;
+    private long lastCpuNanos = 0;
+
+    /**
+     * 성능 정보 오버레이 생성자 (처음에는 숨김)
+     *
+     * @param eventQueueDepth UI 갱신 대기열 길이 조회
+     * @param activeRequests 진행 중인 NLP 요청 수 조회
+     */
+    public PerformanceHud(IntSupplier eventQueueDepth, IntSupplier activeRequests) {
+        this.eventQueueDepth = eventQueueDepth;
+        this.activeRequests = activeRequests;
+        // 동시(concurrent) 수집기는 애플리케이션을 멈추지 않으므로 제외하고 정지 시간만 합산
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .filter(gc -> !gc.getName().contains("Concurrent") && !gc.getName().contains("Cycles"))
+                .toList();
+
+        setId("performance-hud");
+        setMouseTransparent(true);
+        setFocusTraversable(false);
+        setVisible(false);
+        setManaged(false);
+    }
+
+    /**
+     * 보이기/숨기기 전환
+     */
+    public void toggle() {
+        setShowing(!isVisible());
+    }
+
+    /**
+     * 보이기/숨기기 (JavaFX 스레드에서 호출)
+     * 숨기면 펄스 리스너와 타이머를 모두 해제합니다.
+     *
+     * @param showing 보일지 여부
+     */
+    public void setShowing(boolean showing) {
+        if (showing == isVisible()) {
+            return;
+        }
+        setVisible(showing);
+        setManaged(showing);
+        if (showing) {
+            attachedScene = getScene();
+            if (attachedScene != null) {
+                attachedScene.addPreLayoutPulseListener(preLayoutListener);
+                attachedScene.addPostLayoutPulseListener(postLayoutListener);
+            }
+            resetCounters();
+            lastSampleNanos = System.nanoTime();
+            setText("측정 중...");
+            samplerTask = sampler.scheduleAtFixedRate(() -> Platform.runLater(this::sampleIfShowing),
+                    SAMPLE_INTERVAL_MILLIS, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } else {
+            samplerTask.cancel(false);
+            samplerTask = null;
+            if (attachedScene != null) {
+                attachedScene.removePreLayoutPulseListener(preLayoutListener);
+                attachedScene.removePostLayoutPulseListener(postLayoutListener);
+                attachedScene = null;
+            }
+        }
+    }
+
+    /**
+     * 표시할 렌더링 방식 지정
+     *
+     * @param renderingProfile 창 테두리 렌더링 방식
+     */
+    public void setRenderingProfile(RenderingProfile renderingProfile) {
+        this.renderingProfile = renderingProfile;
+    }
+
+    /**
+     * 크기를 표시할 메시지 저장소 지정
+     *
+     * @param messageStore 채팅 메시지 저장소
+     */
+    public void setMessageStore(MessageStore messageStore) {
+        this.messageStore = messageStore;
+    }
+
+    /**
+     * 출력 반영 한 번의 결과 기록 (JavaFX 스레드, UI 갱신 대기열 처리 후)
+     *
+     * @param events 반영한 갱신 수
+     * @param nanos 반영에 걸린 시간
+     */
+    public void recordUpdates(int events, long nanos) {
+        if (!isVisible()) {
+            return;
+        }
+        updateBatches++;
+        updateEvents += events;
+        updateTotalNanos += nanos;
+        updateMaxNanos = Math.max(updateMaxNanos, nanos);
+    }
+
+    private void onPreLayout() {
+        layoutStartNanos = System.nanoTime();
+    }
+
+    private void onPostLayout() {
+        long elapsed = System.nanoTime() - layoutStartNanos;
+        pulses++;
+        layoutTotalNanos += elapsed;
+        layoutMaxNanos = Math.max(layoutMaxNanos, elapsed);
+    }
+
+    private void sampleIfShowing() {
+        // 숨기기 직전에 예약된 표시 작업은 무시
+        if (samplerTask != null) {
+            sample();
+        }
+    }
+
+    /**
+     * 1초 동안 모인 값을 표시하고 카운터 초기화 (타이머, JavaFX 스레드)
+     */
+    private void sample() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-9, (now - lastSampleNanos) / 1e9);
+        lastSampleNanos = now;
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        long cpuNanos = processCpuNanos();
+        long cpuDelta = cpuNanos - lastCpuNanos;
+        if (probePending) {
+            // 이전 측정 작업이 아직 실행되지 않음 - 지금까지 기다린 시간이 최소 지연
+            runLaterLatencyNanos = Math.max(runLaterLatencyNanos, now - probePostedNanos);
+        }
+
+        setText(String.format("""
+                        FPS %.0f · CSS/레이아웃 %.1fms (최대 %.1f)
+                        출력 반영 %.1fms (최대 %.1f) · %,.0f 이벤트/s
+                        CPU %.1fms/프레임 (%.0f%%) · 렌더링 %s
+                        runLater 지연 %.1fms · UI 대기열 %d
+                        NLP 요청 %d · 힙 %,d / %,d MB · GC %d회 %dms
+                        %s""",
+                pulses / seconds, average(layoutTotalNanos, pulses), layoutMaxNanos / 1e6,
+                average(updateTotalNanos, updateBatches), updateMaxNanos / 1e6, updateEvents / seconds,
+                average(cpuDelta, pulses), cpuDelta / 1e7 / seconds,
+                renderingProfile != null ? renderingProfile.name().toLowerCase(Locale.ROOT) : "-",
+                runLaterLatencyNanos / 1e6, eventQueueDepth.getAsInt(),
+                activeRequests.getAsInt(), heap.getUsed() >> 20, heap.getCommitted() >> 20,
+                gcCount - lastGcCount, gcMillis - lastGcMillis, messageStoreSummary()));
+
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        lastCpuNanos = cpuNanos;
+        clearInterval();
+        probeRunLater();
+    }
+
+    /**
+     * 메시지 저장소 요약 (메시지 수, 저장소 크기, 메시지당 바이트, 압축된 메시지 수)
+     */
+    private String messageStoreSummary() {
+        if (messageStore == null) {
+            return "메시지 -";
+        }
+        int count = messageStore.size();
+        long bytes = messageStore.footprintBytes();
+        return String.format("메시지 %,d개 · %,d KB (%,d B/개) · 압축 %,d개",
+                count, bytes >> 10, count > 0 ? bytes / count : 0, messageStore.compressedCount());
+    }
+
+    /**
+     * runLater 대기열 지연 측정 - 다음 표시 때 반영
+     */
+    private void probeRunLater() {
+        if (probePending) {
+            return;
+        }
+        probePending = true;
+        probePostedNanos = System.nanoTime();
+        Platform.runLater(() -> {
+            runLaterLatencyNanos = System.nanoTime() - probePostedNanos;
+            probePending = false;
+        });
+    }
+
+    /**
+     * 표시 구간 카운터 초기화
+     */
+    private void clearInterval() {
+        pulses = 0;
+        layoutTotalNanos = 0;
+        layoutMaxNanos = 0;
+        updateBatches = 0;
+        updateEvents = 0;
+        updateTotalNanos = 0;
+        updateMaxNanos = 0;
+    }
+
+    /**
+     * 보이기 시작할 때 모든 카운터와 GC 기준값 초기화
+     */
+    private void resetCounters() {
+        clearInterval();
+        runLaterLatencyNanos = 0;
+        lastCpuNanos = processCpuNanos();
+        lastGcCount = 0;
+        lastGcMillis = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            lastGcCount += Math.max(0, gc.getCollectionCount());
+            lastGcMillis += Math.max(0, gc.getCollectionTime());
+        }
+    }
+
+    /**
+     * 프로세스 CPU 시간 (ns, 모든 스레드 합계), 지원하지 않으면 0
+     */
+    private long processCpuNanos() {
+        return os != null ? Math.max(0, os.getProcessCpuTime()) : 0;
+    }
+
+    private static double average(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / 1e6 / count;
+    }
+}
@@ -0,0 +1,68 @@
+package jpm.ui.view;
+
+import javafx.application.ConditionalFeature;
+import javafx.application.Platform;
+import jpm.ui.model.UserSettings;
+
+import java.util.Locale;
+
+/**
+ * 창 테두리(그림자, 반투명 배경) 렌더링 방식
+ * GPU 가 없는 VM 이나 원격 데스크톱에서는 Prism 이 소프트웨어 파이프라인으로 동작해, 내용이 바뀔 때마다
+ * 그 영역의 그림자 효과를 CPU 로 다시 계산합니다. 이런 환경에서는 그림자를 미리 그려 둔 비트맵을 쓰거나 효과를 끕니다.
+ *
+ * 사용자 설정 rendering.profile (auto, full, cached, opaque) 로 고를 수 있으며, auto 면 파이프라인에 맞춰 선택합니다.
+ */
+public enum RenderingProfile {
+
+    /**
+     * 내용을 감싼 컨테이너에 그림자 효과를 직접 적용 (하드웨어 가속 파이프라인 기본값)
+     */
+    FULL,
+
+    /**
+     * 그림자와 배경을 내용과 분리된 노드에 그리고 비트맵으로 캐시 - 내용이 바뀌어도 그림자를 다시 계산하지 않음
+     * (소프트웨어 파이프라인 기본값)
+     */
+    CACHED,
+
+    /**
+     * 그림자와 투명 창 없이 불투명 배경만 사용 - 가장 가벼움
+     */
+    OPAQUE;
+
+    /**
+     * 사용자 설정과 현재 파이프라인으로 렌더링 방식 결정 (JavaFX 시작 후 호출)
+     *
+     * @param settings 사용자 설정
+     * @return 설정한 방식, auto 거나 알 수 없는 값이면 소프트웨어 파이프라인일 때 CACHED, 아니면 FULL
+     */
+    public static RenderingProfile select(UserSettings settings) {
+        String configured = settings.get(UserSettings.RENDERING_PROFILE, "auto").toUpperCase(Locale.ROOT);
+        for (RenderingProfile profile : values()) {
+            if (profile.name().equals(configured)) {
+                return profile;
+            }
+        }
+        return isSoftwarePipeline() ? CACHED : FULL;
+    }
+
+    /**
+     * Prism 이 소프트웨어 파이프라인으로 동작하는지 확인
+     * 파이프라인은 공개 API 로 알 수 없으므로, 직접 지정한 prism.order 와 3D 지원 여부(소프트웨어 파이프라인은 미지원)로 판단합니다.
+     */
+    public static boolean isSoftwarePipeline() {
+        String order = System.getProperty("prism.order");
+        if (order != null && order.trim().startsWith("sw")) {
+            return true;
+        }
+        return !Platform.isSupported(ConditionalFeature.SCENE3D);
+    }
+
+    /**
+     * 투명 창(StageStyle.TRANSPARENT)을 사용하는지 여부
+     */
+    public boolean isTransparentWindow() {
+        return this != OPAQUE;
+    }
+}
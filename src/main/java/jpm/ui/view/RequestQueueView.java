@@ -0,0 +1,100 @@
+package jpm.ui.view;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import jpm.ui.model.RequestQueue;
+
+import java.util.List;
+
+/**
+ * 요청 대기열 패널
+ * 처리 중인 요청 뒤에 대기 중인 요청을 입력 창 위에 반투명 말풍선으로 보여주고,
+ * 실행 전 요청은 순서를 바꾸거나 뺄 수 있게 합니다.
+ */
+public class RequestQueueView extends VBox {
+
+    private static final int SNIPPET_LENGTH = 60; // 말풍선에 보여줄 최대 글자 수
+
+    private final RequestQueue requestQueue;
+
+    /**
+     * 요청 대기열 패널 생성자
+     *
+     * @param requestQueue 표시할 요청 대기열
+     */
+    public RequestQueueView(RequestQueue requestQueue) {
+        super(4);
+        this.requestQueue = requestQueue;
+        setId("request-queue");
+        setPadding(new Insets(10, 0, 0, 0));
+        setStyle("-fx-background-color: transparent;");
+        setVisible(false);
+        setManaged(false);
+    }
+
+    /**
+     * 대기 목록 다시 그리기 (대기열 변경 시 JavaFX 스레드에서 호출)
+     * 대기 요청은 많아야 대기열 용량만큼이므로 매번 새로 만듭니다.
+     */
+    public void refresh() {
+        List<RequestQueue.Entry> waiting = requestQueue.getWaiting();
+        getChildren().clear();
+        for (RequestQueue.Entry entry : waiting) {
+            getChildren().add(createRow(entry));
+        }
+        setVisible(!waiting.isEmpty());
+        setManaged(!waiting.isEmpty());
+    }
+
+    /**
+     * 대기 요청 한 줄: 입력 말풍선, 상태, 위/아래/빼기 버튼
+     */
+    private HBox createRow(RequestQueue.Entry entry) {
+        String input = entry.getInput().replace('\n', ' ');
+        if (input.length() > SNIPPET_LENGTH) {
+            input = input.substring(0, SNIPPET_LENGTH) + "…";
+        }
+        Label bubble = new Label(input);
+        bubble.getStyleClass().add("pending-bubble");
+        bubble.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(bubble, Priority.ALWAYS);
+
+        Label status = new Label(statusText(entry));
+        status.getStyleClass().add("pending-status");
+
+        Button up = createButton("▲", "앞으로", () -> requestQueue.moveUp(entry));
+        Button down = createButton("▼", "뒤로", () -> requestQueue.moveDown(entry));
+        Button remove = createButton("✕", entry.isStarted() ? "중단" : "빼기", () -> requestQueue.remove(entry));
+        // 실행이 시작된 요청은 순서를 바꿀 수 없음
+        up.setDisable(entry.isStarted());
+        down.setDisable(entry.isStarted());
+
+        HBox row = new HBox(6, bubble, status, up, down, remove);
+        row.setAlignment(Pos.CENTER_RIGHT);
+        return row;
+    }
+
+    private static Button createButton(String text, String tooltip, Runnable action) {
+        Button button = new Button(text);
+        button.getStyleClass().add("pending-button");
+        button.setTooltip(new Tooltip(tooltip));
+        button.setOnAction(e -> action.run());
+        return button;
+    }
+
+    private static String statusText(RequestQueue.Entry entry) {
+        if (entry.isFinished()) {
+            return "응답 대기";
+        }
+        if (entry.isStarted()) {
+            return "처리 중";
+        }
+        return entry.getPolicy() == RequestQueue.Policy.SEQUENTIAL ? "대기 (단독 실행)" : "대기";
+    }
+}
@@ -0,0 +1,218 @@
+package jpm.ui.view;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+import jpm.ui.constants.DevelopmentLevel;
+import jpm.ui.constants.JpmConstants;
+import jpm.ui.model.ChatSearchIndex;
+import jpm.ui.model.SearchHit;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 채팅 기록 검색창
+ * 입력이 잠시 멈추면 검색 전용 스레드에서 검색하고, 결과를 목록으로 보여줍니다.
+ * 결과를 선택(클릭 또는 엔터)하면 해당 메시지로 이동합니다.
+ */
+public class SearchBar extends VBox {
+
+    private static final int MAX_RESULTS = 20;
+    private static final Duration SEARCH_DELAY = Duration.millis(150); // 입력 후 검색까지 대기 시간
+    private static final int SNIPPET_LENGTH = 80; // 결과 목록에 보여줄 최대 글자 수
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("MM/dd HH:mm");
+
+    private final TextField searchField;
+    private final ListView<SearchHit> resultList;
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
+    private final ExecutorService searcher;
+    private volatile ChatSearchIndex index; // 채팅 기록을 연 뒤 설정됨
+    private long searchSequence = 0; // 마지막으로 요청한 검색 번호 (늦게 도착한 이전 결과 무시)
+
+    private static final Logger LOGGER = Logger.getLogger(SearchBar.class.getName());
+    // Logger 레벨 초기화
+    static {
+        if (JpmConstants.DEVELOPMENT_LEVEL == DevelopmentLevel.DEBUG) {
+            LOGGER.setLevel(Level.ALL);
+        } else {
+            LOGGER.setLevel(Level.OFF);
+        }
+    }
+
+    /**
+     * 검색창 생성자
+     *
+     * @param onSelect 검색 결과를 선택했을 때 호출 (JavaFX 스레드)
+     */
+    public SearchBar(Consumer<SearchHit> onSelect) {
+        super(5);
+        setPadding(new Insets(0, 0, 10, 0));
+        setStyle("-fx-background-color: transparent;");
+
+        searchField = new TextField();
+        searchField.setPromptText("대화 검색...");
+        searchField.setId("search-field");
+
+        resultList = new ListView<>();
+        resultList.setId("search-results");
+        resultList.setMaxHeight(180);
+        resultList.setCellFactory(listView -> new SearchHitCell());
+        showResults(List.of());
+
+        getChildren().addAll(searchField, resultList);
+
+        searcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "jpm-search");
+            t.setDaemon(true);
+            return t;
+        });
+
+        // 입력이 멈추면 검색
+        searchDelay.setOnFinished(e -> search(searchField.getText()));
+        searchField.textProperty().addListener((obs, oldText, newText) -> searchDelay.playFromStart());
+
+        // 엔터: 첫 번째(또는 선택된) 결과로 이동, ESC: 닫기, 아래 화살표: 결과 목록으로
+        searchField.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.ESCAPE) {
+                close();
+            } else if (e.getCode() == KeyCode.DOWN && !resultList.getItems().isEmpty()) {
+                resultList.requestFocus();
+                resultList.getSelectionModel().selectFirst();
+            }
+        });
+        searchField.setOnAction(e -> {
+            if (!resultList.getItems().isEmpty()) {
+                onSelect.accept(resultList.getItems().get(0));
+            }
+        });
+        resultList.setOnKeyPressed(e -> {
+            SearchHit selected = resultList.getSelectionModel().getSelectedItem();
+            if (e.getCode() == KeyCode.ENTER && selected != null) {
+                onSelect.accept(selected);
+            } else if (e.getCode() == KeyCode.ESCAPE) {
+                close();
+            }
+        });
+        resultList.setOnMouseClicked(e -> {
+            SearchHit selected = resultList.getSelectionModel().getSelectedItem();
+            if (selected != null) {
+                onSelect.accept(selected);
+            }
+        });
+
+        setVisible(false);
+        setManaged(false);
+    }
+
+    /**
+     * 검색에 사용할 인덱스 설정 (채팅 기록을 연 뒤, 어느 스레드에서나 호출 가능)
+     *
+     * @param index 채팅 기록 검색 인덱스
+     */
+    public void setIndex(ChatSearchIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * 검색창 열기
+     */
+    public void open() {
+        setVisible(true);
+        setManaged(true);
+        searchField.requestFocus();
+        searchField.selectAll();
+    }
+
+    /**
+     * 검색창 닫기
+     */
+    public void close() {
+        searchDelay.stop();
+        searchSequence++;
+        setVisible(false);
+        setManaged(false);
+    }
+
+    /**
+     * 검색창이 열려 있는지 여부
+     */
+    public boolean isOpen() {
+        return isVisible();
+    }
+
+    /**
+     * 검색 전용 스레드에서 검색하고 결과 반영
+     */
+    private void search(String query) {
+        long sequence = ++searchSequence;
+        ChatSearchIndex current = index;
+        if (current == null || query.isBlank()) {
+            showResults(List.of());
+            return;
+        }
+        searcher.execute(() -> {
+            List<SearchHit> hits;
+            try {
+                long start = System.nanoTime();
+                hits = current.search(query, MAX_RESULTS);
+                LOGGER.fine("검색 \"" + query + "\": " + hits.size() + "건, " + (System.nanoTime() - start) / 1000 + "us");
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "채팅 기록 검색 실패", e);
+                hits = List.of();
+            }
+            List<SearchHit> result = hits;
+            Platform.runLater(() -> {
+                // 그 사이에 새 검색이 시작됐으면 무시
+                if (sequence == searchSequence) {
+                    showResults(result);
+                }
+            });
+        });
+    }
+
+    private void showResults(List<SearchHit> hits) {
+        resultList.getItems().setAll(hits);
+        resultList.setVisible(!hits.isEmpty());
+        resultList.setManaged(!hits.isEmpty());
+    }
+
+    /**
+     * 종료 시 검색 스레드 정리
+     */
+    public void shutdown() {
+        searcher.shutdownNow();
+    }
+
+    /**
+     * 검색 결과 셀: 시간과 메시지 앞부분 한 줄
+     */
+    private static final class SearchHitCell extends ListCell<SearchHit> {
+        @Override
+        protected void updateItem(SearchHit hit, boolean empty) {
+            super.updateItem(hit, empty);
+            if (empty || hit == null) {
+                setText(null);
+                return;
+            }
+            String content = hit.getMessage().getContent().replace('\n', ' ');
+            if (content.length() > SNIPPET_LENGTH) {
+                content = content.substring(0, SNIPPET_LENGTH) + "…";
+            }
+            String speaker = hit.getMessage().isUserMessage() ? "나" : "JPM";
+            setText(hit.getMessage().getTimestamp().format(TIME_FORMAT) + "  " + speaker + "  " + content);
+        }
+    }
+}
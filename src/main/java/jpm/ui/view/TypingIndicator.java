@@ -0,0 +1,155 @@
+package jpm.ui.view;
+
+import javafx.animation.ScaleTransition;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
+
+/**
+ * 타이핑 인디케이터 상태와 애니메이션
+ * 상태 문구와 활성화된 점 위치만 보관하고, 화면 노드는 {@link #createNode()} 로 셀마다 따로 만듭니다.
+ * 하나의 노드를 여러 셀에 옮겨 붙이지 않으므로 셀 재사용 시 장면 그래프가 바뀌지 않습니다.
+ * 점 이동은 {@link AnimationScheduler} 가 창 상태에 맞춰 실행하며, 점 크기 애니메이션은 ACTIVE 단계에서만 재생합니다.
+ */
+public class TypingIndicator {
+
+    private static final int DOT_COUNT = 3;
+    private static final Duration TICK = Duration.millis(330); // 활성화된 점이 바뀌는 주기
+    private static final Duration IDLE_TICK = Duration.seconds(1); // 사용자가 보고 있지 않을 때의 주기
+    private static final Object DOT_LISTENER_KEY = new Object();   // 노드가 점 상태 리스너를 보관하는 키
+
+    private final StringProperty statusText = new SimpleStringProperty("응답 준비 중");
+    private final IntegerProperty activeDot = new SimpleIntegerProperty(0);
+    private final AnimationScheduler scheduler;
+    private final AnimationScheduler.Ticker animation;
+
+    /**
+     * 타이핑 인디케이터 생성자
+     *
+     * @param scheduler 창 상태에 맞춰 애니메이션을 실행할 스케줄러
+     */
+    public TypingIndicator(AnimationScheduler scheduler) {
+        this.scheduler = scheduler;
+        // 0.33초마다 활성화된 점 변경 (IDLE 단계에서는 1초마다)
+        animation = scheduler.createTicker(TICK, IDLE_TICK, () -> activeDot.set((activeDot.get() + 1) % DOT_COUNT));
+    }
+
+    /**
+     * 상태 문구 설정
+     *
+     * @param text 표시할 문구
+     */
+    public void setText(String text) {
+        statusText.set(text);
+    }
+
+    /**
+     * 애니메이션 시작
+     */
+    public void start() {
+        animation.start();
+    }
+
+    /**
+     * 애니메이션 중지
+     */
+    public void stop() {
+        animation.stop();
+    }
+
+    /**
+     * 인디케이터 노드 생성 (셀마다 한 번)
+     * 문구와 점 상태는 공유 상태에 연결되며, 점 크기 애니메이션도 미리 만들어 재사용합니다.
+     * 공유 상태에는 약한 리스너만 등록하므로 셀이 버려지면 노드도 더 이상 갱신되지 않고 수거됩니다.
+     *
+     * @return 인디케이터 노드
+     */
+    public HBox createNode() {
+        // 타이핑 인디케이터 컨테이너
+        HBox indicator = new HBox(8);
+        indicator.setPadding(new Insets(5, 10, 5, 10));
+        indicator.setAlignment(Pos.CENTER_LEFT);
+
+        // 말풍선 배경
+        StackPane bubbleContainer = new StackPane();
+        bubbleContainer.getStyleClass().add("message-bubble");
+        bubbleContainer.setPadding(new Insets(7.5, 12.5, 7.5, 12.5));
+
+        // 말풍선 내용을 담을 HBox
+        HBox contentBox = new HBox(10); // 10픽셀 간격
+        contentBox.setAlignment(Pos.CENTER_LEFT);
+
+        // "~~ 하는중" 텍스트
+        Text text = new Text();
+        text.textProperty().bind(statusText);
+        text.getStyleClass().add("typing-text");
+        contentBox.getChildren().add(text);
+
+        // 3개의 점과 점마다의 크기 애니메이션
+        Circle[] dots = new Circle[DOT_COUNT];
+        ScaleTransition[] pulses = new ScaleTransition[DOT_COUNT];
+        HBox dotsContainer = new HBox(8);
+
+        for (int i = 0; i < DOT_COUNT; i++) {
+            Circle dot = new Circle(4);
+            // 모든 점의 중심을 동일하게 설정하여 애니메이션 중에도 정렬이 유지되도록 함
+            dot.setCenterX(0);
+            dot.setCenterY(0);
+            dot.setFill(i == activeDot.get() ? Color.GRAY : Color.LIGHTGRAY);
+
+            // 각 점을 StackPane으로 감싸서 애니메이션 중에도 레이아웃이 안정적으로 유지되도록 함
+            StackPane dotWrapper = new StackPane(dot);
+            dotWrapper.setMinSize(10, 10);  // 최소 크기 설정
+            dotWrapper.setPrefSize(10, 10);  // 선호 크기 설정
+
+            // 활성화된 점에 적용할 크기 애니메이션 (커졌다가 작아지는 한 사이클)
+            ScaleTransition pulse = new ScaleTransition(TICK, dot);
+            pulse.setFromX(1.0);
+            pulse.setFromY(1.0);
+            pulse.setToX(1.5);
+            pulse.setToY(1.5);
+            pulse.setCycleCount(2);
+            pulse.setAutoReverse(true);
+
+            dots[i] = dot;
+            pulses[i] = pulse;
+            dotsContainer.getChildren().add(dotWrapper);
+        }
+
+        ChangeListener<Number> dotListener = (obs, oldIndex, newIndex) -> {
+            // 이전 점 비활성화, 다음 점 활성화
+            dots[oldIndex.intValue()].setFill(Color.LIGHTGRAY);
+            dots[newIndex.intValue()].setFill(Color.GRAY);
+            // 화면에 붙어 있는 노드만, 사용자가 보고 있을 때만 애니메이션 실행
+            if (indicator.getScene() != null && scheduler.isActive()) {
+                pulses[newIndex.intValue()].playFromStart();
+            }
+        };
+        // 공유 상태에는 약한 참조로 등록하고 리스너는 노드가 보관 - 셀이 버려지면 노드와 함께 수거됨
+        indicator.getProperties().put(DOT_LISTENER_KEY, dotListener);
+        activeDot.addListener(new WeakChangeListener<>(dotListener));
+
+        // 텍스트와 점 컨테이너를 contentBox에 추가
+        contentBox.getChildren().add(dotsContainer);
+        bubbleContainer.getChildren().add(contentBox);
+
+        // 타이핑 인디케이터에 말풍선 추가
+        HBox bubble = new HBox();
+        bubble.getChildren().add(bubbleContainer);
+        bubble.setAlignment(Pos.CENTER_LEFT);
+
+        indicator.getChildren().add(bubble);
+        return indicator;
+    }
+}
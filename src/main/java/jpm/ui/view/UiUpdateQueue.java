@@ -0,0 +1,126 @@
+package jpm.ui.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 백그라운드 스레드와 JavaFX 스레드 사이의 UI 갱신 대기열
+ * 프로세스 출력 스레드가 항목을 넣으면 JavaFX 스레드가 펄스마다 한 번씩 모아서 처리합니다.
+ *
+ * - 항목 저장은 lock-free 큐를 사용하고, 용량은 세마포어로 제한합니다.
+ * - 대기열이 가득 차면 넣는 쪽(출력 읽기 스레드)이 대기하므로 UI 가 밀려도 메모리가 무한히 늘지 않습니다.
+ * - 처리할 항목이 있을 때만 AnimationTimer 를 돌리므로 유휴 상태에서는 펄스를 요청하지 않습니다.
+ *
+ * @param <T> 대기열 항목 타입
+ */
+public class UiUpdateQueue<T> {
+
+    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore capacity;                 // 남은 용량 (넣을 때 획득, 처리 후 반환)
+    private final int maxBatch;                       // 펄스 한 번에 처리할 최대 항목 수
+    private final Consumer<List<T>> drainHandler;     // JavaFX 스레드에서 모아진 항목 처리
+    private final AtomicBoolean armed = new AtomicBoolean(false); // 타이머 실행 예약 여부
+    private final AnimationTimer pulseTimer;
+
+    /**
+     * 대기열 생성자
+     *
+     * @param capacity 대기열 최대 길이
+     * @param drainHandler 펄스마다 JavaFX 스레드에서 호출될 처리기 (항목은 넣은 순서대로 전달)
+     */
+    public UiUpdateQueue(int capacity, Consumer<List<T>> drainHandler) {
+        this.capacity = new Semaphore(capacity);
+        this.maxBatch = capacity;
+        this.drainHandler = drainHandler;
+        this.pulseTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse();
+            }
+        };
+    }
+
+    /**
+     * 항목 추가
+     * 백그라운드 스레드에서는 대기열에 자리가 날 때까지 대기하고,
+     * JavaFX 스레드에서는 밀린 항목과 함께 즉시 처리합니다.
+     *
+     * @param item 추가할 항목
+     * @return 추가되었으면 true, 대기 중 인터럽트되면 false
+     */
+    public boolean put(T item) {
+        if (Platform.isFxApplicationThread()) {
+            // 순서 보장을 위해 밀린 항목부터 처리
+            List<T> batch = takeBatch(Integer.MAX_VALUE);
+            batch.add(item);
+            drainHandler.accept(batch);
+            return true;
+        }
+
+        try {
+            capacity.acquire(); // 가득 차면 출력 읽기 스레드를 멈춰 세움 (backpressure)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        queue.offer(item);
+        arm();
+        return true;
+    }
+
+    /**
+     * 대기 중인 항목 수
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 다음 펄스에 처리되도록 타이머 시작 예약
+     */
+    private void arm() {
+        if (armed.compareAndSet(false, true)) {
+            Platform.runLater(pulseTimer::start);
+        }
+    }
+
+    /**
+     * 펄스마다 호출 - 모인 항목을 한 번에 처리
+     */
+    private void onPulse() {
+        List<T> batch = takeBatch(maxBatch);
+        if (!batch.isEmpty()) {
+            drainHandler.accept(batch);
+        }
+
+        if (queue.isEmpty()) {
+            // 처리할 항목이 없으면 타이머를 멈춰 불필요한 펄스를 막음
+            pulseTimer.stop();
+            armed.set(false);
+            // 멈추는 사이에 들어온 항목이 있으면 다시 예약
+            if (!queue.isEmpty() && armed.compareAndSet(false, true)) {
+                pulseTimer.start();
+            }
+        }
+    }
+
+    /**
+     * 대기열에서 최대 limit 개의 항목을 꺼내고 용량 반환
+     */
+    private List<T> takeBatch(int limit) {
+        List<T> batch = new ArrayList<>(Math.min(limit, Math.max(queue.size(), 1) + 1));
+        T item;
+        while (batch.size() < limit && (item = queue.poll()) != null) {
+            batch.add(item);
+        }
+        capacity.release(batch.size());
+        return batch;
+    }
+}
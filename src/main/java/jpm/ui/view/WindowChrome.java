@@ -0,0 +1,117 @@
+package jpm.ui.view;
+
+import javafx.geometry.Insets;
+import javafx.scene.CacheHint;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * 창 테두리 (그림자와 둥근 반투명 배경)
+ * Scene 의 루트로 사용하며, 실제 UI 는 {@link #getContentContainer()} 에 추가합니다.
+ * 그림자와 배경을 그리는 방식은 {@link RenderingProfile} 에 따라 달라집니다.
+ *
+ * - FULL : 내용을 감싼 컨테이너에 그림자 적용 (내용이 바뀐 영역마다 그림자를 다시 계산)
+ * - CACHED : 그림자와 배경을 내용 뒤의 별도 노드에 그리고 비트맵으로 캐시 (창 크기가 바뀔 때만 다시 그림)
+ * - OPAQUE : 여백과 그림자 없이 불투명 배경만 사용
+ */
+public class WindowChrome extends StackPane {
+
+    private static final Color BACKGROUND = Color.rgb(242, 242, 247);
+    private static final String TRANSLUCENT_BACKGROUND = "-fx-background-color: rgba(242, 242, 247, 0.9);"
+            + "-fx-background-radius: 20;";
+
+    private final RenderingProfile profile;
+    private final StackPane effectContainer;   // 그림자 효과가 적용될 투명 레이어
+    private final StackPane contentContainer;  // 실제 UI 콘텐츠용
+    private final Region chromePlate;          // CACHED 에서 그림자와 배경을 그리는 노드 (그 외 null)
+
+    /**
+     * 창 테두리 생성자 (그림자는 {@link #installShadow()} 로 따로 적용)
+     *
+     * @param profile 렌더링 방식
+     * @param windowWidth 창 너비
+     * @param windowHeight 창 높이
+     */
+    public WindowChrome(RenderingProfile profile, double windowWidth, double windowHeight) {
+        this.profile = profile;
+
+        // 외부 컨테이너 (투명 배경 + 그림자를 위한 여백)
+        setStyle("-fx-background-color: transparent;");
+
+        effectContainer = new StackPane();
+        effectContainer.setStyle("-fx-background-color: transparent;");
+
+        contentContainer = new StackPane();
+        contentContainer.setPadding(new Insets(10));
+
+        if (profile == RenderingProfile.OPAQUE) {
+            chromePlate = null;
+            contentContainer.setBackground(Background.fill(BACKGROUND));
+        } else {
+            setPadding(new Insets(20)); // 그림자를 위한 여백 확보
+            effectContainer.setMaxWidth(windowWidth - 30); // 여백 고려한 크기
+            effectContainer.setMaxHeight(windowHeight - 30);
+            if (profile == RenderingProfile.CACHED) {
+                // 배경은 내용과 분리된 노드에 그려, 내용이 바뀌어도 캐시된 비트맵을 그대로 사용
+                chromePlate = new Region();
+                chromePlate.setStyle(TRANSLUCENT_BACKGROUND);
+                chromePlate.setMouseTransparent(true);
+                contentContainer.setStyle("-fx-background-color: transparent;");
+                effectContainer.getChildren().add(chromePlate);
+            } else {
+                chromePlate = null;
+                contentContainer.setStyle(TRANSLUCENT_BACKGROUND);
+            }
+        }
+
+        effectContainer.getChildren().add(contentContainer);
+        getChildren().add(effectContainer);
+    }
+
+    /**
+     * 그림자 적용 (OPAQUE 면 아무것도 하지 않음)
+     * 첫 화면을 늦추지 않도록 창을 보여준 뒤 호출합니다.
+     */
+    public void installShadow() {
+        if (profile == RenderingProfile.OPAQUE) {
+            return;
+        }
+        DropShadow dropShadow = new DropShadow();
+        dropShadow.setRadius(15);
+        dropShadow.setOffsetX(0);  // 수평 오프셋 (0 = 중앙)
+        dropShadow.setOffsetY(8);  // 수직 오프셋 (양수 = 아래쪽)
+        dropShadow.setSpread(0.2); // 그림자 확산 (약간 줄임)
+        dropShadow.setColor(Color.rgb(0, 0, 0, 0.45)); // 그림자 색상 및 투명도 조정
+
+        if (chromePlate != null) {
+            // 그림자를 포함한 배경을 비트맵으로 한 번만 그림 (크기가 바뀔 때만 다시 그림)
+            chromePlate.setEffect(dropShadow);
+            chromePlate.setCache(true);
+            chromePlate.setCacheHint(CacheHint.QUALITY);
+        } else {
+            effectContainer.setEffect(dropShadow);
+        }
+    }
+
+    /**
+     * Scene 배경 (투명 창이면 투명, 아니면 배경색)
+     */
+    public Paint getSceneFill() {
+        return profile.isTransparentWindow() ? Color.TRANSPARENT : BACKGROUND;
+    }
+
+    /**
+     * 실제 UI 를 추가할 컨테이너 (드래그로 창 이동에도 사용)
+     */
+    public StackPane getContentContainer() {
+        return contentContainer;
+    }
+
+    public RenderingProfile getProfile() {
+        return profile;
+    }
+}
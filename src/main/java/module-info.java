@@ -2,6 +2,9 @@ module jpm.ui {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.logging;
+    requires jdk.jfr;
+    requires java.management;
+    requires jdk.management;
 
 
     opens jpm.ui to javafx.fxml;
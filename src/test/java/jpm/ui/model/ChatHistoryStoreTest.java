@@ -0,0 +1,102 @@
+package jpm.ui.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChatHistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final MessageStore messages = new MessageStore();
+
+    @Test
+    void readsPagesBack() throws IOException {
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, store.append(message(ChatMessage.MessageType.USER, "질문 " + i)));
+            }
+            assertEquals(List.of("질문 3", "질문 4", "질문 5"), contents(store.read(3, 6, messages)));
+            assertEquals(List.of("질문 8", "질문 9"), contents(store.read(8, 20, messages)));
+        }
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            assertEquals(10, store.size());
+            ChatMessage first = store.read(0, 1, messages).get(0);
+            assertEquals(ChatMessage.MessageType.USER, first.getType());
+            assertEquals(1_735_700_400_000L, first.getEpochMillis());
+        }
+    }
+
+    @Test
+    void recoverDropsRecordCutOffInTheMiddle() throws IOException {
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            store.append(message(ChatMessage.MessageType.USER, "junit 설치해줘"));
+            store.append(message(ChatMessage.MessageType.JPM, "junit 5.10.0 을 설치했습니다."));
+            store.append(message(ChatMessage.MessageType.SYSTEM, "마지막 메시지는 기록 중 종료됨"));
+        }
+        // 마지막 레코드 내용을 쓰다가 종료된 상태
+        truncate("messages.log", 5);
+
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            assertEquals(2, store.size());
+            assertEquals(List.of("junit 설치해줘", "junit 5.10.0 을 설치했습니다."), contents(store.read(0, 10, messages)));
+
+            // 정리된 끝에서 이어서 기록
+            assertEquals(2, store.append(message(ChatMessage.MessageType.USER, "다시 시작")));
+            assertEquals(List.of("다시 시작"), contents(store.read(2, 3, messages)));
+        }
+    }
+
+    @Test
+    void recoverDropsPartialIndexEntry() throws IOException {
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            store.append(message(ChatMessage.MessageType.USER, "첫 번째"));
+            store.append(message(ChatMessage.MessageType.USER, "두 번째"));
+        }
+        // 인덱스 항목(8바이트)을 쓰다가 종료된 상태
+        truncate("messages.idx", 3);
+
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            assertEquals(1, store.size());
+            assertEquals(List.of("첫 번째"), contents(store.read(0, 10, messages)));
+            assertEquals(1, store.append(message(ChatMessage.MessageType.USER, "세 번째")));
+            assertEquals(List.of("첫 번째", "세 번째"), contents(store.read(0, 10, messages)));
+        }
+    }
+
+    @Test
+    void recoverEmptiesHistoryWhenOnlyRecordIsCut() throws IOException {
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            store.append(message(ChatMessage.MessageType.USER, "하나뿐인 메시지"));
+        }
+        truncate("messages.log", 1);
+
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            assertEquals(0, store.size());
+            assertEquals(0, store.append(message(ChatMessage.MessageType.USER, "새 메시지")));
+            assertEquals(List.of("새 메시지"), contents(store.read(0, 1, messages)));
+        }
+    }
+
+    private ChatMessage message(ChatMessage.MessageType type, String content) {
+        return messages.append(type, 1_735_700_400_000L, content);
+    }
+
+    private void truncate(String fileName, int bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(fileName), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - bytes);
+        }
+    }
+
+    private static List<String> contents(List<ChatMessage> page) {
+        return page.stream().map(ChatMessage::getContent).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package jpm.ui.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatSearchIndexTest {
+
+    private static final long EPOCH_MILLIS = 1_735_700_400_000L;
+
+    @TempDir
+    Path directory;
+
+    private final MessageStore messages = new MessageStore();
+
+    @Test
+    void tokenizeSplitsWordsAndHangulBigrams() {
+        assertEquals(List.of("spring", "boot", "설치", "치했", "했어", "줘"),
+                ChatSearchIndex.tokenize("Spring-Boot 설치했어 줘"));
+    }
+
+    @Test
+    void ranksByTermFrequencyThenRecency() throws Exception {
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            append(store, EPOCH_MILLIS, "junit 설치해줘");
+            append(store, EPOCH_MILLIS + 1, "junit junit junit 버전 충돌");
+            append(store, EPOCH_MILLIS + 2, "lombok 설치해줘");
+            append(store, EPOCH_MILLIS + 3, "junit 삭제해줘");
+
+            ChatSearchIndex index = new ChatSearchIndex(store, directory.resolve("search.idx"));
+            index.indexExisting(store.size());
+            // 출현 횟수가 많은 메시지가 먼저, 같은 점수면 최근 메시지가 먼저
+            assertEquals(List.of(1, 3, 0), indexesOf(awaitHits(index, "junit ", 3)));
+            // 한글은 조사, 어미와 관계없이 두 글자 단위로 찾음
+            assertEquals(List.of(2, 0), indexesOf(awaitHits(index, "설치 ", 2)));
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void savedIndexIsReusedAndOnlyNewMessagesAreIndexed() throws Exception {
+        Path file = directory.resolve("search.idx");
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            append(store, EPOCH_MILLIS, "junit 설치해줘");
+            append(store, EPOCH_MILLIS + 1, "lombok 설치해줘");
+            ChatSearchIndex index = new ChatSearchIndex(store, file);
+            index.indexExisting(store.size());
+            awaitHits(index, "lombok ", 1);
+            index.shutdown();
+        }
+        assertTrue(Files.exists(file));
+
+        // 기록 파일의 첫 메시지 내용을 같은 길이로 바꿔도, 저장된 색인을 쓰므로 다시 토큰화하지 않음
+        overwriteLog(13, "mockk");
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory)) {
+            append(store, EPOCH_MILLIS + 2, "guava 설치해줘");
+            ChatSearchIndex index = new ChatSearchIndex(store, file);
+            index.indexExisting(store.size());
+            assertEquals(List.of(2), indexesOf(awaitHits(index, "guava ", 1)));
+            assertEquals(List.of(0), indexesOf(index.search("junit ", 10)));
+            assertEquals(List.of(), index.search("mockk ", 10));
+            assertEquals(List.of(2, 1, 0), indexesOf(index.search("설치 ", 10)));
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void indexThatDoesNotMatchHistoryIsRebuilt() throws Exception {
+        Path file = directory.resolve("search.idx");
+        Path first = directory.resolve("first");
+        try (ChatHistoryStore store = ChatHistoryStore.open(first)) {
+            append(store, EPOCH_MILLIS, "junit 설치해줘");
+            append(store, EPOCH_MILLIS + 1, "lombok 설치해줘");
+            ChatSearchIndex index = new ChatSearchIndex(store, file);
+            index.indexExisting(store.size());
+            awaitHits(index, "lombok ", 1);
+            index.shutdown();
+        }
+
+        // 같은 수의 메시지지만 마지막 메시지 시각이 다른 기록
+        try (ChatHistoryStore store = ChatHistoryStore.open(directory.resolve("second"))) {
+            append(store, EPOCH_MILLIS + 10, "guava 설치해줘");
+            append(store, EPOCH_MILLIS + 11, "mockito 설치해줘");
+            ChatSearchIndex index = new ChatSearchIndex(store, file);
+            index.indexExisting(store.size());
+            assertEquals(List.of(1), indexesOf(awaitHits(index, "mockito ", 1)));
+            assertEquals(List.of(), index.search("lombok ", 10));
+            index.shutdown();
+        }
+    }
+
+    private void append(ChatHistoryStore store, long epochMillis, String content) throws IOException {
+        store.append(messages.append(ChatMessage.MessageType.USER, epochMillis, content));
+    }
+
+    private void overwriteLog(long position, String ascii) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve("messages.log"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(ascii.getBytes(StandardCharsets.US_ASCII)), position);
+        }
+    }
+
+    /**
+     * 색인 스레드가 결과를 낼 때까지 대기
+     */
+    private static List<SearchHit> awaitHits(ChatSearchIndex index, String query, int expectedCount)
+            throws IOException, InterruptedException {
+        List<SearchHit> hits = List.of();
+        for (int i = 0; i < 100; i++) {
+            hits = index.search(query, 10);
+            if (hits.size() == expectedCount) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        return hits;
+    }
+
+    private static List<Integer> indexesOf(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getIndex).toList();
+    }
+}
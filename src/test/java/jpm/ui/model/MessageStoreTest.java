@@ -0,0 +1,83 @@
+package jpm.ui.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageStoreTest {
+
+    private static final long EPOCH_MILLIS = 1_735_700_400_000L;
+
+    @Test
+    void storesFieldsPerMessage() {
+        MessageStore store = new MessageStore();
+        ChatMessage user = store.append(ChatMessage.MessageType.USER, EPOCH_MILLIS, "junit 설치해줘");
+        ChatMessage jpm = store.append(ChatMessage.MessageType.JPM, EPOCH_MILLIS + 1, "설치했습니다 😀");
+
+        assertEquals(ChatMessage.MessageType.USER, user.getType());
+        assertEquals("junit 설치해줘", user.getContent());
+        assertEquals(EPOCH_MILLIS + 1, jpm.getEpochMillis());
+        assertEquals("설치했습니다 😀", jpm.getContent());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void releasedMessagesKeepTypeAndTimeButDropContent() {
+        MessageStore store = new MessageStore();
+        List<ChatMessage> page = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            page.add(store.append(ChatMessage.MessageType.JPM, EPOCH_MILLIS + i, "> Task :compileJava UP-TO-DATE " + i));
+        }
+        ChatMessage kept = store.append(ChatMessage.MessageType.USER, EPOCH_MILLIS, "남는 메시지");
+        long footprint = store.footprintBytes();
+
+        store.release(page);
+        store.release(page); // 두 번 놓아줘도 그대로
+        store.release(List.of(new MessageStore().append(ChatMessage.MessageType.USER, 0, "다른 저장소")));
+
+        assertEquals("", page.get(0).getContent());
+        assertEquals(ChatMessage.MessageType.JPM, page.get(99).getType());
+        assertEquals(EPOCH_MILLIS + 99, page.get(99).getEpochMillis());
+        assertEquals("남는 메시지", kept.getContent());
+        // 놓아준 내용이 영역의 절반을 넘으면 영역을 다시 채움
+        assertTrue(store.footprintBytes() <= footprint);
+        assertEquals("남는 메시지 2", store.append(ChatMessage.MessageType.USER, EPOCH_MILLIS, "남는 메시지 2").getContent());
+    }
+
+    @Test
+    void compressedBlocksRoundTripAndReleaseByBlock() {
+        MessageStore store = new MessageStore(10);
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            messages.add(store.append(ChatMessage.MessageType.JPM, EPOCH_MILLIS + i, contentOf(i)));
+        }
+        // 최근 10개를 뺀 앞쪽 블록(32개 단위)만 압축
+        assertEquals(160, store.compressedCount());
+
+        // 다른 블록을 번갈아 읽어도 내용이 맞아야 함
+        for (int i = 0; i < 200; i += 7) {
+            assertEquals(contentOf(i), messages.get(i).getContent());
+            assertEquals(contentOf(199 - i), messages.get(199 - i).getContent());
+        }
+
+        // 블록 일부만 놓아주면 나머지는 그대로 읽히고, 앞쪽 블록을 모두 놓아주면 영역을 다시 채움
+        store.release(messages.subList(0, 16));
+        assertEquals(contentOf(16), messages.get(16).getContent());
+        store.release(messages.subList(16, 150));
+        assertEquals("", messages.get(40).getContent());
+        for (int i = 150; i < 200; i++) {
+            assertEquals(contentOf(i), messages.get(i).getContent());
+        }
+        assertEquals(contentOf(200), store.append(ChatMessage.MessageType.JPM, EPOCH_MILLIS, contentOf(200)).getContent());
+    }
+
+    private static String contentOf(int i) {
+        return i % 3 == 0
+                ? "junit 5.10." + i + " 을 설치했습니다. build.gradle 에 의존성을 추가했어요."
+                : "> Task :compileJava UP-TO-DATE " + i + "\n> Task :test 통과 " + i;
+    }
+}
@@ -0,0 +1,41 @@
+package jpm.ui.model;
+
+import jpm.ui.constants.JpmConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NlpWorkerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void workerModeRequiresDeclaration() throws Exception {
+        Path declared = Files.writeString(directory.resolve("declared.py"),
+                "import sys\n\nJPM_WORKER_PROTOCOL = 1  # READY 후 한 줄에 한 요청\n");
+        Path plain = Files.writeString(directory.resolve("plain.py"),
+                "import sys\nprint(sys.argv[1])\n# JPM_WORKER_PROTOCOL = 1\n");
+
+        assertTrue(NlpWorker.isEnabledFor(declared.toString()));
+        // 단발성 스크립트는 --worker 를 사용자 입력으로 처리하므로 워커로 실행하지 않음
+        assertFalse(NlpWorker.isEnabledFor(plain.toString()));
+        assertFalse(NlpWorker.isEnabledFor(directory.resolve("missing.py").toString()));
+    }
+
+    @Test
+    void propertyOverridesDeclaration() throws Exception {
+        Path declared = Files.writeString(directory.resolve("declared.py"), "JPM_WORKER_PROTOCOL = 1\n");
+        System.setProperty(JpmConstants.NLP_WORKER_PROPERTY, "false");
+        try {
+            assertFalse(NlpWorker.isEnabledFor(declared.toString()));
+        } finally {
+            System.clearProperty(JpmConstants.NLP_WORKER_PROPERTY);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package jpm.ui.model;
+
+import jpm.ui.protocol.ProtocolEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestQueueTest {
+
+    @TempDir
+    Path directory;
+
+    private FakeRunner runner;
+    private RequestQueue queue;
+    private final List<String> completed = new ArrayList<>();
+
+    /**
+     * 요청을 실행하지 않고 기록만 하는 실행기 (테스트에서 직접 종료)
+     */
+    private static final class FakeRunner implements RequestQueue.Runner {
+        private final Map<String, NlpRequest> running = new LinkedHashMap<>();
+        private final Set<String> finished = new HashSet<>();
+
+        @Override
+        public RequestHandle run(String input, long timeoutMillis, Consumer<ProtocolEvent> outputHandler,
+                                 Consumer<Integer> completionCallback) {
+            NlpRequest request = new NlpRequest(running.size() + 1, input, outputHandler, completionCallback);
+            running.put(input, request);
+            return new RequestHandle(request);
+        }
+
+        boolean isRunning(String input) {
+            return running.containsKey(input) && !finished.contains(input);
+        }
+
+        void finish(String input) {
+            finished.add(input);
+            running.get(input).complete(0);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        runner = new FakeRunner();
+        queue = new RequestQueue(runner, Runnable::run, new RequestQueue.Listener() {
+            @Override
+            public void onRequestStarted(RequestQueue.Entry entry) {
+            }
+
+            @Override
+            public void onOutput(ProtocolEvent event) {
+            }
+
+            @Override
+            public void onRequestCompleted(RequestQueue.Entry entry, int exitCode) {
+                completed.add(entry.getInput());
+            }
+
+            @Override
+            public void onQueueChanged() {
+            }
+        }, 10, 2, directory.resolve("request-queue"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void policyOfTreatsProjectChangingCommandsAsSequential() {
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("junit 설치해줘"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("Install junit"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("lombok 삭제"));
+        assertEquals(RequestQueue.Policy.PARALLEL, RequestQueue.policyOf("지금 의존성 목록 보여줘"));
+        assertEquals(RequestQueue.Policy.PARALLEL, RequestQueue.policyOf("what is jpm?"));
+    }
+
+    @Test
+    void policyOfDefaultsToSequentialForUnknownCommands() {
+        // 목록에 없는 변경 명령도 동시에 실행되지 않아야 함
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("add junit"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("junit 추가해줘"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("깔아줘"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("bump guava"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("uninstall x"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("guava 31 로 가자"));
+        // 조회 단어가 있어도 변경 단어가 함께 있으면 SEQUENTIAL
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("junit 설치하고 목록 보여줘"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("show versions then upgrade"));
+    }
+
+    @Test
+    void policyOfMatchesWholeTokens() {
+        // 단어 일부(latest 의 test, settings 의 set, truncate 의 run)는 일치로 보지 않음
+        assertEquals(RequestQueue.Policy.PARALLEL, RequestQueue.policyOf("show latest version of guava"));
+        assertEquals(RequestQueue.Policy.PARALLEL, RequestQueue.policyOf("show settings"));
+        assertEquals(RequestQueue.Policy.PARALLEL, RequestQueue.policyOf("what does truncate mean?"));
+        assertEquals(RequestQueue.Policy.PARALLEL, RequestQueue.policyOf("guava 버전은 뭐야?"));
+        assertEquals(RequestQueue.Policy.SEQUENTIAL, RequestQueue.policyOf("reset"));
+    }
+
+    @Test
+    void parallelRequestsRunUpToLimit() {
+        queue.offer("목록 보여줘 1");
+        queue.offer("목록 보여줘 2");
+        queue.offer("목록 보여줘 3");
+
+        assertTrue(runner.isRunning("목록 보여줘 1"));
+        assertTrue(runner.isRunning("목록 보여줘 2"));
+        assertFalse(runner.isRunning("목록 보여줘 3"));
+
+        runner.finish("목록 보여줘 1");
+        assertTrue(runner.isRunning("목록 보여줘 3"));
+        assertEquals(List.of("목록 보여줘 1"), completed);
+    }
+
+    @Test
+    void sequentialRequestWaitsForRunningRequestsAndBlocksLaterOnes() {
+        queue.offer("목록 보여줘 1");
+        queue.offer("junit 설치");
+        queue.offer("목록 보여줘 2");
+
+        assertTrue(runner.isRunning("목록 보여줘 1"));
+        assertFalse(runner.isRunning("junit 설치"));
+        assertFalse(runner.isRunning("목록 보여줘 2"));
+
+        runner.finish("목록 보여줘 1");
+        assertTrue(runner.isRunning("junit 설치"));
+        assertFalse(runner.isRunning("목록 보여줘 2"));
+
+        runner.finish("junit 설치");
+        assertTrue(runner.isRunning("목록 보여줘 2"));
+        assertEquals(List.of("목록 보여줘 1", "junit 설치"), completed);
+    }
+
+    @Test
+    void outputOrderFollowsInputOrder() {
+        queue.offer("목록 보여줘 1");
+        queue.offer("목록 보여줘 2");
+
+        // 뒤 요청이 먼저 끝나도 앞 요청이 끝난 뒤에 종료가 전달됨
+        runner.finish("목록 보여줘 2");
+        assertEquals(List.of(), completed);
+        runner.finish("목록 보여줘 1");
+        assertEquals(List.of("목록 보여줘 1", "목록 보여줘 2"), completed);
+    }
+
+    @Test
+    void startedRequestsAreNotPersisted() throws Exception {
+        queue.offer("junit 설치");
+        queue.offer("lombok 설치");
+        assertTrue(runner.isRunning("junit 설치"));
+
+        // 실행 중인 설치 요청이 종료로 중단되어도 다음 실행에서 다시 실행되지 않아야 함
+        queue.shutdown();
+
+        assertEquals(List.of("lombok 설치"), awaitSaved(directory.resolve("request-queue"), 1));
+    }
+
+    /**
+     * 저장 스레드가 파일을 쓸 때까지 대기
+     */
+    private static List<String> awaitSaved(Path file, int expectedCount) throws InterruptedException {
+        List<String> saved = List.of();
+        for (int i = 0; i < 100; i++) {
+            if (Files.exists(file)) {
+                saved = RequestQueue.load(file);
+                if (saved.size() == expectedCount) {
+                    break;
+                }
+            }
+            Thread.sleep(20);
+        }
+        return saved;
+    }
+}
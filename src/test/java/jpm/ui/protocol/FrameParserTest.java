@@ -0,0 +1,142 @@
+package jpm.ui.protocol;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameParserTest {
+
+    @Test
+    void knownProgressReusesPreallocatedEvent() {
+        ProgressEvent event = assertInstanceOf(ProgressEvent.class, FrameParser.parse("PROGRESS;JPM;install"));
+        assertEquals("JPM", event.getSource());
+        assertEquals("install", event.getMethod());
+        assertSame(event, FrameParser.parse("PROGRESS;JPM;install"));
+    }
+
+    @Test
+    void progressWithArgument() {
+        ProgressEvent event = assertInstanceOf(ProgressEvent.class, FrameParser.parse("PROGRESS;JPM;install;package:junit"));
+        assertEquals("package", event.getArgumentKey());
+        assertEquals("junit", event.getArgumentValue());
+
+        ProgressEvent valueOnly = assertInstanceOf(ProgressEvent.class, FrameParser.parse("PROGRESS;GPT;generate;50%"));
+        assertNull(valueOnly.getArgumentKey());
+        assertEquals("50%", valueOnly.getArgumentValue());
+    }
+
+    @Test
+    void shortProgressIsFilledWithEmptyFields() {
+        ProgressEvent sourceOnly = assertInstanceOf(ProgressEvent.class, FrameParser.parse("PROGRESS;JPM"));
+        assertEquals("JPM", sourceOnly.getSource());
+        assertEquals("", sourceOnly.getMethod());
+        assertNull(sourceOnly.getArgumentValue());
+
+        ProgressEvent bare = assertInstanceOf(ProgressEvent.class, FrameParser.parse("PROGRESS"));
+        assertEquals("", bare.getSource());
+        assertEquals("", bare.getMethod());
+
+        ProgressEvent unknown = assertInstanceOf(ProgressEvent.class, FrameParser.parse("PROGRESS;TOOL;resolve"));
+        assertEquals("TOOL", unknown.getSource());
+        assertEquals("resolve", unknown.getMethod());
+    }
+
+    @Test
+    void outputCommands() {
+        assertSame(OutputStart.INSTANCE, FrameParser.parse("OUTPUT;START"));
+        assertSame(OutputEnd.INSTANCE, FrameParser.parse("OUTPUT;END"));
+
+        TextChunk token = assertInstanceOf(TextChunk.class, FrameParser.parse("OUTPUT;APPEND; 줄\\n바꿈 \\\\ "));
+        assertTrue(token.isInline());
+        assertEquals(" 줄\n바꿈 \\ ", token.getText());
+    }
+
+    @Test
+    void bareOutputAndUnknownCommandsAreText() {
+        TextChunk bare = assertInstanceOf(TextChunk.class, FrameParser.parse("OUTPUT"));
+        assertFalse(bare.isInline());
+        assertEquals("OUTPUT", bare.getText());
+
+        // 인자 없는 APPEND 는 본문
+        assertEquals("OUTPUT;APPEND", assertInstanceOf(TextChunk.class, FrameParser.parse("OUTPUT;APPEND")).getText());
+        assertEquals("OUTPUT;FLUSH", assertInstanceOf(TextChunk.class, FrameParser.parse("OUTPUT;FLUSH")).getText());
+        assertEquals("STATUS;ok", assertInstanceOf(TextChunk.class, FrameParser.parse("STATUS;ok")).getText());
+        assertEquals("junit 5.10.0 을 설치했습니다.",
+                assertInstanceOf(TextChunk.class, FrameParser.parse("junit 5.10.0 을 설치했습니다.")).getText());
+    }
+
+    @Test
+    void blankLinesAndCarriageReturns() {
+        assertNull(FrameParser.parse(""));
+        assertNull(FrameParser.parse("   \t"));
+        assertNull(FrameParser.parse("\r"));
+        assertSame(OutputEnd.INSTANCE, FrameParser.parse("OUTPUT;END\r"));
+        assertSame(FrameParser.parse("PROGRESS;GPT;generate"), FrameParser.parse("  PROGRESS;GPT;generate\r"));
+    }
+
+    @Test
+    void parsesSubRangeOfReusedBuffer() {
+        StringBuilder buffer = new StringBuilder("xxOUTPUT;STARTyy");
+        assertSame(OutputStart.INSTANCE, FrameParser.parse(buffer, 2, 14));
+    }
+
+    @Test
+    void formatRoundTrips() {
+        for (String frame : List.of("PROGRESS;JPM;install", "PROGRESS;JPM;install;package:junit",
+                "OUTPUT;START", "OUTPUT;END", "OUTPUT;APPEND;a\\nb\\\\c", "plain text")) {
+            assertEquals(frame, FrameParser.format(FrameParser.parse(frame)));
+        }
+    }
+
+    @Test
+    void readerSplitsLinesAndStripsCarriageReturn() throws IOException {
+        List<String> frames = readFrames(stream("PROGRESS;JPM;init\r\n\nOUTPUT;START\nlast", 1024));
+        assertEquals(List.of("PROGRESS;JPM;init", "", "OUTPUT;START", "last"), frames);
+    }
+
+    @Test
+    void readerKeepsMultiByteCharacterSplitAcrossReads() throws IOException {
+        // 한 번에 1~2 바이트씩 읽어 3바이트 한글과 4바이트 이모지가 읽기 경계에 걸치게 함
+        String text = "설치 완료 😀\nOUTPUT;APPEND;한글\n";
+        for (int chunk = 1; chunk <= 2; chunk++) {
+            assertEquals(List.of("설치 완료 😀", "OUTPUT;APPEND;한글"), readFrames(stream(text, chunk)));
+        }
+    }
+
+    @Test
+    void readerEventsSkipBlankLines() throws IOException {
+        List<ProtocolEvent> events = new ArrayList<>();
+        new FrameReader(stream("OUTPUT;START\n\r\n  \nOUTPUT;END\n", 3)).readEvents(events::add);
+        assertEquals(List.of(OutputStart.INSTANCE, OutputEnd.INSTANCE), events);
+    }
+
+    private static List<String> readFrames(InputStream in) throws IOException {
+        List<String> frames = new ArrayList<>();
+        new FrameReader(in).readFrames(line -> frames.add(line.toString()));
+        return frames;
+    }
+
+    /**
+     * 한 번의 read 에서 최대 maxChunk 바이트만 돌려주는 스트림 (파이프에서 조금씩 도착하는 출력 흉내)
+     */
+    private static InputStream stream(String text, int maxChunk) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, maxChunk));
+            }
+        };
+    }
+}